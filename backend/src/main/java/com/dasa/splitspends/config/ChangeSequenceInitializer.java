@@ -0,0 +1,37 @@
+package com.dasa.splitspends.config;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.dasa.splitspends.entity.ChangeSequenceGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration step for delta sync. Rows written before the change_seq columns
+ * existed carry the column default 0; on PostgreSQL each of them gets its
+ * own value from the change sequence, so a first sync can page through them
+ * by value like any other change. Only rows still at 0 are touched, so this
+ * is safe to run on every start.
+ */
+@Component
+@Slf4j
+public class ChangeSequenceInitializer implements SchemaMigration {
+
+    // Tables with a @ChangeSequence column
+    private static final List<String> TABLES = List.of("groups", "expenses", "settle_ups", "notifications");
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute(ChangeSequenceGenerator.CREATE_SEQUENCE);
+        // Sequences created before values were taken one at a time step by 50
+        jdbcTemplate.execute("ALTER SEQUENCE " + ChangeSequenceGenerator.SEQUENCE + " INCREMENT BY 1");
+        for (String table : TABLES) {
+            int updated = jdbcTemplate.update("UPDATE " + table + " SET change_seq = nextval('"
+                    + ChangeSequenceGenerator.SEQUENCE + "') WHERE change_seq = 0");
+            log.debug("Assigned change sequence values to {} existing rows of {}", updated, table);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dasa.splitspends.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration step for enum columns that gained new values. Hibernate creates
+ * {@code CHECK (col IN (...))} constraints with the values known at table
+ * creation, and schema update never widens them, so on PostgreSQL the stale
+ * constraint is dropped. Values stay validated by the enum mapping itself.
+ */
+@Component
+@Slf4j
+public class EnumCheckConstraintInitializer implements SchemaMigration {
+
+    // Table -> enum columns whose values have been extended since first release
+    private static final Map<String, List<String>> COLUMNS = Map.of(
+            "expense_splits", List.of("split_type"),
+            "balance_events", List.of("event_type", "source_type"));
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        COLUMNS.forEach((table, columns) -> columns.forEach(column -> {
+            // PostgreSQL's default name for an unnamed column check constraint
+            String constraint = table + "_" + column + "_check";
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + constraint);
+            log.debug("Dropped enum check constraint {} if present", constraint);
+        }));
+    }
+}
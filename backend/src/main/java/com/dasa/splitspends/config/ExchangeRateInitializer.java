@@ -0,0 +1,42 @@
+package com.dasa.splitspends.config;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration step for multi-currency. Expenses and settlements recorded before
+ * the exchange_rate columns existed were entered in the group currency, so
+ * any of them without a rate get 1, and the columns are made to default to 1
+ * and reject nulls. Nothing is done once a column is already NOT NULL.
+ */
+@Component
+@Slf4j
+public class ExchangeRateInitializer implements SchemaMigration {
+
+    // Tables with an exchange_rate column
+    private static final List<String> TABLES = List.of("expenses", "settle_ups");
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        for (String table : TABLES) {
+            if (!isNullable(jdbcTemplate, table)) {
+                continue;
+            }
+            int updated = jdbcTemplate.update("UPDATE " + table + " SET exchange_rate = 1 WHERE exchange_rate IS NULL");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN exchange_rate SET DEFAULT 1");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN exchange_rate SET NOT NULL");
+            log.info("Set exchange rate 1 on {} existing rows of {}", updated, table);
+        }
+    }
+
+    private static boolean isNullable(JdbcTemplate jdbcTemplate, String table) {
+        List<String> nullable = jdbcTemplate.queryForList("SELECT is_nullable FROM information_schema.columns "
+                + "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'exchange_rate'",
+                String.class, table);
+        return nullable.contains("YES");
+    }
+}
@@ -0,0 +1,41 @@
+package com.dasa.splitspends.config;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migration step for the move of write-heavy tables from IDENTITY columns to
+ * pooled sequences. On PostgreSQL each sequence is advanced past the highest
+ * existing ID, so rows written before the switch never collide with new ones.
+ * Sequences only ever move forward, so this is safe to run on every start.
+ */
+@Component
+@Slf4j
+public class IdSequenceInitializer implements SchemaMigration {
+
+    // Must match allocationSize of the @SequenceGenerator mappings
+    private static final int ALLOCATION_SIZE = 50;
+
+    // Sequence name -> table it generates IDs for
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "expenses_seq", "expenses",
+            "expense_splits_seq", "expense_splits",
+            "notifications_seq", "notifications",
+            "activity_logs_seq", "activity_logs",
+            "outbox_events_seq", "outbox_events");
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        SEQUENCES.forEach((sequence, table) -> {
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT last_value FROM " + sequence + "), "
+                            + "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + "))",
+                    Long.class);
+            log.debug("Sequence {} is at {}", sequence, value);
+        });
+    }
+}
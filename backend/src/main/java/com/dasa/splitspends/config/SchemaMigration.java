@@ -0,0 +1,13 @@
+package com.dasa.splitspends.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * One step of the PostgreSQL schema migration run at startup by
+ * {@link SchemaMigrations}, after Hibernate has updated the schema. Steps
+ * must leave a migrated database untouched, since they run on every start.
+ */
+public interface SchemaMigration {
+
+    void migrate(JdbcTemplate jdbcTemplate);
+}
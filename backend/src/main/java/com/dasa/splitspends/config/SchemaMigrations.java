@@ -0,0 +1,43 @@
+package com.dasa.splitspends.config;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Runs every {@link SchemaMigration} once Hibernate has created or updated
+ * the schema. The steps only apply to PostgreSQL; other databases (H2 in
+ * tests) get a fresh schema from Hibernate that needs no migration.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SchemaMigrations {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrations(JdbcTemplate jdbcTemplate, List<SchemaMigration> migrations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrations = migrations;
+    }
+
+    @PostConstruct
+    void migrate() {
+        if (!isPostgres(jdbcTemplate)) {
+            return;
+        }
+        migrations.forEach(migration -> migration.migrate(jdbcTemplate));
+    }
+
+    public static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> connection
+                .getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres"));
+        return Boolean.TRUE.equals(postgres);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dasa.splitspends.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.dasa.splitspends.split.SplitEngine;
+import com.dasa.splitspends.split.SplitStrategies;
+import com.dasa.splitspends.split.SplitStrategy;
+
+@Configuration
+public class SplitEngineConfig {
+
+    // A SplitStrategy bean replaces the built-in strategy for its type
+    @Bean
+    public SplitEngine splitEngine(ObjectProvider<SplitStrategy> customStrategies) {
+        List<SplitStrategy> strategies = new ArrayList<>(SplitStrategies.defaults());
+        customStrategies.orderedStream().forEach(strategies::add);
+        return new SplitEngine(strategies);
+    }
+}
@@ -0,0 +1,61 @@
+package com.dasa.splitspends.config;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.dasa.splitspends.util.SearchText;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Indexes for user search on PostgreSQL. Substring queries on
+ * users.search_text use a pg_trgm GIN index, and short prefix queries use
+ * text_pattern_ops B-trees on search_text (start of the name) and
+ * search_email. Users saved before the columns existed get them filled in
+ * first. Everything is conditional, so this is safe to
+ * run on every start.
+ */
+@Component
+@Slf4j
+public class UserSearchIndexInitializer implements SchemaMigration {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        backfillSearchText(jdbcTemplate);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_search_text_prefix "
+                + "ON users (search_text text_pattern_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_search_email_prefix "
+                + "ON users (search_email text_pattern_ops)");
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_user_search_text_trgm "
+                    + "ON users USING gin (search_text gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            // The extension needs a privileged role; searches still work, unindexed
+            log.warn("Could not create the pg_trgm index for user search: {}", e.getMessage());
+        }
+    }
+
+    // Folded in Java, the same way the entity does it on save
+    private static void backfillSearchText(JdbcTemplate jdbcTemplate) {
+        int total = 0;
+        List<Object[]> batch;
+        do {
+            batch = jdbcTemplate.query("SELECT id, name, email FROM users "
+                    + "WHERE search_text IS NULL OR search_email IS NULL LIMIT " + BACKFILL_BATCH_SIZE,
+                    (rs, rowNum) -> new Object[] {
+                            SearchText.ofUser(rs.getString("name"), rs.getString("email")),
+                            SearchText.fold(rs.getString("email")), rs.getLong("id") });
+            jdbcTemplate.batchUpdate("UPDATE users SET search_text = ?, search_email = ? WHERE id = ?", batch);
+            total += batch.size();
+        } while (batch.size() == BACKFILL_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Filled in search text for {} existing users", total);
+        }
+    }
+}
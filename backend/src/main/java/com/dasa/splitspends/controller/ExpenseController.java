@@ -1,8 +1,13 @@
 package com.dasa.splitspends.controller;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,42 +19,111 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.dasa.splitspends.dto.CursorPage;
+import com.dasa.splitspends.dto.expense.ExpenseDetailView;
+import com.dasa.splitspends.dto.expense.ExpenseImportReport;
 import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.dto.expense.SpendingRollupView;
+import com.dasa.splitspends.dto.expense.SplitExpenseRequest;
+import com.dasa.splitspends.dto.expense.UpdateSplitsRequest;
 import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.ExpenseImportService;
+import com.dasa.splitspends.service.ExpenseSearchService;
 import com.dasa.splitspends.service.ExpenseService;
+import com.dasa.splitspends.service.GroupVersionService;
+import com.dasa.splitspends.service.SpendingRollupService;
+import com.dasa.splitspends.util.FeedCursor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/expenses")
 public class ExpenseController {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final ExpenseService expenseService;
     private final AuthorizationService authorizationService;
+    private final ExpenseImportService expenseImportService;
+    private final GroupVersionService groupVersionService;
+    private final ExpenseSearchService expenseSearchService;
+    private final SpendingRollupService spendingRollupService;
 
-    public ExpenseController(ExpenseService expenseService, AuthorizationService authorizationService) {
+    public ExpenseController(ExpenseService expenseService, AuthorizationService authorizationService,
+            ExpenseImportService expenseImportService, GroupVersionService groupVersionService,
+            ExpenseSearchService expenseSearchService, SpendingRollupService spendingRollupService) {
         this.expenseService = expenseService;
         this.authorizationService = authorizationService;
+        this.expenseImportService = expenseImportService;
+        this.groupVersionService = groupVersionService;
+        this.expenseSearchService = expenseSearchService;
+        this.spendingRollupService = spendingRollupService;
     }
 
     // Get paginated expenses for a group
     @GetMapping("/group/{groupId}")
     @PreAuthorize("@authorizationService.canViewGroupExpenses(#groupId)")
-    public ResponseEntity<List<Expense>> getGroupExpenses(@PathVariable Long groupId,
+    public ResponseEntity<List<ExpenseSummaryView>> getGroupExpenses(@PathVariable Long groupId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        // Unchanged since the client's copy: answer 304 from the group version alone
+        String etag = groupVersionService.getETag(groupId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         // For simplicity, not using Pageable here, but you can adapt as needed
-        // You may want to return a Page<Expense> instead
-        return ResponseEntity.ok(expenseService
+        // You may want to return a Page<ExpenseSummaryView> instead
+        return ResponseEntity.ok().eTag(etag).body(expenseService
                 .getGroupExpenses(groupId, org.springframework.data.domain.PageRequest.of(page, size)).getContent());
     }
 
-    // Get all expenses for a user
+    // Get a group's expense feed page by page, using the cursor of the previous page
+    @GetMapping("/group/{groupId}/feed")
+    @PreAuthorize("@authorizationService.canViewGroupExpenses(#groupId)")
+    public ResponseEntity<CursorPage<ExpenseSummaryView>> getGroupExpenseFeed(@PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(expenseService.getGroupExpenseFeed(groupId, cursor, limit));
+    }
+
+    // Search a group's expenses by description, notes and category, best match first
+    @GetMapping("/group/{groupId}/search")
+    @PreAuthorize("@authorizationService.canViewGroupExpenses(#groupId)")
+    public ResponseEntity<Page<ExpenseSummaryView>> searchGroupExpenses(@PathVariable Long groupId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(expenseSearchService.searchGroupExpenses(groupId, query,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE))));
+    }
+
+    // Monthly spending of a group per category and member, read from the rollups
+    // (months as yyyy-MM, the last twelve by default)
+    @GetMapping("/group/{groupId}/spending")
+    @PreAuthorize("@authorizationService.canViewGroupExpenses(#groupId)")
+    public ResponseEntity<List<SpendingRollupView>> getGroupSpending(@PathVariable Long groupId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(spendingRollupService.getGroupSpending(groupId, from, to, userId));
+    }
+
+    // Get a user's expenses page by page, newest first
     @GetMapping("/user/{userId}")
     @PreAuthorize("@authorizationService.isCurrentUser(#userId)")
-    public ResponseEntity<List<Expense>> getUserExpenses(@PathVariable Long userId) {
-        return ResponseEntity.ok(expenseService.getUserExpenses(userId));
+    public ResponseEntity<Page<ExpenseDetailView>> getUserExpenses(@PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(expenseService.getUserExpenses(userId,
+                PageRequest.of(Math.max(page, 0), FeedCursor.clampLimit(size))));
     }
 
     // Create expense with equal splits
@@ -143,26 +217,67 @@ public class ExpenseController {
         return ResponseEntity.ok(expense);
     }
 
+    // Create expense with any split type (including adjustment and itemized)
+    @PostMapping("/group/{groupId}/split")
+    @PreAuthorize("@authorizationService.canCreateExpense(#groupId)")
+    public ResponseEntity<Expense> createExpenseWithSplits(
+            @PathVariable Long groupId,
+            @Valid @RequestBody SplitExpenseRequest request) {
+
+        // Validate that paidByUserId is the current user
+        authorizationService.requirePermission(
+                authorizationService.isCurrentUser(request.getPaidByUserId()),
+                "Cannot create expense for another user");
+
+        Expense expense = expenseService.createExpenseWithSplits(
+                groupId,
+                request.getPaidByUserId(),
+                request.getDescription(),
+                request.getAmount(),
+                ExpenseSplit.SplitType.valueOf(request.getSplitType()),
+                request.getUserValueMap(),
+                request.getCategory() == null ? Expense.ExpenseCategory.OTHER
+                        : Expense.ExpenseCategory.valueOf(request.getCategory()),
+                request.getCurrency());
+        return ResponseEntity.ok(expense);
+    }
+
     // Update an expense
     @PutMapping("/{expenseId}")
+    @PreAuthorize("@authorizationService.canModifyExpense(#expenseId)")
     public ResponseEntity<Expense> updateExpense(
             @PathVariable Long expenseId,
             @RequestParam String description,
             @RequestParam BigDecimal amount,
             @RequestParam Expense.ExpenseCategory category,
             @RequestParam(required = false) String notes,
-            @RequestParam Long updatedByUserId) {
+            @RequestParam Long updatedByUserId,
+            @RequestParam Long version) {
 
         // Validate updatedByUserId is current user
         authorizationService.requirePermission(
                 authorizationService.isCurrentUser(updatedByUserId),
                 "Cannot update expense as another user");
 
-        // Additional authorization check would need expense retrieval first
-        // This should be moved to service layer for proper expense-level authorization
-
         // You may want to fetch the User entity for updatedByUserId in the service
-        Expense expense = expenseService.updateExpense(expenseId, description, amount, category, notes, null);
+        Expense expense = expenseService.updateExpense(expenseId, description, amount, category, notes, null,
+                version);
+        return ResponseEntity.ok(expense);
+    }
+
+    // Change how an expense is split; only the split rows that differ are written
+    @PutMapping("/{expenseId}/splits")
+    @PreAuthorize("@authorizationService.canModifyExpense(#expenseId)")
+    public ResponseEntity<Expense> updateExpenseSplits(
+            @PathVariable Long expenseId,
+            @Valid @RequestBody UpdateSplitsRequest request) {
+
+        Expense expense = expenseService.updateExpenseSplits(
+                expenseId,
+                ExpenseSplit.SplitType.valueOf(request.getSplitType()),
+                request.getUserValueMap(),
+                authorizationService.getCurrentUser(),
+                request.getVersion());
         return ResponseEntity.ok(expense);
     }
 
@@ -189,4 +304,23 @@ public class ExpenseController {
     public ResponseEntity<ExpenseStats> getUserExpenseStats(@PathVariable Long userId) {
         return ResponseEntity.ok(expenseService.getExpenseStatsForUser(userId));
     }
+
+    // Bulk import equally split expenses from a CSV or NDJSON body (group admins
+    // only). The body is streamed; format defaults from the Content-Type.
+    @PostMapping("/group/{groupId}/import")
+    @PreAuthorize("@authorizationService.canModifyGroup(#groupId)")
+    public ResponseEntity<ExpenseImportReport> importExpenses(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) ExpenseImportService.ImportFormat format,
+            HttpServletRequest request) throws IOException {
+        if (format == null) {
+            String contentType = request.getContentType();
+            format = contentType != null && contentType.contains("ndjson")
+                    ? ExpenseImportService.ImportFormat.NDJSON
+                    : ExpenseImportService.ImportFormat.CSV;
+        }
+        User currentUser = authorizationService.getCurrentUser();
+        return ResponseEntity.ok(expenseImportService.importExpenses(
+                groupId, currentUser.getId(), request.getInputStream(), format));
+    }
 }
@@ -1,8 +1,12 @@
 package com.dasa.splitspends.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,17 +19,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.dto.UserResponse;
+import com.dasa.splitspends.dto.balance.BalanceHistoryResponse;
 import com.dasa.splitspends.dto.group.GroupRequest;
 import com.dasa.splitspends.dto.group.GroupResponse;
 import com.dasa.splitspends.dto.group.GroupSettingsRequest;
+import com.dasa.splitspends.entity.ActivityLog;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.ActivityLogService;
+import com.dasa.splitspends.service.BalanceEventService;
 import com.dasa.splitspends.service.GroupService;
+import com.dasa.splitspends.service.GroupVersionService;
 import com.dasa.splitspends.service.impl.GroupServiceImpl;
+import com.dasa.splitspends.util.SearchText;
 
 import jakarta.validation.Valid;
 
@@ -35,10 +47,18 @@ public class GroupController {
 
     private final GroupService groupService;
     private final AuthorizationService authorizationService;
+    private final BalanceEventService balanceEventService;
+    private final ActivityLogService activityLogService;
+    private final GroupVersionService groupVersionService;
 
-    public GroupController(GroupService groupService, AuthorizationService authorizationService) {
+    public GroupController(GroupService groupService, AuthorizationService authorizationService,
+            BalanceEventService balanceEventService, ActivityLogService activityLogService,
+            GroupVersionService groupVersionService) {
         this.groupService = groupService;
         this.authorizationService = authorizationService;
+        this.balanceEventService = balanceEventService;
+        this.activityLogService = activityLogService;
+        this.groupVersionService = groupVersionService;
     }
 
     @PostMapping
@@ -60,9 +80,14 @@ public class GroupController {
 
     @GetMapping("/{groupId}")
     @PreAuthorize("@authorizationService.canViewGroup(#groupId)")
-    public ResponseEntity<GroupResponse> getGroup(@PathVariable Long groupId) {
+    public ResponseEntity<GroupResponse> getGroup(@PathVariable Long groupId, WebRequest webRequest) {
+        // Unchanged since the client's copy: answer 304 from the version alone
+        String etag = groupVersionService.getETag(groupId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         Group group = groupService.getGroupById(groupId);
-        return ResponseEntity.ok(GroupResponse.fromEntity(group));
+        return ResponseEntity.ok().eTag(etag).body(GroupResponse.fromEntity(group));
     }
 
     @PutMapping("/{groupId}")
@@ -213,6 +238,23 @@ public class GroupController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{groupId}/balances/history")
+    @PreAuthorize("@authorizationService.canViewGroupDetails(#groupId)")
+    public ResponseEntity<BalanceHistoryResponse> getGroupBalancesAsOf(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(balanceEventService.getGroupBalancesAsOf(groupId, asOf));
+    }
+
+    @GetMapping("/{groupId}/activity")
+    @PreAuthorize("@authorizationService.canViewGroupActivity(#groupId)")
+    public ResponseEntity<CursorPage<ActivityLog>> getGroupActivity(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(activityLogService.getGroupActivityPage(groupId, cursor, limit));
+    }
+
     @PutMapping("/{groupId}/archive")
     @PreAuthorize("@authorizationService.canModifyGroup(#groupId)")
     public ResponseEntity<GroupResponse> archiveGroup(
@@ -268,8 +310,13 @@ public class GroupController {
 
     @GetMapping("/{groupId}/balances")
     @PreAuthorize("@authorizationService.canViewGroupDetails(#groupId)")
-    public ResponseEntity<List<GroupServiceImpl.UserBalance>> getGroupBalances(@PathVariable Long groupId) {
-        return ResponseEntity.ok(groupService.getGroupBalances(groupId));
+    public ResponseEntity<List<GroupServiceImpl.UserBalance>> getGroupBalances(@PathVariable Long groupId,
+            WebRequest webRequest) {
+        String etag = groupVersionService.getETag(groupId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(groupService.getGroupBalances(groupId));
     }
 
     @PostMapping(value = "/{groupId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -291,8 +338,11 @@ public class GroupController {
     @PreAuthorize("@authorizationService.canAddGroupMembers(#groupId)")
     public ResponseEntity<List<UserResponse>> getUsersForInvitation(
             @PathVariable Long groupId,
-            @RequestParam String searchQuery) {
-        List<User> users = groupService.getUsersForInvitation(groupId, searchQuery);
+            @RequestParam String searchQuery,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + SearchText.DEFAULT_LIMIT) int size) {
+        List<User> users = groupService.getUsersForInvitation(groupId, searchQuery,
+                PageRequest.of(Math.max(page, 0), SearchText.clampLimit(size)));
         List<UserResponse> response = users.stream()
                 .map(UserResponse::fromEntity)
                 .toList();
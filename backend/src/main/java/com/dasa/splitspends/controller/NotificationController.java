@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.dto.NotificationResponse;
 import com.dasa.splitspends.entity.Notification;
 import com.dasa.splitspends.service.NotificationService;
@@ -52,6 +53,15 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/user/{userId}/feed")
+    public ResponseEntity<CursorPage<NotificationResponse>> getUserNotificationFeed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<Notification> notifications = notificationService.getUserNotificationFeed(userId, cursor, limit);
+        return ResponseEntity.ok(notifications.map(NotificationResponse::fromEntity));
+    }
+
     @PutMapping("/{notificationId}/read")
     public ResponseEntity<NotificationResponse> markAsRead(@PathVariable Long notificationId) {
         Notification notification = notificationService.markAsRead(notificationId);
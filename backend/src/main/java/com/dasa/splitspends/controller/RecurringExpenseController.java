@@ -0,0 +1,81 @@
+package com.dasa.splitspends.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dasa.splitspends.dto.expense.RecurringExpenseRequest;
+import com.dasa.splitspends.dto.expense.RecurringExpenseResponse;
+import com.dasa.splitspends.entity.RecurringExpense;
+import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.RecurringExpenseService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/groups/{groupId}/recurring-expenses")
+public class RecurringExpenseController {
+
+    private final RecurringExpenseService recurringExpenseService;
+    private final AuthorizationService authorizationService;
+
+    public RecurringExpenseController(RecurringExpenseService recurringExpenseService,
+            AuthorizationService authorizationService) {
+        this.recurringExpenseService = recurringExpenseService;
+        this.authorizationService = authorizationService;
+    }
+
+    @GetMapping
+    @PreAuthorize("@authorizationService.canViewGroupExpenses(#groupId)")
+    public ResponseEntity<List<RecurringExpenseResponse>> getRecurringExpenses(@PathVariable Long groupId) {
+        return ResponseEntity.ok(recurringExpenseService.getGroupRecurringExpenses(groupId).stream()
+                .map(RecurringExpenseResponse::fromEntity)
+                .toList());
+    }
+
+    @PostMapping
+    @PreAuthorize("@authorizationService.canCreateExpense(#groupId)")
+    public ResponseEntity<RecurringExpenseResponse> createRecurringExpense(@PathVariable Long groupId,
+            @Valid @RequestBody RecurringExpenseRequest request) {
+        // Validate that paidByUserId is the current user
+        authorizationService.requirePermission(
+                authorizationService.isCurrentUser(request.getPaidByUserId()),
+                "Cannot create expense for another user");
+
+        RecurringExpense template = recurringExpenseService.createRecurringExpense(groupId,
+                authorizationService.getCurrentUserId(), request);
+        return ResponseEntity.ok(RecurringExpenseResponse.fromEntity(template));
+    }
+
+    @PostMapping("/{recurringExpenseId}/pause")
+    @PreAuthorize("@authorizationService.canModifyRecurringExpense(#groupId, #recurringExpenseId)")
+    public ResponseEntity<RecurringExpenseResponse> pause(@PathVariable Long groupId,
+            @PathVariable Long recurringExpenseId) {
+        return ResponseEntity.ok(RecurringExpenseResponse.fromEntity(
+                recurringExpenseService.setActive(groupId, recurringExpenseId, false)));
+    }
+
+    @PostMapping("/{recurringExpenseId}/resume")
+    @PreAuthorize("@authorizationService.canModifyRecurringExpense(#groupId, #recurringExpenseId)")
+    public ResponseEntity<RecurringExpenseResponse> resume(@PathVariable Long groupId,
+            @PathVariable Long recurringExpenseId) {
+        return ResponseEntity.ok(RecurringExpenseResponse.fromEntity(
+                recurringExpenseService.setActive(groupId, recurringExpenseId, true)));
+    }
+
+    @DeleteMapping("/{recurringExpenseId}")
+    @PreAuthorize("@authorizationService.canModifyRecurringExpense(#groupId, #recurringExpenseId)")
+    public ResponseEntity<Void> deleteRecurringExpense(@PathVariable Long groupId,
+            @PathVariable Long recurringExpenseId) {
+        recurringExpenseService.deleteRecurringExpense(groupId, recurringExpenseId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,12 +14,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dasa.splitspends.dto.CursorPage;
+import com.dasa.splitspends.dto.balance.BalanceMatrixResponse;
 import com.dasa.splitspends.dto.settlement.SettlementConfirmRequest;
+import com.dasa.splitspends.dto.settlement.SettlementPlanResponse;
 import com.dasa.splitspends.dto.settlement.SettlementRejectRequest;
 import com.dasa.splitspends.dto.settlement.SettlementRequest;
 import com.dasa.splitspends.dto.settlement.SettlementResponse;
 import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.service.BalanceReportService;
 import com.dasa.splitspends.service.SettleUpService;
+import com.dasa.splitspends.service.SettlementPlanService;
 
 import jakarta.validation.Valid;
 
@@ -27,9 +33,14 @@ import jakarta.validation.Valid;
 public class SettleUpController {
 
     private final SettleUpService settleUpService;
+    private final SettlementPlanService settlementPlanService;
+    private final BalanceReportService balanceReportService;
 
-    public SettleUpController(SettleUpService settleUpService) {
+    public SettleUpController(SettleUpService settleUpService, SettlementPlanService settlementPlanService,
+            BalanceReportService balanceReportService) {
         this.settleUpService = settleUpService;
+        this.settlementPlanService = settlementPlanService;
+        this.balanceReportService = balanceReportService;
     }
 
     @PostMapping
@@ -39,6 +50,7 @@ public class SettleUpController {
                 request.getPayerId(),
                 request.getPayeeId(),
                 request.getAmount(),
+                request.getCurrency(),
                 request.getDescription(),
                 request.getPaymentMethod());
         return ResponseEntity.ok(SettlementResponse.fromEntity(settlement));
@@ -90,6 +102,18 @@ public class SettleUpController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/group/{groupId}/plan")
+    @PreAuthorize("@authorizationService.canViewGroupBalances(#groupId)")
+    public ResponseEntity<SettlementPlanResponse> getSettlementPlan(@PathVariable Long groupId) {
+        return ResponseEntity.ok(settlementPlanService.getSettlementPlan(groupId));
+    }
+
+    @GetMapping("/group/{groupId}/balance-matrix")
+    @PreAuthorize("@authorizationService.canViewGroupBalances(#groupId)")
+    public ResponseEntity<BalanceMatrixResponse> getBalanceMatrix(@PathVariable Long groupId) {
+        return ResponseEntity.ok(balanceReportService.getBalanceMatrix(groupId));
+    }
+
     @GetMapping("/user/{userId}/history")
     public ResponseEntity<List<SettlementResponse>> getUserSettlementHistory(@PathVariable Long userId) {
         List<SettleUp> settlements = settleUpService.getUserSettlementHistory(userId);
@@ -134,6 +158,16 @@ public class SettleUpController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/group/{groupId}/feed")
+    @PreAuthorize("@authorizationService.canViewGroupBalances(#groupId)")
+    public ResponseEntity<CursorPage<SettlementResponse>> getGroupSettlementFeed(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<SettleUp> settlements = settleUpService.getGroupSettlementFeed(groupId, cursor, limit);
+        return ResponseEntity.ok(settlements.map(SettlementResponse::fromEntity));
+    }
+
     @PostMapping("/send-reminders")
     public ResponseEntity<Void> sendSettlementReminders() {
         settleUpService.sendSettlementReminders();
@@ -1,6 +1,8 @@
 package com.dasa.splitspends.controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -8,18 +10,27 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.dasa.splitspends.dto.UserResponse;
+import com.dasa.splitspends.dto.balance.LedgerRebuildReport;
 import com.dasa.splitspends.dto.group.GroupResponse;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.BalanceLedgerService;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.service.GroupReadCache;
 import com.dasa.splitspends.service.GroupService;
+import com.dasa.splitspends.service.PlatformMetricsService;
+import com.dasa.splitspends.service.SpendingRollupService;
 import com.dasa.splitspends.service.UserService;
+import com.dasa.splitspends.util.BoundedTtlCache;
+import com.dasa.splitspends.util.FxRateTable;
 
 /**
  * Super Admin Controller for platform administration.
@@ -39,12 +50,27 @@ public class SuperAdminController {
     private final UserService userService;
     private final GroupService groupService;
     private final AuthorizationService authorizationService;
+    private final BalanceLedgerService balanceLedgerService;
+    private final FxRateService fxRateService;
+    private final GroupReadCache groupReadCache;
+    private final SpendingRollupService spendingRollupService;
+    private final PlatformMetricsService platformMetricsService;
 
     public SuperAdminController(UserService userService, GroupService groupService, 
-                               AuthorizationService authorizationService) {
+                               AuthorizationService authorizationService,
+                               BalanceLedgerService balanceLedgerService,
+                               FxRateService fxRateService,
+                               GroupReadCache groupReadCache,
+                               SpendingRollupService spendingRollupService,
+                               PlatformMetricsService platformMetricsService) {
         this.userService = userService;
         this.groupService = groupService;
         this.authorizationService = authorizationService;
+        this.balanceLedgerService = balanceLedgerService;
+        this.fxRateService = fxRateService;
+        this.groupReadCache = groupReadCache;
+        this.spendingRollupService = spendingRollupService;
+        this.platformMetricsService = platformMetricsService;
     }
 
     // ========== USER MANAGEMENT ==========
@@ -167,6 +193,91 @@ public class SuperAdminController {
         return ResponseEntity.ok(GroupResponse.fromEntity(group));
     }
 
+    // ========== BALANCE LEDGER MAINTENANCE ==========
+
+    /**
+     * Recompute a group's balance ledger from expense splits and settlements.
+     * With dryRun=true the ledger is only checked against the live data.
+     */
+    @PostMapping("/groups/{groupId}/balances/rebuild")
+    public ResponseEntity<LedgerRebuildReport> rebuildGroupBalances(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        groupService.getGroupById(groupId);
+        return ResponseEntity.ok(balanceLedgerService.rebuildGroup(groupId, dryRun));
+    }
+
+    /**
+     * Recompute the balance ledger of every group (e.g. after first deployment).
+     * Returns only the groups whose ledger did not match the live data.
+     */
+    @PostMapping("/balances/rebuild")
+    public ResponseEntity<List<LedgerRebuildReport>> rebuildAllBalances(
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(balanceLedgerService.rebuildAllGroups(dryRun));
+    }
+
+    // ========== SPENDING ROLLUPS ==========
+
+    /**
+     * Recompute a group's monthly spending rollups from its expense splits
+     */
+    @PostMapping("/groups/{groupId}/spending-rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildGroupSpendingRollups(@PathVariable Long groupId) {
+        groupService.getGroupById(groupId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("groupId", groupId);
+        result.put("rowsWritten", spendingRollupService.rebuildGroup(groupId));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Recompute the spending rollups of every group (e.g. after first deployment,
+     * when expenses written before the rollups existed are not counted yet)
+     */
+    @PostMapping("/spending-rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildAllSpendingRollups() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("rowsWritten", spendingRollupService.rebuildAllGroups());
+        return ResponseEntity.ok(result);
+    }
+
+    // ========== EXCHANGE RATES ==========
+
+    /**
+     * Reload exchange rates now instead of waiting for the daily refresh
+     */
+    @PostMapping("/fx/reload")
+    public ResponseEntity<Map<String, Object>> reloadExchangeRates() {
+        FxRateTable table = fxRateService.reload();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("baseCurrency", table.getBaseCurrency());
+        result.put("asOf", table.getAsOf());
+        result.put("currencies", table.getCurrencies());
+        return ResponseEntity.ok(result);
+    }
+
+    // ========== READ CACHE ==========
+
+    /**
+     * Hit, miss and eviction counters of the group read cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, BoundedTtlCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(groupReadCache.getStats());
+    }
+
+    /**
+     * Drop every cached group entry (e.g. after a manual data fix)
+     */
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evictCache() {
+        groupReadCache.evictAll();
+        return ResponseEntity.ok().build();
+    }
+
     // ========== PLATFORM STATISTICS ==========
 
     /**
@@ -179,16 +290,27 @@ public class SuperAdminController {
         // auditLogger.logSuperAdminAccess(getCurrentUser(), "VIEW_PLATFORM_STATS", null);
         
         PlatformStats stats = PlatformStats.builder()
-            .totalUsers(userService.getTotalUserCount())
-            .activeUsers(userService.getActiveUserCount())
-            .totalGroups(groupService.getTotalGroupCount())
-            .activeGroups(groupService.getActiveGroupCount())
-            .totalExpenses(0L) // TODO: Add expense service method
+            .totalUsers(platformMetricsService.get(PlatformMetricsService.Metric.USERS))
+            .activeUsers(platformMetricsService.get(PlatformMetricsService.Metric.ACTIVE_USERS))
+            .totalGroups(platformMetricsService.get(PlatformMetricsService.Metric.GROUPS))
+            .activeGroups(platformMetricsService.get(PlatformMetricsService.Metric.ACTIVE_GROUPS))
+            .totalExpenses(platformMetricsService.get(PlatformMetricsService.Metric.EXPENSES))
+            .totalSettlements(platformMetricsService.get(PlatformMetricsService.Metric.SETTLEMENTS))
+            .totalAttachments(platformMetricsService.get(PlatformMetricsService.Metric.ATTACHMENTS))
             .build();
             
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Recount the platform statistics from the database now instead of waiting
+     * for the periodic reconciliation. Returns the drift that was corrected.
+     */
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<Map<PlatformMetricsService.Metric, Long>> reconcilePlatformStats() {
+        return ResponseEntity.ok(platformMetricsService.reconcile());
+    }
+
     // ========== USER SUPPORT ==========
 
     /**
@@ -258,15 +380,20 @@ public class SuperAdminController {
         private Long totalGroups;
         private Long activeGroups;
         private Long totalExpenses;
+        private Long totalSettlements;
+        private Long totalAttachments;
 
         // Constructor, getters, setters
         private PlatformStats(Long totalUsers, Long activeUsers, Long totalGroups, 
-                             Long activeGroups, Long totalExpenses) {
+                             Long activeGroups, Long totalExpenses, Long totalSettlements,
+                             Long totalAttachments) {
             this.totalUsers = totalUsers;
             this.activeUsers = activeUsers;
             this.totalGroups = totalGroups;
             this.activeGroups = activeGroups;
             this.totalExpenses = totalExpenses;
+            this.totalSettlements = totalSettlements;
+            this.totalAttachments = totalAttachments;
         }
 
         public static PlatformStatsBuilder builder() {
@@ -279,6 +406,8 @@ public class SuperAdminController {
         public Long getTotalGroups() { return totalGroups; }
         public Long getActiveGroups() { return activeGroups; }
         public Long getTotalExpenses() { return totalExpenses; }
+        public Long getTotalSettlements() { return totalSettlements; }
+        public Long getTotalAttachments() { return totalAttachments; }
 
         public static class PlatformStatsBuilder {
             private Long totalUsers;
@@ -286,6 +415,8 @@ public class SuperAdminController {
             private Long totalGroups;
             private Long activeGroups;
             private Long totalExpenses;
+            private Long totalSettlements;
+            private Long totalAttachments;
 
             public PlatformStatsBuilder totalUsers(Long totalUsers) {
                 this.totalUsers = totalUsers;
@@ -312,8 +443,19 @@ public class SuperAdminController {
                 return this;
             }
 
+            public PlatformStatsBuilder totalSettlements(Long totalSettlements) {
+                this.totalSettlements = totalSettlements;
+                return this;
+            }
+
+            public PlatformStatsBuilder totalAttachments(Long totalAttachments) {
+                this.totalAttachments = totalAttachments;
+                return this;
+            }
+
             public PlatformStats build() {
-                return new PlatformStats(totalUsers, activeUsers, totalGroups, activeGroups, totalExpenses);
+                return new PlatformStats(totalUsers, activeUsers, totalGroups, activeGroups, totalExpenses,
+                        totalSettlements, totalAttachments);
             }
         }
     }
@@ -0,0 +1,33 @@
+package com.dasa.splitspends.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dasa.splitspends.dto.sync.SyncResponse;
+import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.SyncService;
+import com.dasa.splitspends.util.SyncToken;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final AuthorizationService authorizationService;
+
+    public SyncController(SyncService syncService, AuthorizationService authorizationService) {
+        this.syncService = syncService;
+        this.authorizationService = authorizationService;
+    }
+
+    // Changes visible to the current user since the token; no token for a full sync
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + SyncToken.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(syncService.sync(authorizationService.getCurrentUserId(), since, limit));
+    }
+}
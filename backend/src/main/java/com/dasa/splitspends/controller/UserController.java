@@ -2,7 +2,9 @@ package com.dasa.splitspends.controller;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -13,8 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.dasa.splitspends.dto.UserProfileUpdateRequest;
 import com.dasa.splitspends.dto.UserResponse;
+import com.dasa.splitspends.dto.balance.UserBalanceSummaryResponse;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.service.BalanceReportService;
 import com.dasa.splitspends.service.UserService;
+import com.dasa.splitspends.util.SearchText;
 
 import jakarta.validation.Valid;
 
@@ -23,9 +28,11 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final BalanceReportService balanceReportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, BalanceReportService balanceReportService) {
         this.userService = userService;
+        this.balanceReportService = balanceReportService;
     }
 
     @GetMapping("/{userId}")
@@ -47,8 +54,11 @@ public class UserController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String query) {
-        List<User> users = userService.searchUsers(query);
+    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + SearchText.DEFAULT_LIMIT) int size) {
+        List<User> users = userService.searchActiveUsers(query,
+                PageRequest.of(Math.max(page, 0), SearchText.clampLimit(size)));
         List<UserResponse> response = users.stream()
                 .map(UserResponse::fromEntity)
                 .toList();
@@ -74,6 +84,12 @@ public class UserController {
         return ResponseEntity.ok(UserResponse.fromEntity(user));
     }
 
+    @GetMapping("/{userId}/balances/summary")
+    @PreAuthorize("@authorizationService.canViewUserExpenses(#userId)")
+    public ResponseEntity<UserBalanceSummaryResponse> getUserBalanceSummary(@PathVariable Long userId) {
+        return ResponseEntity.ok(balanceReportService.getUserBalanceSummary(userId));
+    }
+
     @GetMapping("/{userId}/stats")
     public ResponseEntity<Object> getUserStats(@PathVariable Long userId) {
         Object stats = userService.getUserStats(userId);
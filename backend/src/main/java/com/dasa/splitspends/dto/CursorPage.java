@@ -0,0 +1,33 @@
+package com.dasa.splitspends.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.dasa.splitspends.util.FeedCursor;
+
+/**
+ * One page of a keyset-paginated feed. {@code nextCursor} is null on the
+ * last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Build a page from rows fetched with a limit of {@code limit + 1}; the
+     * extra row only tells whether another page exists and is dropped.
+     *
+     * @param rows     rows in feed order, at most {@code limit + 1}
+     * @param limit    the page size
+     * @param cursorOf the feed position of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, FeedCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(limit - 1)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dasa.splitspends.dto.balance;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BalanceHistoryResponse {
+    private Long groupId;
+    private LocalDateTime asOf;
+    // Last balance event included, 0 when none
+    private Long lastEventId;
+    // Net balance per user ID
+    private Map<Long, BigDecimal> balances;
+}
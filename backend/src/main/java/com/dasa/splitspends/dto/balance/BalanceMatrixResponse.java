@@ -0,0 +1,29 @@
+package com.dasa.splitspends.dto.balance;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Sparse "who owes whom" matrix of a group. Cells reference users by their
+ * position in {@code userIds}; only non-zero, already netted pairs are listed.
+ */
+@Data
+@Builder
+public class BalanceMatrixResponse {
+    private Long groupId;
+    private List<Long> userIds;
+    private List<Cell> cells;
+
+    @Data
+    @Builder
+    public static class Cell {
+        // Index into userIds of the user who owes
+        private int debtor;
+        // Index into userIds of the user who is owed
+        private int creditor;
+        private BigDecimal amount;
+    }
+}
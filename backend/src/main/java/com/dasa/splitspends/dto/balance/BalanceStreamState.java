@@ -0,0 +1,11 @@
+package com.dasa.splitspends.dto.balance;
+
+/**
+ * Where a group's balance event stream stands, read under the group lock
+ * before appending.
+ *
+ * @param lastEventId         last event appended, null when none is recorded
+ * @param eventsSinceSnapshot events appended since the latest snapshot
+ */
+public record BalanceStreamState(Long lastEventId, int eventsSinceSnapshot) {
+}
@@ -0,0 +1,32 @@
+package com.dasa.splitspends.dto.balance;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LedgerRebuildReport {
+    private Long groupId;
+    private int rowsChecked;
+    private boolean dryRun;
+    private List<Mismatch> mismatches;
+
+    public boolean isConsistent() {
+        return mismatches == null || mismatches.isEmpty();
+    }
+
+    @Data
+    @Builder
+    public static class Mismatch {
+        private Long userId;
+        private BigDecimal storedNetBalance;
+        private BigDecimal expectedNetBalance;
+        private BigDecimal expectedTotalPaid;
+        private BigDecimal expectedTotalOwed;
+        private BigDecimal expectedSettlementsPaid;
+        private BigDecimal expectedSettlementsReceived;
+    }
+}
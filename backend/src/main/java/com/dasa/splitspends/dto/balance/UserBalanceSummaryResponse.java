@@ -0,0 +1,42 @@
+package com.dasa.splitspends.dto.balance;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Net position of a user across all groups. Positive amounts are owed to the
+ * user, negative amounts are owed by the user. Group positions are in the
+ * group currency; totals and counterparty positions are in {@code currency}.
+ */
+@Data
+@Builder
+public class UserBalanceSummaryResponse {
+    private Long userId;
+    private String currency;
+    private BigDecimal netBalance;
+    private BigDecimal totalOwedToUser;
+    private BigDecimal totalUserOwes;
+    private List<GroupPosition> groups;
+    private List<CounterpartyPosition> counterparties;
+
+    @Data
+    @Builder
+    public static class GroupPosition {
+        private Long groupId;
+        private String groupName;
+        private String currency;
+        private BigDecimal netBalance;
+        private List<CounterpartyPosition> counterparties;
+    }
+
+    @Data
+    @Builder
+    public static class CounterpartyPosition {
+        private Long userId;
+        private String userName;
+        private BigDecimal netBalance;
+    }
+}
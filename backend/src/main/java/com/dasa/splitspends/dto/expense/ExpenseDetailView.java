@@ -0,0 +1,32 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * An expense with its splits, assembled from an {@link ExpenseSummaryView}
+ * row and the split rows loaded for the whole list in one query.
+ */
+public record ExpenseDetailView(
+        Long id,
+        Long groupId,
+        String description,
+        BigDecimal amount,
+        String currency,
+        LocalDateTime date,
+        Expense.ExpenseCategory category,
+        Expense.ExpenseStatus status,
+        Long paidByUserId,
+        String paidByName,
+        Long version,
+        List<ExpenseSplitView> splits) {
+
+    public static ExpenseDetailView of(ExpenseSummaryView summary, List<ExpenseSplitView> splits) {
+        return new ExpenseDetailView(summary.id(), summary.groupId(), summary.description(), summary.amount(),
+                summary.currency(), summary.date(), summary.category(), summary.status(), summary.paidByUserId(),
+                summary.paidByName(), summary.version(), splits);
+    }
+}
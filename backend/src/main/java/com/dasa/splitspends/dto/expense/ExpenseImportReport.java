@@ -0,0 +1,29 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of a bulk expense import. Only the first errors are listed (see
+ * {@code app.import.max-reported-errors}); {@code failedRows} counts all of them.
+ */
+@Data
+@Builder
+public class ExpenseImportReport {
+    private Long groupId;
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private boolean errorsTruncated;
+    private List<RowError> errors;
+
+    @Data
+    @Builder
+    public static class RowError {
+        // 1-based line number in the uploaded file
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dasa.splitspends.dto.expense;
+
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * The searchable text of one expense, read when a group's search index is
+ * built or brought up to date.
+ */
+public record ExpenseSearchDocument(
+        Long id,
+        String description,
+        String notes,
+        Expense.ExpenseCategory category,
+        Expense.ExpenseStatus status,
+        Long changeSeq) {
+}
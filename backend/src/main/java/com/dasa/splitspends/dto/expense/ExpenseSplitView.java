@@ -0,0 +1,14 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+
+/**
+ * One participant's share of an expense, as listed in {@link ExpenseDetailView}.
+ */
+public record ExpenseSplitView(
+        Long expenseId,
+        Long userId,
+        String userName,
+        BigDecimal shareAmount,
+        Boolean settled) {
+}
@@ -0,0 +1,24 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * One row of an expense list, filled straight from a constructor-expression
+ * query so listing a page never loads the entity graph.
+ */
+public record ExpenseSummaryView(
+        Long id,
+        Long groupId,
+        String description,
+        BigDecimal amount,
+        String currency,
+        LocalDateTime date,
+        Expense.ExpenseCategory category,
+        Expense.ExpenseStatus status,
+        Long paidByUserId,
+        String paidByName,
+        Long version) {
+}
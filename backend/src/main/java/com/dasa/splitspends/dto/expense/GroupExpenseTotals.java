@@ -0,0 +1,31 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Expense totals of one group, read in a single aggregate query. Amounts are
+ * in the group currency and leave out deleted expenses; an expense counts as
+ * settled once none of its splits is unsettled.
+ *
+ * @param expenseCount      all expenses, deleted ones included
+ * @param liveExpenseCount  expenses that are not deleted
+ * @param totalAmount       sum of live expenses
+ * @param settledAmount     sum of live, fully settled expenses
+ */
+public record GroupExpenseTotals(
+        long expenseCount,
+        long liveExpenseCount,
+        BigDecimal totalAmount,
+        BigDecimal settledAmount) {
+
+    /**
+     * Average live expense rounded to cents, zero without any.
+     */
+    public BigDecimal averageAmount() {
+        if (liveExpenseCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return totalAmount.divide(BigDecimal.valueOf(liveExpenseCount), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,41 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class RecurringExpenseRequest {
+
+    @NotNull(message = "Paid by user ID is required")
+    private Long paidByUserId;
+
+    @NotBlank(message = "Description is required")
+    private String description;
+
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+
+    // Defaults to EQUAL
+    private String splitType;
+
+    // userId -> amount, percentage or shares depending on the split type
+    @NotEmpty(message = "At least one participant is required")
+    private Map<Long, BigDecimal> userValueMap;
+
+    private String category;
+
+    // Cron expression ("0 0 9 1 * *") or RRULE ("FREQ=MONTHLY;BYMONTHDAY=1")
+    @NotBlank(message = "Schedule is required")
+    private String schedule;
+
+    // First occurrence is the first scheduled time at or after this; defaults to now
+    private LocalDateTime startAt;
+
+    private LocalDateTime endsAt;
+}
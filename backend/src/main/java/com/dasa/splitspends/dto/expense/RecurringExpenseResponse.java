@@ -0,0 +1,55 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.RecurringExpense;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RecurringExpenseResponse {
+    private Long id;
+    private Long groupId;
+    private Long paidByUserId;
+    private Long createdByUserId;
+    private String description;
+    private BigDecimal amount;
+    private Expense.ExpenseCategory category;
+    private ExpenseSplit.SplitType splitType;
+    private Map<Long, BigDecimal> userValueMap;
+    private String schedule;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime endsAt;
+    private LocalDateTime lastRunAt;
+    private long occurrenceCount;
+    private boolean active;
+    private String lastError;
+
+    public static RecurringExpenseResponse fromEntity(RecurringExpense template) {
+        return RecurringExpenseResponse.builder()
+                .id(template.getId())
+                .groupId(template.getGroup().getId())
+                .paidByUserId(template.getPaidBy().getId())
+                .createdByUserId(template.getCreatedBy().getId())
+                .description(template.getDescription())
+                .amount(template.getAmount())
+                .category(template.getCategory())
+                .splitType(template.getSplitType())
+                .userValueMap(new TreeMap<>(template.getParticipantValues()))
+                .schedule(template.getSchedule())
+                .nextRunAt(template.getNextRunAt())
+                .endsAt(template.getEndsAt())
+                .lastRunAt(template.getLastRunAt())
+                .occurrenceCount(template.getOccurrenceCount())
+                .active(template.isActive())
+                .lastError(template.getLastError())
+                .build();
+    }
+}
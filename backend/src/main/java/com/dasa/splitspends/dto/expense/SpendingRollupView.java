@@ -0,0 +1,25 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * What one member spent in one category during one month, read straight from
+ * the spending rollups.
+ */
+public record SpendingRollupView(
+        YearMonth month,
+        Long userId,
+        Expense.ExpenseCategory category,
+        BigDecimal amount,
+        int expenseCount) {
+
+    // Constructor-expression entry point; rollup rows store the month's first day
+    public SpendingRollupView(LocalDate monthStart, Long userId, Expense.ExpenseCategory category,
+            BigDecimal amount, Integer expenseCount) {
+        this(YearMonth.from(monthStart), userId, category, amount, expenseCount);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class SplitExpenseRequest {
+
+    @NotNull(message = "Paid by user ID is required")
+    private Long paidByUserId;
+
+    private String description;
+
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+
+    // EQUAL, EXACT_AMOUNT, PERCENTAGE, SHARES, ADJUSTMENT or ITEMIZED
+    @NotNull(message = "Split type is required")
+    private String splitType;
+
+    // userId -> amount, percentage or shares depending on the split type
+    @NotEmpty(message = "At least one participant is required")
+    private Map<Long, BigDecimal> userValueMap;
+
+    private String category;
+
+    // ISO code the amount is in; the group currency when omitted
+    private String currency;
+}
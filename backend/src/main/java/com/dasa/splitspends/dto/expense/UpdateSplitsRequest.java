@@ -0,0 +1,24 @@
+package com.dasa.splitspends.dto.expense;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class UpdateSplitsRequest {
+
+    // EQUAL, EXACT_AMOUNT, PERCENTAGE, SHARES, ADJUSTMENT or ITEMIZED
+    @NotNull(message = "Split type is required")
+    private String splitType;
+
+    // userId -> amount, percentage or shares depending on the split type
+    @NotEmpty(message = "At least one participant is required")
+    private Map<Long, BigDecimal> userValueMap;
+
+    // Expense version the client last read; the update fails if it has moved on
+    @NotNull(message = "Expense version is required")
+    private Long version;
+}
@@ -0,0 +1,26 @@
+package com.dasa.splitspends.dto.settlement;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SettlementPlanResponse {
+    private Long groupId;
+    private int transferCount;
+    private BigDecimal totalAmount;
+    private List<Transfer> transfers;
+
+    @Data
+    @Builder
+    public static class Transfer {
+        private Long payerId;
+        private String payerName;
+        private Long payeeId;
+        private String payeeName;
+        private BigDecimal amount;
+    }
+}
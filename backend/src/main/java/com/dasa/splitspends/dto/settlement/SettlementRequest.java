@@ -32,4 +32,7 @@ public class SettlementRequest {
     
     @NotNull(message = "Payment method is required")
     private SettleUp.PaymentMethod paymentMethod;
+
+    // ISO code the amount is in; the group currency when omitted
+    private String currency;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.dasa.splitspends.dto.sync;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * An expense changed since the client's sync token; status {@code DELETED}
+ * is the tombstone of a soft-deleted expense.
+ */
+public record ExpenseSyncView(
+        Long id,
+        Long groupId,
+        String description,
+        BigDecimal amount,
+        String currency,
+        LocalDateTime date,
+        Expense.ExpenseCategory category,
+        Expense.ExpenseStatus status,
+        Long paidByUserId,
+        Long version,
+        Long changeSeq) {
+}
@@ -0,0 +1,11 @@
+package com.dasa.splitspends.dto.sync;
+
+/**
+ * One member of a group in a sync response. Sent as the complete member list
+ * of every group in {@link SyncResponse#groups()}.
+ */
+public record GroupMemberView(
+        Long groupId,
+        Long userId,
+        String userName) {
+}
@@ -0,0 +1,19 @@
+package com.dasa.splitspends.dto.sync;
+
+import java.time.LocalDateTime;
+
+import com.dasa.splitspends.entity.Group;
+
+/**
+ * A group changed since the client's sync token. A {@code DELETED} status is
+ * the tombstone: the client drops the group and everything under it.
+ */
+public record GroupSyncView(
+        Long id,
+        String name,
+        String description,
+        String defaultCurrency,
+        Group.GroupStatus status,
+        LocalDateTime deletedAt,
+        Long changeSeq) {
+}
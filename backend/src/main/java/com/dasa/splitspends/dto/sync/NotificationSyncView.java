@@ -0,0 +1,19 @@
+package com.dasa.splitspends.dto.sync;
+
+import java.time.LocalDateTime;
+
+import com.dasa.splitspends.entity.Notification;
+
+/**
+ * A notification created or marked read since the client's sync token.
+ */
+public record NotificationSyncView(
+        Long id,
+        Notification.NotificationType type,
+        String title,
+        String message,
+        Boolean isRead,
+        Long groupId,
+        LocalDateTime createdAt,
+        Long changeSeq) {
+}
@@ -0,0 +1,23 @@
+package com.dasa.splitspends.dto.sync;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.dasa.splitspends.entity.SettleUp;
+
+/**
+ * A settlement changed since the client's sync token.
+ */
+public record SettlementSyncView(
+        Long id,
+        Long groupId,
+        Long payerId,
+        Long payeeId,
+        BigDecimal amount,
+        String currency,
+        SettleUp.SettlementStatus status,
+        SettleUp.PaymentMethod paymentMethod,
+        String description,
+        LocalDateTime createdAt,
+        Long changeSeq) {
+}
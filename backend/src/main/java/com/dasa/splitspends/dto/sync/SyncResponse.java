@@ -0,0 +1,32 @@
+package com.dasa.splitspends.dto.sync;
+
+import java.util.List;
+
+import com.dasa.splitspends.dto.expense.ExpenseSplitView;
+
+/**
+ * Changes since a sync token. Rows are upserts keyed by ID; a client may see
+ * the same version of a row twice and must treat that as a no-op.
+ *
+ * <ul>
+ * <li>{@code groupIds} lists every group the user belongs to now; cached
+ * groups missing from it were left and can be dropped.</li>
+ * <li>{@code members} and {@code splits} are complete for each group in
+ * {@code groups} and each expense in {@code expenses}, replacing what the
+ * client holds for them.</li>
+ * </ul>
+ *
+ * @param token   send back as {@code since} on the next sync
+ * @param hasMore true if the client should sync again right away
+ */
+public record SyncResponse(
+        String token,
+        boolean hasMore,
+        List<Long> groupIds,
+        List<GroupSyncView> groups,
+        List<GroupMemberView> members,
+        List<ExpenseSyncView> expenses,
+        List<ExpenseSplitView> splits,
+        List<SettlementSyncView> settlements,
+        List<NotificationSyncView> notifications) {
+}
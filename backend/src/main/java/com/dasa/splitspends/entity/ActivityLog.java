@@ -21,6 +21,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -38,7 +39,8 @@ import lombok.Setter;
         @Index(name = "idx_activity_log_action", columnList = "action"),
         @Index(name = "idx_activity_log_entity_type", columnList = "entity_type"),
         @Index(name = "idx_activity_log_created_at", columnList = "created_at"),
-        @Index(name = "idx_activity_log_entity_id", columnList = "entity_id")
+        @Index(name = "idx_activity_log_entity_id", columnList = "entity_id"),
+        @Index(name = "idx_activity_log_group_created_at", columnList = "group_id, created_at, id")
 })
 @Getter
 @Setter
@@ -48,7 +50,8 @@ import lombok.Setter;
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_seq")
+    @SequenceGenerator(name = "activity_log_seq", sequenceName = "activity_logs_seq", allocationSize = 50)
     private Long id;
 
     // ========== ACTIVITY CONTEXT ==========
@@ -0,0 +1,104 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One member's net balance change caused by an expense or settlement write,
+ * or by a ledger rebuild correcting drift.
+ *
+ * Rows are append-only: a correction is a new event, never an update. The
+ * balance of a group at any point is its latest {@link BalanceSnapshot} plus
+ * the events recorded after it.
+ */
+@Entity
+@Immutable
+@Table(name = "balance_events", indexes = {
+        @Index(name = "idx_balance_event_group_id", columnList = "group_id, id"),
+        @Index(name = "idx_balance_event_source", columnList = "source_type, source_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false, updatable = false)
+    @JsonIgnore
+    private Group group;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    @JsonIgnore
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30, updatable = false)
+    private EventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 20, updatable = false)
+    private SourceType sourceType;
+
+    // ID of the expense or settlement that caused the change
+    @Column(name = "source_id", nullable = false, updatable = false)
+    private Long sourceId;
+
+    // Change to the member's net balance (positive = the group owes them more)
+    @Column(name = "amount", nullable = false, precision = 14, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // ========== ENUMS ==========
+
+    public enum EventType {
+        EXPENSE_CREATED,
+        EXPENSE_UPDATED,
+        EXPENSE_DELETED,
+        SETTLEMENT_CONFIRMED,
+        EXPENSES_IMPORTED,
+        LEDGER_CORRECTED
+    }
+
+    public enum SourceType {
+        EXPENSE,
+        SETTLEMENT,
+        // A batch of imported expenses; source_id is the first expense of the batch
+        EXPENSE_IMPORT,
+        // A ledger rebuild; source_id is the rebuilt group
+        LEDGER_REBUILD
+    }
+}
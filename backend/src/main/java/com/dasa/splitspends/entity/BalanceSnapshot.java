@@ -0,0 +1,72 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Net balance of every member of a group as of a given {@link BalanceEvent}.
+ */
+@Entity
+@Table(name = "balance_snapshots", indexes = {
+        @Index(name = "idx_balance_snapshot_group_event", columnList = "group_id, last_event_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false, updatable = false)
+    @JsonIgnore
+    private Group group;
+
+    // Last balance event folded into this snapshot
+    @NotNull
+    @Column(name = "last_event_id", nullable = false, updatable = false)
+    private Long lastEventId;
+
+    // Net balance per user ID
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "balance_snapshot_entries", joinColumns = @JoinColumn(name = "snapshot_id"))
+    @MapKeyColumn(name = "user_id")
+    @Column(name = "net_balance", precision = 14, scale = 2)
+    @Builder.Default
+    private Map<Long, BigDecimal> balances = new HashMap<>();
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.dasa.splitspends.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+/**
+ * Marks the column that takes a fresh value from the shared change sequence
+ * whenever the row is inserted or updated. Delta sync reads rows changed
+ * after a client's token through an index on this column.
+ *
+ * @see ChangeSequenceGenerator
+ */
+@ValueGenerationType(generatedBy = ChangeSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ChangeSequence {
+}
@@ -0,0 +1,191 @@
+package com.dasa.splitspends.entity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.jdbc.AbstractReturningWork;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Hands out values of the {@code sync_change_seq} database sequence for
+ * {@link ChangeSequence} columns, one value per row at flush.
+ *
+ * <p>
+ * A value is assigned at flush but only becomes visible at commit, so a
+ * transaction holding a low value can commit after one holding a higher
+ * value, on this instance or on any other one writing to the same database.
+ * {@link #committedHorizon(EntityManager, Duration)} tells sync up to which
+ * value nothing can still be in flight: the database sequence is sampled
+ * over time, and any value below a sample taken at least the commit lag ago
+ * belongs to a finished transaction as long as no write transaction runs
+ * longer than that lag. Values handed out by this instance are also tracked
+ * until their transaction completes, which covers longer local transactions.
+ */
+public class ChangeSequenceGenerator implements BeforeExecutionGenerator {
+
+    public static final String SEQUENCE = "sync_change_seq";
+
+    // Schema update only creates sequences that back IDs. Values are not
+    // pooled: a block held by one instance would be used long after it was
+    // taken, out of step with the samples the horizon is derived from
+    public static final String CREATE_SEQUENCE = "CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE
+            + " START WITH 1 INCREMENT BY 1";
+
+    // A transaction that never reported back (e.g. a leaked session) stops
+    // holding the horizon back after this long
+    private static final long IN_FLIGHT_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    // One allocator per session factory, i.e. per database
+    private static final Map<String, Allocator> ALLOCATORS = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return allocator(session).next(session);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+
+    /**
+     * Take a value for a bulk update that bypasses the entity, such as
+     * marking all of a user's notifications read. Must be called inside the
+     * transaction that runs the update.
+     */
+    public static long nextValue(EntityManager entityManager) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        return allocator(session).next(session);
+    }
+
+    /**
+     * Highest value up to which every value handed out by any instance
+     * belongs to a finished transaction, given that no write transaction runs
+     * longer than {@code commitLag}; -1 until this instance has sampled the
+     * sequence at least {@code commitLag} ago.
+     */
+    public static long committedHorizon(EntityManager entityManager, Duration commitLag) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        return allocator(session).horizon(session, commitLag.toNanos());
+    }
+
+    private static Allocator allocator(SharedSessionContractImplementor session) {
+        return ALLOCATORS.computeIfAbsent(session.getFactory().getUuid(), uuid -> new Allocator());
+    }
+
+    private static final class Allocator {
+
+        // Value handed out -> when, for values whose transaction is still open
+        private final ConcurrentSkipListMap<Long, Long> inFlight = new ConcurrentSkipListMap<>();
+        // When the sequence was sampled -> value it returned; every value
+        // below it had been handed out by then
+        private final ConcurrentSkipListMap<Long, Long> samples = new ConcurrentSkipListMap<>();
+        private volatile boolean sequenceCreated;
+
+        long next(SharedSessionContractImplementor session) {
+            long value = fetchValue(session);
+            inFlight.put(value, System.nanoTime());
+            session.asEventSource().getActionQueue()
+                    .registerProcess((success, completed) -> inFlight.remove(value));
+            return value;
+        }
+
+        long horizon(SharedSessionContractImplementor session, long commitLagNanos) {
+            Map.Entry<Long, Long> newest = samples.lastEntry();
+            // A few samples per lag are enough; the horizon trails by up to one spacing more
+            if (newest == null || System.nanoTime() - newest.getKey() >= commitLagNanos / 8) {
+                long value = sample(session);
+                samples.merge(System.nanoTime(), value, Math::max);
+            }
+
+            long now = System.nanoTime();
+            Map.Entry<Long, Long> settled = samples.floorEntry(now - commitLagNanos);
+            if (settled == null) {
+                return -1;
+            }
+            samples.headMap(settled.getKey()).clear();
+            long highest = settled.getValue() - 1;
+            for (Map.Entry<Long, Long> entry : inFlight.entrySet()) {
+                if (now - entry.getValue() < IN_FLIGHT_TIMEOUT_NANOS) {
+                    return Math.min(highest, entry.getKey() - 1);
+                }
+                inFlight.remove(entry.getKey());
+            }
+            return highest;
+        }
+
+        private long fetchValue(SharedSessionContractImplementor session) {
+            ensureSequence(session);
+            String sql = session.getJdbcServices().getDialect().getSequenceSupport()
+                    .getSequenceNextValString(SEQUENCE);
+            JdbcCoordinator jdbc = session.getJdbcCoordinator();
+            PreparedStatement statement = jdbc.getStatementPreparer().prepareStatement(sql);
+            try {
+                ResultSet resultSet = jdbc.getResultSetReturn().extract(statement, sql);
+                try {
+                    resultSet.next();
+                    return resultSet.getLong(1);
+                } finally {
+                    jdbc.getLogicalConnection().getResourceRegistry().release(resultSet, statement);
+                }
+            } catch (SQLException e) {
+                throw session.getJdbcServices().getSqlExceptionHelper().convert(e,
+                        "Could not read change sequence", sql);
+            } finally {
+                jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+                jdbc.afterStatementExecution();
+            }
+        }
+
+        // Outside the caller's transaction, which may be read-only
+        private long sample(SharedSessionContractImplementor session) {
+            ensureSequence(session);
+            String sql = session.getJdbcServices().getDialect().getSequenceSupport()
+                    .getSequenceNextValString(SEQUENCE);
+            return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+                    new AbstractReturningWork<Long>() {
+                        @Override
+                        public Long execute(Connection connection) throws SQLException {
+                            try (var statement = connection.createStatement();
+                                    ResultSet resultSet = statement.executeQuery(sql)) {
+                                resultSet.next();
+                                return resultSet.getLong(1);
+                            }
+                        }
+                    }, true);
+        }
+
+        // Created on first use, outside the caller's transaction
+        private void ensureSequence(SharedSessionContractImplementor session) {
+            if (sequenceCreated) {
+                return;
+            }
+            session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+                    new AbstractReturningWork<Void>() {
+                        @Override
+                        public Void execute(Connection connection) throws SQLException {
+                            try (var statement = connection.createStatement()) {
+                                statement.execute(CREATE_SEQUENCE);
+                            }
+                            return null;
+                        }
+                    }, true);
+            sequenceCreated = true;
+        }
+    }
+}
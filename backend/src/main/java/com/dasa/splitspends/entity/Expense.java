@@ -2,10 +2,12 @@
 package com.dasa.splitspends.entity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -25,7 +27,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -43,7 +47,8 @@ import lombok.Setter;
         @Index(name = "idx_expense_date", columnList = "date"),
         @Index(name = "idx_expense_status", columnList = "status"),
         @Index(name = "idx_expense_category", columnList = "category"),
-        @Index(name = "idx_expense_group_date", columnList = "group_id, date")
+        @Index(name = "idx_expense_group_date", columnList = "group_id, date"),
+        @Index(name = "idx_expense_group_change_seq", columnList = "group_id, change_seq")
 })
 @Getter
 @Setter
@@ -53,7 +58,8 @@ import lombok.Setter;
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -100,12 +106,23 @@ public class Expense {
     @Builder.Default
     private String currency = "USD";
 
+    // Rate from this expense's currency to the group currency, captured when it
+    // was recorded so later rate changes do not move historical balances
+    @Column(name = "exchange_rate", nullable = false, precision = 19, scale = 8)
+    @ColumnDefault("1")
+    @Builder.Default
+    private BigDecimal exchangeRate = BigDecimal.ONE;
+
     // Expense status tracking
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20)
     @Builder.Default
     private ExpenseStatus status = ExpenseStatus.CONFIRMED;
 
+    // Template this expense was posted from, if it is a recurring occurrence
+    @Column(name = "recurring_expense_id")
+    private Long recurringExpenseId;
+
     // Optional notes/memo
     @Column(name = "notes", length = 1000)
     private String notes;
@@ -132,6 +149,19 @@ public class Expense {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: a stale edit fails instead of overwriting a concurrent one
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Change sequence value of the last write, for delta sync. Split edits
+    // always touch the expense, so this also covers its splits.
+    @ChangeSequence
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     @JsonIgnore
@@ -272,6 +302,16 @@ public class Expense {
         return String.format("%s %.2f", currency, amount);
     }
 
+    /**
+     * Convert an amount in this expense's currency to the group currency
+     */
+    public BigDecimal toGroupCurrency(BigDecimal value) {
+        if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ONE) == 0) {
+            return value;
+        }
+        return value.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
+    }
+
     /**
      * Get expense age in days
      */
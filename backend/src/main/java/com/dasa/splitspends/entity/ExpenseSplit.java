@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -22,7 +23,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -46,7 +49,8 @@ import lombok.Setter;
 public class ExpenseSplit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_split_seq")
+    @SequenceGenerator(name = "expense_split_seq", sequenceName = "expense_splits_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -102,6 +106,12 @@ public class ExpenseSplit {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: a stale edit fails instead of overwriting a concurrent one
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // ========== BUSINESS LOGIC ==========
 
     @PrePersist
@@ -192,7 +202,9 @@ public class ExpenseSplit {
         EQUAL("Equal split among all participants"),
         PERCENTAGE("Split based on percentage"),
         EXACT_AMOUNT("Exact amount specified"),
-        SHARES("Split based on shares/units");
+        SHARES("Split based on shares/units"),
+        ADJUSTMENT("Equal split with per-person adjustments"),
+        ITEMIZED("Split by itemized subtotals plus proportional extras");
 
         private final String description;
 
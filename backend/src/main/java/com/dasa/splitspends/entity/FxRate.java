@@ -0,0 +1,56 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Daily exchange rate of one currency against the configured base currency
+ * ({@code app.fx.base-currency}).
+ */
+@Entity
+@Table(name = "fx_rates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fx_rate_date_currency", columnNames = { "rate_date", "currency" })
+}, indexes = {
+        @Index(name = "idx_fx_rate_currency_date", columnList = "currency, rate_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    @NotNull
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a 3-letter ISO code")
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    // Units of this currency per one unit of the base currency
+    @NotNull
+    @Column(name = "rate", nullable = false, precision = 19, scale = 8)
+    private BigDecimal rate;
+}
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -24,6 +26,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -42,8 +46,11 @@ import lombok.Setter;
         @Index(name = "idx_group_created_by", columnList = "created_by"),
         @Index(name = "idx_group_status", columnList = "status"),
         @Index(name = "idx_group_created_at", columnList = "created_at"),
-        @Index(name = "idx_group_name", columnList = "name")
+        @Index(name = "idx_group_name", columnList = "name"),
+        @Index(name = "idx_group_change_seq", columnList = "change_seq")
 })
+// Group lists rendered as GroupResponse: the creator comes in the same row
+@NamedEntityGraph(name = Group.WITH_CREATOR, attributeNodes = @NamedAttributeNode("createdBy"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +58,9 @@ import lombok.Setter;
 @Builder
 public class Group {
 
+    public static final String WITH_CREATOR = "Group.withCreator";
+
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -123,9 +133,36 @@ public class Group {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // Bumped in the writing transaction on every GroupDataChangedEvent and
+    // sent as the ETag of group reads. Never written through the entity, so
+    // a stale copy in a session cannot move it back.
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
+
+    // Bookkeeping of the balance event stream, kept by BalanceEventServiceImpl
+    // under the group lock so an append needs no count or MAX over the events.
+    // Written only by query, like the change version.
+    @Column(name = "last_balance_event_id", insertable = false, updatable = false)
+    private Long lastBalanceEventId;
+
+    @ColumnDefault("0")
+    @Column(name = "balance_events_since_snapshot", nullable = false, insertable = false, updatable = false)
+    private Integer balanceEventsSinceSnapshot;
+
+    // Change sequence value of the last write. Membership changes do not
+    // update the row, so SyncServiceImpl stamps it for those explicitly.
+    @ChangeSequence
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     // ========== RELATIONSHIPS ==========
 
+    // Batch-fetched: touching the members of one group in a list loads those of
+    // up to 100 groups already in the session in a single statement
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(name = "group_members", joinColumns = @JoinColumn(name = "group_id"), inverseJoinColumns = @JoinColumn(name = "user_id"), indexes = {
             @Index(name = "idx_group_members_group", columnList = "group_id"),
             @Index(name = "idx_group_members_user", columnList = "user_id")
@@ -135,6 +172,7 @@ public class Group {
     private Set<User> members = new HashSet<>();
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(name = "group_admins", joinColumns = @JoinColumn(name = "group_id"), inverseJoinColumns = @JoinColumn(name = "user_id"))
     @Builder.Default
     @JsonIgnore
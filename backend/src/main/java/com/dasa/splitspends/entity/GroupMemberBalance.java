@@ -0,0 +1,107 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Running balance of one member inside one group.
+ *
+ * Rows are maintained incrementally by expense and settlement writes so that
+ * reading the balances of a group is a single range scan on
+ * {@code (group_id, user_id)} instead of two aggregates per member.
+ */
+@Entity
+@Table(name = "group_member_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_group_member_balance", columnNames = { "group_id", "user_id" })
+}, indexes = {
+        @Index(name = "idx_group_member_balance_group_user", columnList = "group_id, user_id"),
+        @Index(name = "idx_group_member_balance_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupMemberBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    @JsonIgnore
+    private Group group;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnore
+    private User user;
+
+    // Sum of active expenses paid by this member
+    @Column(name = "total_paid", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    // Sum of this member's shares in active expenses
+    @Column(name = "total_owed", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalOwed = BigDecimal.ZERO;
+
+    // Confirmed settlements this member paid out
+    @Column(name = "settlements_paid", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal settlementsPaid = BigDecimal.ZERO;
+
+    // Confirmed settlements this member received
+    @Column(name = "settlements_received", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal settlementsReceived = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ========== BUSINESS LOGIC ==========
+
+    /**
+     * Net position of the member: positive when the group owes them money
+     */
+    public BigDecimal getNetBalance() {
+        return totalPaid.subtract(totalOwed)
+                .add(settlementsPaid)
+                .subtract(settlementsReceived);
+    }
+
+    /**
+     * Check whether this row carries any amount at all
+     */
+    public boolean isZero() {
+        return totalPaid.signum() == 0 && totalOwed.signum() == 0
+                && settlementsPaid.signum() == 0 && settlementsReceived.signum() == 0;
+    }
+}
@@ -4,6 +4,7 @@ package com.dasa.splitspends.entity;
 import java.time.LocalDateTime;
 import java.util.Map;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -21,6 +22,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -37,7 +39,9 @@ import lombok.Setter;
         @Index(name = "idx_notification_type", columnList = "type"),
         @Index(name = "idx_notification_read_status", columnList = "is_read"),
         @Index(name = "idx_notification_created_at", columnList = "created_at"),
-        @Index(name = "idx_notification_group", columnList = "group_id")
+        @Index(name = "idx_notification_group", columnList = "group_id"),
+        @Index(name = "idx_notification_recipient_created_at", columnList = "recipient_id, created_at, id"),
+        @Index(name = "idx_notification_recipient_change_seq", columnList = "recipient_id, change_seq")
 })
 @Getter
 @Setter
@@ -47,7 +51,8 @@ import lombok.Setter;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     // ========== NOTIFICATION RECIPIENT ==========
@@ -126,6 +131,12 @@ public class Notification {
     @Column(name = "action_url", length = 500)
     private String actionUrl;
 
+    // Change sequence value of the last write, for delta sync
+    @ChangeSequence
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     // ========== BUSINESS LOGIC METHODS ==========
 
     /**
@@ -0,0 +1,91 @@
+package com.dasa.splitspends.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Side effect of a business write (activity log entry, notifications) that is
+ * recorded in the same transaction and carried out later by the outbox
+ * dispatcher. Rows only hold IDs; the dispatcher loads current state.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "processed_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    // Settlement or invitation the event is about, depending on the type
+    @NotNull
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // User who triggered the event; null for system events such as reminders
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    // Free text carried to the consumer, e.g. a rejection reason
+    @Column(name = "detail", length = 500)
+    private String detail;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public enum EventType {
+        SETTLEMENT_CREATED,
+        SETTLEMENT_CONFIRMED,
+        SETTLEMENT_REJECTED,
+        SETTLEMENT_REMINDER,
+        INVITATION_SENT,
+        INVITATION_ACCEPTED,
+        INVITATION_DECLINED,
+        INVITATION_CANCELLED
+    }
+
+    public boolean isProcessed() {
+        return processedAt != null;
+    }
+}
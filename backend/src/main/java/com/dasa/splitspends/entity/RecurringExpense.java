@@ -0,0 +1,147 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Template for an expense that is posted on a schedule (rent, subscriptions).
+ * The generator claims due templates, posts one {@link Expense} per missed
+ * occurrence and advances {@code nextRunAt}.
+ */
+@Entity
+@Table(name = "recurring_expenses", indexes = {
+        @Index(name = "idx_recurring_expense_due", columnList = "active, next_run_at, id"),
+        @Index(name = "idx_recurring_expense_group", columnList = "group_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringExpense {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    @JsonIgnore
+    private Group group;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "paid_by", nullable = false)
+    @JsonIgnore
+    private User paidBy;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    @JsonIgnore
+    private User createdBy;
+
+    @NotBlank(message = "Description is required")
+    @Size(min = 1, max = 500, message = "Description must be between 1 and 500 characters")
+    @Column(name = "description", nullable = false, length = 500)
+    private String description;
+
+    @NotNull
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 30)
+    @Builder.Default
+    private Expense.ExpenseCategory category = Expense.ExpenseCategory.OTHER;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "split_type", nullable = false, length = 20)
+    @Builder.Default
+    private ExpenseSplit.SplitType splitType = ExpenseSplit.SplitType.EQUAL;
+
+    // userId -> value the split type expects (see ExpenseService#createExpenseWithSplits)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "recurring_expense_participants", joinColumns = @JoinColumn(name = "recurring_expense_id"))
+    @MapKeyColumn(name = "user_id")
+    @Column(name = "split_value", precision = 12, scale = 2)
+    @Builder.Default
+    @JsonIgnore
+    private Map<Long, BigDecimal> participantValues = new LinkedHashMap<>();
+
+    // Cron expression or RRULE, see RecurrenceRule
+    @NotBlank
+    @Column(name = "schedule", nullable = false, length = 200)
+    private String schedule;
+
+    // First occurrence; monthly and yearly schedules keep its day of month.
+    // Null on templates created before it was recorded
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @NotNull
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    // No occurrences are posted after this time; null runs forever
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "occurrence_count", nullable = false)
+    @Builder.Default
+    private long occurrenceCount = 0;
+
+    @Column(name = "active", nullable = false)
+    @Builder.Default
+    private boolean active = true;
+
+    // Why the generator paused this template, if it did
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -2,8 +2,10 @@
 package com.dasa.splitspends.entity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -36,7 +38,9 @@ import lombok.Setter;
         @Index(name = "idx_settle_up_payee", columnList = "payee_id"),
         @Index(name = "idx_settle_up_group", columnList = "group_id"),
         @Index(name = "idx_settle_up_status", columnList = "status"),
-        @Index(name = "idx_settle_up_created_at", columnList = "created_at")
+        @Index(name = "idx_settle_up_created_at", columnList = "created_at"),
+        @Index(name = "idx_settle_up_group_created_at", columnList = "group_id, created_at, id"),
+        @Index(name = "idx_settle_up_group_change_seq", columnList = "group_id, change_seq")
 })
 @Getter
 @Setter
@@ -78,6 +82,13 @@ public class SettleUp {
     @Builder.Default
     private String currency = "INR";
 
+    // Rate from this settlement's currency to the group currency, captured when it
+    // was recorded so later rate changes do not move historical balances
+    @Column(name = "exchange_rate", nullable = false, precision = 19, scale = 8)
+    @ColumnDefault("1")
+    @Builder.Default
+    private BigDecimal exchangeRate = BigDecimal.ONE;
+
     // ========== SETTLEMENT STATUS ==========
 
     @Enumerated(EnumType.STRING)
@@ -132,6 +143,13 @@ public class SettleUp {
     @Column(name = "external_transaction_id", length = 100)
     private String externalTransactionId;
 
+    // Change sequence value of the last write; status changes go through the
+    // entity, so confirmations and rejections reach synced clients
+    @ChangeSequence
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     // ========== BUSINESS LOGIC METHODS ==========
 
     /**
@@ -204,6 +222,16 @@ public class SettleUp {
         return String.format("%s %.2f", currency, amount);
     }
 
+    /**
+     * Convert an amount in this settlement's currency to the group currency
+     */
+    public BigDecimal toGroupCurrency(BigDecimal value) {
+        if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ONE) == 0) {
+            return value;
+        }
+        return value.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
+    }
+
     // ========== VALIDATION METHODS ==========
 
     @PrePersist
@@ -0,0 +1,92 @@
+package com.dasa.splitspends.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * What one member spent in one category of one group during one calendar
+ * month: the sum of their shares of active expenses dated in that month.
+ *
+ * Rows are maintained incrementally by expense writes, keyed by the expense's
+ * own date rather than the time of the write, so spending trends over years
+ * read a few hundred rows instead of every expense.
+ */
+@Entity
+@Table(name = "spending_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_spending_rollup", columnNames = { "group_id", "user_id", "category",
+                "month_start" })
+}, indexes = {
+        @Index(name = "idx_spending_rollup_group_month", columnList = "group_id, month_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpendingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    @JsonIgnore
+    private Group group;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnore
+    private User user;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 30)
+    private Expense.ExpenseCategory category;
+
+    // First day of the calendar month the expenses are dated in
+    @NotNull
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    // Sum of the member's shares, in the group currency
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    // Number of expenses the member has a share in
+    @Column(name = "expense_count", nullable = false)
+    @Builder.Default
+    private int expenseCount = 0;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
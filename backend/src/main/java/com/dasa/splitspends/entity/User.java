@@ -7,6 +7,7 @@ import java.util.Set;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.dasa.splitspends.util.SearchText;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -64,6 +65,17 @@ public class User {
     @Column(nullable = false, unique = true, length = 255)
     private String email;
 
+    // Folded "name email" for user search, rewritten on every save; PostgreSQL
+    // indexes it with pg_trgm (see UserSearchIndexInitializer)
+    @JsonIgnore
+    @Column(name = "search_text", length = 360)
+    private String searchText;
+
+    // Folded email on its own, so short queries can match its start as well
+    @JsonIgnore
+    @Column(name = "search_email", length = 255)
+    private String searchEmail;
+
     @Column(name = "password_hash", length = 255)
     private String passwordHash;
 
@@ -343,6 +355,10 @@ public class User {
             this.email = email.toLowerCase().trim();
         }
 
+        // Keep the search column in step with name and email
+        this.searchText = SearchText.ofUser(name, email);
+        this.searchEmail = SearchText.fold(email);
+
         // Set joined date if not set
         if (joinedAt == null) {
             this.joinedAt = LocalDateTime.now();
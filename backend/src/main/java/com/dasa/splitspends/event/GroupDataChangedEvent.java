@@ -0,0 +1,34 @@
+package com.dasa.splitspends.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published inside the transaction that changes a group's expenses, splits,
+ * settlements, membership or the profile of one of its members. Listeners that keep derived data (caches,
+ * indexes) should react after commit so they never see rolled-back writes.
+ */
+@Getter
+@ToString
+public class GroupDataChangedEvent {
+
+    public enum ChangeType {
+        EXPENSE, SETTLEMENT, MEMBERSHIP, MEMBER_PROFILE, GROUP
+    }
+
+    private final Long groupId;
+    private final ChangeType changeType;
+
+    // The one expense written, or null when any number of the group's rows changed
+    private final Long expenseId;
+
+    public GroupDataChangedEvent(Long groupId, ChangeType changeType) {
+        this(groupId, changeType, null);
+    }
+
+    public GroupDataChangedEvent(Long groupId, ChangeType changeType, Long expenseId) {
+        this.groupId = groupId;
+        this.changeType = changeType;
+        this.expenseId = expenseId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dasa.splitspends.exception;
+
+import java.util.List;
+
+/**
+ * Thrown when some participants of a split do not exist or are not members of
+ * the expense's group. Every offending ID is reported, not just the first.
+ */
+public class InvalidParticipantsException extends IllegalArgumentException {
+
+    private final List<Long> unknownUserIds;
+    private final List<Long> nonMemberUserIds;
+
+    public InvalidParticipantsException(List<Long> unknownUserIds, List<Long> nonMemberUserIds) {
+        super(buildMessage(unknownUserIds, nonMemberUserIds));
+        this.unknownUserIds = List.copyOf(unknownUserIds);
+        this.nonMemberUserIds = List.copyOf(nonMemberUserIds);
+    }
+
+    public List<Long> getUnknownUserIds() {
+        return unknownUserIds;
+    }
+
+    public List<Long> getNonMemberUserIds() {
+        return nonMemberUserIds;
+    }
+
+    private static String buildMessage(List<Long> unknownUserIds, List<Long> nonMemberUserIds) {
+        StringBuilder message = new StringBuilder("Invalid participants:");
+        if (!unknownUserIds.isEmpty()) {
+            message.append(" users not found ").append(unknownUserIds);
+        }
+        if (!nonMemberUserIds.isEmpty()) {
+            if (!unknownUserIds.isEmpty()) {
+                message.append(';');
+            }
+            message.append(" not members of the group ").append(nonMemberUserIds);
+        }
+        return message.toString();
+    }
+}
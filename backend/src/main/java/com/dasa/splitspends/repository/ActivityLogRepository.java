@@ -91,6 +91,24 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
         List<ActivityLog> findGroupActivityFeed(@Param("group") Group group,
                         @Param("since") LocalDateTime since);
 
+        /**
+         * First page of a group's activity log, newest first
+         */
+        @Query("SELECT a FROM ActivityLog a WHERE a.group.id = :groupId ORDER BY a.createdAt DESC, a.id DESC")
+        List<ActivityLog> findPageByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+
+        /**
+         * Next page of a group's activity log, strictly before the
+         * (createdAt, id) cursor
+         */
+        @Query("SELECT a FROM ActivityLog a WHERE a.group.id = :groupId " +
+                        "AND (a.createdAt < :beforeCreatedAt OR (a.createdAt = :beforeCreatedAt AND a.id < :beforeId)) " +
+                        "ORDER BY a.createdAt DESC, a.id DESC")
+        List<ActivityLog> findPageByGroupIdBefore(@Param("groupId") Long groupId,
+                        @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                        @Param("beforeId") Long beforeId,
+                        Pageable pageable);
+
         /**
          * Find group member activities (join, leave, add, remove)
          */
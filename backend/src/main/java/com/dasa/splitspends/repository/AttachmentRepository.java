@@ -262,6 +262,11 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
         @Query("SELECT COUNT(a) FROM Attachment a WHERE a.attachmentType = :type AND a.deletedAt IS NULL")
         long countByType(@Param("type") Attachment.AttachmentType type);
 
+        /**
+         * Count attachments that are not deleted, platform-wide
+         */
+        long countByDeletedAtIsNull();
+
         /**
          * Get attachment statistics by type
          */
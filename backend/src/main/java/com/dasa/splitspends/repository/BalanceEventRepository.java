@@ -0,0 +1,31 @@
+package com.dasa.splitspends.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dasa.splitspends.entity.BalanceEvent;
+
+public interface BalanceEventRepository extends JpaRepository<BalanceEvent, Long> {
+
+    // ========== REPLAY ==========
+
+    // Net change per user for the events of a group in (afterEventId, upToEventId]
+    @Query("SELECT e.user.id, SUM(e.amount) FROM BalanceEvent e " +
+            "WHERE e.group.id = :groupId AND e.id > :afterEventId AND e.id <= :upToEventId " +
+            "GROUP BY e.user.id")
+    List<Object[]> sumAmountsByUserInRange(@Param("groupId") Long groupId,
+            @Param("afterEventId") Long afterEventId,
+            @Param("upToEventId") Long upToEventId);
+
+    // Latest event of a group, null when the group has none
+    @Query("SELECT MAX(e.id) FROM BalanceEvent e WHERE e.group.id = :groupId")
+    Long findLastEventId(@Param("groupId") Long groupId);
+
+    // Latest event of a group recorded at or before a point in time
+    @Query("SELECT MAX(e.id) FROM BalanceEvent e WHERE e.group.id = :groupId AND e.createdAt <= :asOf")
+    Long findLastEventIdAsOf(@Param("groupId") Long groupId, @Param("asOf") LocalDateTime asOf);
+}
@@ -0,0 +1,17 @@
+package com.dasa.splitspends.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dasa.splitspends.entity.BalanceSnapshot;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    // Most recent snapshot of a group
+    Optional<BalanceSnapshot> findFirstByGroupIdOrderByLastEventIdDesc(Long groupId);
+
+    // Most recent snapshot of a group that does not go past the given event
+    Optional<BalanceSnapshot> findFirstByGroupIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(Long groupId,
+            Long eventId);
+}
@@ -2,7 +2,9 @@ package com.dasa.splitspends.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +12,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.dasa.splitspends.dto.expense.ExpenseSearchDocument;
+import com.dasa.splitspends.dto.expense.GroupExpenseTotals;
+import com.dasa.splitspends.dto.expense.ExpenseSplitView;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.dto.sync.ExpenseSyncView;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
@@ -38,31 +45,158 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             "ORDER BY e.date DESC")
     List<Expense> findExpensesInvolvingUser(@Param("user") User user);
 
+    // ========== READ MODELS ==========
+
+    // Expense list rows for a group, excluding one status; the page content and
+    // its count are the only two queries
+    @Query(value = "SELECT new com.dasa.splitspends.dto.expense.ExpenseSummaryView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "p.id, p.name, e.version) " +
+            "FROM Expense e JOIN e.paidBy p " +
+            "WHERE e.group.id = :groupId AND e.status <> :status " +
+            "ORDER BY e.date DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM Expense e WHERE e.group.id = :groupId AND e.status <> :status")
+    Page<ExpenseSummaryView> findSummariesByGroupId(@Param("groupId") Long groupId,
+            @Param("status") Expense.ExpenseStatus status, Pageable pageable);
+
+    // First page of the group expense feed, newest first; served by
+    // idx_expense_group_date
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSummaryView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "p.id, p.name, e.version) " +
+            "FROM Expense e JOIN e.paidBy p " +
+            "WHERE e.group.id = :groupId AND e.status <> :status " +
+            "ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseSummaryView> findFeedByGroupId(@Param("groupId") Long groupId,
+            @Param("status") Expense.ExpenseStatus status, Pageable pageable);
+
+    // Next page of the group expense feed, strictly before the (date, id) cursor
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSummaryView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "p.id, p.name, e.version) " +
+            "FROM Expense e JOIN e.paidBy p " +
+            "WHERE e.group.id = :groupId AND e.status <> :status " +
+            "AND (e.date < :beforeDate OR (e.date = :beforeDate AND e.id < :beforeId)) " +
+            "ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseSummaryView> findFeedByGroupIdBefore(@Param("groupId") Long groupId,
+            @Param("status") Expense.ExpenseStatus status,
+            @Param("beforeDate") LocalDateTime beforeDate,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    // One page of the expenses a user paid for or shares in, newest first
+    @Query(value = "SELECT new com.dasa.splitspends.dto.expense.ExpenseSummaryView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "p.id, p.name, e.version) " +
+            "FROM Expense e JOIN e.paidBy p " +
+            "WHERE p.id = :userId " +
+            "OR EXISTS (SELECT 1 FROM ExpenseSplit es WHERE es.expense = e AND es.user.id = :userId) " +
+            "ORDER BY e.date DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM Expense e WHERE e.paidBy.id = :userId " +
+                    "OR EXISTS (SELECT 1 FROM ExpenseSplit es WHERE es.expense = e AND es.user.id = :userId)")
+    Page<ExpenseSummaryView> findSummariesInvolvingUser(@Param("userId") Long userId, Pageable pageable);
+
+    // Split rows of a page of expenses, for ExpenseDetailView
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSplitView(" +
+            "es.expense.id, u.id, u.name, es.shareAmount, es.settled) " +
+            "FROM ExpenseSplit es JOIN es.user u " +
+            "WHERE es.expense.id IN :expenseIds ORDER BY es.expense.id, u.id")
+    List<ExpenseSplitView> findSplitViewsByExpenseIds(@Param("expenseIds") Collection<Long> expenseIds);
+
+    // Delta sync: expenses in the user's groups changed after a change sequence
+    // value, soft-deleted ones included as tombstones
+    @Query("SELECT new com.dasa.splitspends.dto.sync.ExpenseSyncView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "e.paidBy.id, e.version, e.changeSeq) " +
+            "FROM Expense e WHERE e.group.id IN :groupIds AND e.changeSeq > :after ORDER BY e.changeSeq")
+    List<ExpenseSyncView> findSyncViews(@Param("groupIds") Collection<Long> groupIds, @Param("after") long after,
+            Pageable pageable);
+
+    // Search index build: searchable text of a group's expenses by ID cursor,
+    // excluding one status
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSearchDocument(" +
+            "e.id, e.description, e.notes, e.category, e.status, e.changeSeq) " +
+            "FROM Expense e WHERE e.group.id = :groupId AND e.status <> :status AND e.id > :afterId " +
+            "ORDER BY e.id")
+    List<ExpenseSearchDocument> findSearchDocuments(@Param("groupId") Long groupId,
+            @Param("status") Expense.ExpenseStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Search index refresh: expenses of a group changed after a change
+    // sequence value, deleted ones included so they leave the index; served
+    // by idx_expense_group_change_seq
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSearchDocument(" +
+            "e.id, e.description, e.notes, e.category, e.status, e.changeSeq) " +
+            "FROM Expense e WHERE e.group.id = :groupId AND e.changeSeq > :after " +
+            "ORDER BY e.changeSeq")
+    List<ExpenseSearchDocument> findSearchDocumentsChangedAfter(@Param("groupId") Long groupId,
+            @Param("after") long after, Pageable pageable);
+
+    // Search index update after a committed write to one expense
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSearchDocument(" +
+            "e.id, e.description, e.notes, e.category, e.status, e.changeSeq) " +
+            "FROM Expense e WHERE e.id = :expenseId")
+    Optional<ExpenseSearchDocument> findSearchDocument(@Param("expenseId") Long expenseId);
+
+    // Expense list rows for a set of IDs, in no particular order
+    @Query("SELECT new com.dasa.splitspends.dto.expense.ExpenseSummaryView(" +
+            "e.id, e.group.id, e.description, e.amount, e.currency, e.date, e.category, e.status, " +
+            "p.id, p.name, e.version) " +
+            "FROM Expense e JOIN e.paidBy p WHERE e.id IN :expenseIds")
+    List<ExpenseSummaryView> findSummariesByIds(@Param("expenseIds") Collection<Long> expenseIds);
+
+    // Groups by their latest expense change, most recent first
+    @Query("SELECT e.group.id FROM Expense e GROUP BY e.group.id ORDER BY MAX(e.changeSeq) DESC")
+    List<Long> findGroupIdsByLatestExpenseChange(Pageable pageable);
+
     // ========== BALANCE CALCULATIONS ==========
 
+    // Group-level sums convert each row at the rate captured when it was
+    // recorded, so totals are in the group currency.
+
     // Get total amount spent in a group
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.group = :group")
+    @Query("SELECT COALESCE(SUM(ROUND(e.amount * e.exchangeRate, 2)), 0) FROM Expense e WHERE e.group = :group")
     BigDecimal getTotalExpensesByGroup(@Param("group") Group group);
 
     // Get total amount spent in a group (alias for service compatibility)
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.group = :group AND e.status != 'DELETED'")
+    @Query("SELECT COALESCE(SUM(ROUND(e.amount * e.exchangeRate, 2)), 0) FROM Expense e WHERE e.group = :group AND e.status != 'DELETED'")
     BigDecimal getTotalAmountByGroup(@Param("group") Group group);
 
     // Get total settled amount in a group
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e " +
+    @Query("SELECT COALESCE(SUM(ROUND(e.amount * e.exchangeRate, 2)), 0) FROM Expense e " +
             "WHERE e.group = :group AND e.status != 'DELETED' " +
             "AND NOT EXISTS (SELECT 1 FROM ExpenseSplit es WHERE es.expense = e AND es.settled = false)")
     BigDecimal getTotalSettledAmountByGroup(@Param("group") Group group);
 
+    // Count and totals of a group in one pass: a derived table reduces each
+    // expense and its splits (joined once through the split index) to one row
+    // with its unsettled split count, which is then summed
+    @Query("SELECT new com.dasa.splitspends.dto.expense.GroupExpenseTotals(" +
+            "COUNT(t.id), " +
+            "COALESCE(SUM(CASE WHEN t.live = 1 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.live = 1 THEN t.amount END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.live = 1 AND t.unsettled = 0 THEN t.amount END), 0)) " +
+            "FROM (SELECT e.id AS id, " +
+            "CASE WHEN e.status <> 'DELETED' THEN 1 ELSE 0 END AS live, " +
+            "ROUND(e.amount * e.exchangeRate, 2) AS amount, " +
+            "SUM(CASE WHEN es.settled = false THEN 1 ELSE 0 END) AS unsettled " +
+            "FROM Expense e LEFT JOIN e.splits es WHERE e.group.id = :groupId " +
+            "GROUP BY e.id, e.status, e.amount, e.exchangeRate) t")
+    GroupExpenseTotals getGroupExpenseTotals(@Param("groupId") Long groupId);
+
     // Get total amount paid by a user in a group
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.group = :group AND e.paidBy = :user")
+    @Query("SELECT COALESCE(SUM(ROUND(e.amount * e.exchangeRate, 2)), 0) FROM Expense e WHERE e.group = :group AND e.paidBy = :user")
     BigDecimal getTotalPaidByUserInGroup(@Param("group") Group group, @Param("user") User user);
 
     // Get user's share of total group expenses
-    @Query("SELECT COALESCE(SUM(es.shareAmount), 0) FROM ExpenseSplit es " +
+    @Query("SELECT COALESCE(SUM(ROUND(es.shareAmount * e.exchangeRate, 2)), 0) FROM ExpenseSplit es " +
             "JOIN es.expense e WHERE e.group = :group AND es.user = :user")
     BigDecimal getTotalOwedByUserInGroup(@Param("group") Group group, @Param("user") User user);
 
+    // Total paid per user in a group, active expenses only (ledger rebuild)
+    @Query("SELECT e.paidBy.id, COALESCE(SUM(ROUND(e.amount * e.exchangeRate, 2)), 0) FROM Expense e " +
+            "WHERE e.group.id = :groupId AND e.status != 'DELETED' GROUP BY e.paidBy.id")
+    List<Object[]> sumPaidByUserInGroup(@Param("groupId") Long groupId);
+
     // ========== ACTIVITY FEED ==========
 
     // Get recent expenses across all user's groups (for activity feed)
@@ -70,11 +204,12 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             "WHERE m = :user ORDER BY e.date DESC")
     Page<Expense> findRecentExpensesByUser(@Param("user") User user, Pageable pageable);
 
-    // Get top 10 recent expenses for a group (for activity feed)
+    // Get the most recently created expenses for a group (for activity feed),
+    // as many as the page asks for
     @Query("SELECT e FROM Expense e WHERE e.group = :group AND e.status != :status " +
-            "ORDER BY e.createdAt DESC")
-    List<Expense> findTop10ByGroupAndStatusNotOrderByCreatedAtDesc(@Param("group") Group group,
-            @Param("status") Expense.ExpenseStatus status);
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Expense> findRecentByGroupAndStatusNot(@Param("group") Group group,
+            @Param("status") Expense.ExpenseStatus status, Pageable pageable);
 
     // Get expenses created after a certain date (for real-time updates)
     List<Expense> findByGroupAndDateAfterOrderByDateDesc(Group group, LocalDateTime after);
@@ -121,12 +256,18 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     // Count expenses by group excluding deleted ones
     Long countByGroupAndStatusNot(Group group, Expense.ExpenseStatus status);
 
+    // Count expenses platform-wide excluding deleted ones (metrics reconciliation)
+    long countByStatusNot(Expense.ExpenseStatus status);
+
     // Get average expense amount in group
     @Query("SELECT AVG(e.amount) FROM Expense e WHERE e.group = :group")
     BigDecimal getAverageExpenseByGroup(@Param("group") Group group);
 
-    // Get average expense amount in group (alias for service compatibility)
-    @Query("SELECT COALESCE(AVG(e.amount), 0) FROM Expense e WHERE e.group = :group AND e.status != 'DELETED'")
+    // Get average expense amount in group (alias for service compatibility), in
+    // the group currency rounded to cents; divides the exact sum instead of
+    // AVG, which returns a double
+    @Query("SELECT COALESCE(ROUND(SUM(ROUND(e.amount * e.exchangeRate, 2)) / COUNT(e), 2), 0) " +
+            "FROM Expense e WHERE e.group = :group AND e.status != 'DELETED'")
     BigDecimal getAverageExpenseAmountByGroup(@Param("group") Group group);
 
     // Get largest expense in group
@@ -55,6 +55,40 @@ public interface ExpenseSplitRepository extends JpaRepository<ExpenseSplit, Long
             "JOIN es.expense e WHERE e.group = :group AND es.user = :user AND es.settled = true")
     BigDecimal getTotalSettledAmountByUserInGroup(@Param("group") Group group, @Param("user") User user);
 
+    // Total share per user in a group, in the group currency, active expenses
+    // only (ledger rebuild)
+    @Query("SELECT es.user.id, COALESCE(SUM(ROUND(es.shareAmount * e.exchangeRate, 2)), 0) " +
+            "FROM ExpenseSplit es JOIN es.expense e " +
+            "WHERE e.group.id = :groupId AND e.status != 'DELETED' GROUP BY es.user.id")
+    List<Object[]> sumOwedByUserInGroup(@Param("groupId") Long groupId);
+
+    // Total share and expense count per (user, category, year, month) in a
+    // group, in the group currency, active expenses only (spending rollup
+    // rebuild)
+    @Query("SELECT es.user.id, e.category, YEAR(e.date), MONTH(e.date), " +
+            "SUM(ROUND(es.shareAmount * e.exchangeRate, 2)), COUNT(es) " +
+            "FROM ExpenseSplit es JOIN es.expense e " +
+            "WHERE e.group.id = :groupId AND e.status != 'DELETED' " +
+            "GROUP BY es.user.id, e.category, YEAR(e.date), MONTH(e.date)")
+    List<Object[]> sumSharesByUserCategoryAndMonthInGroup(@Param("groupId") Long groupId);
+
+    // Total owed per (creditor, debtor) pair in a group, active expenses only
+    // (balance matrix)
+    @Query("SELECT e.paidBy.id, es.user.id, SUM(ROUND(es.shareAmount * e.exchangeRate, 2)) " +
+            "FROM ExpenseSplit es JOIN es.expense e " +
+            "WHERE e.group.id = :groupId AND e.status != 'DELETED' AND es.user.id <> e.paidBy.id " +
+            "GROUP BY e.paidBy.id, es.user.id")
+    List<Object[]> sumOwedByPairInGroup(@Param("groupId") Long groupId);
+
+    // Shares between a user and everyone they split expenses with, as
+    // (groupId, paidById, debtorId, amount), active expenses only (balance summary)
+    @Query("SELECT e.group.id, e.paidBy.id, es.user.id, SUM(ROUND(es.shareAmount * e.exchangeRate, 2)) " +
+            "FROM ExpenseSplit es JOIN es.expense e " +
+            "WHERE (e.paidBy.id = :userId OR es.user.id = :userId) AND es.user.id <> e.paidBy.id " +
+            "AND e.status != 'DELETED' " +
+            "GROUP BY e.group.id, e.paidBy.id, es.user.id")
+    List<Object[]> sumSharesInvolvingUserByGroup(@Param("userId") Long userId);
+
     // Get net balance between two users in a group
     @Query("SELECT COALESCE(SUM(CASE " +
             "WHEN e.paidBy = :user1 AND es.user = :user2 AND es.settled = false THEN es.shareAmount " +
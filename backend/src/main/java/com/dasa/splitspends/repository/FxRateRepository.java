@@ -0,0 +1,16 @@
+package com.dasa.splitspends.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.dasa.splitspends.entity.FxRate;
+
+public interface FxRateRepository extends JpaRepository<FxRate, Long> {
+
+    // Most recent rate of every currency (in-memory rate table load)
+    @Query("SELECT r FROM FxRate r WHERE r.rateDate = " +
+            "(SELECT MAX(r2.rateDate) FROM FxRate r2 WHERE r2.currency = r.currency)")
+    List<FxRate> findLatestRates();
+}
@@ -0,0 +1,37 @@
+package com.dasa.splitspends.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dasa.splitspends.entity.GroupMemberBalance;
+
+public interface GroupMemberBalanceRepository extends JpaRepository<GroupMemberBalance, Long>,
+        GroupMemberBalanceRepositoryCustom {
+
+    // ========== BALANCE READS ==========
+
+    // All ledger rows of a group (single range scan on group_id, user_id)
+    @Query("SELECT b FROM GroupMemberBalance b JOIN FETCH b.user WHERE b.group.id = :groupId")
+    List<GroupMemberBalance> findByGroupIdWithUser(@Param("groupId") Long groupId);
+
+    // All ledger rows of a group without fetching users (ledger rebuild)
+    List<GroupMemberBalance> findByGroupId(Long groupId);
+
+    // Current members of a group paired with their ledger row (null when the
+    // member has no activity yet)
+    @Query("SELECT m, b FROM Group g JOIN g.members m " +
+            "LEFT JOIN GroupMemberBalance b ON b.group = g AND b.user = m " +
+            "WHERE g.id = :groupId")
+    List<Object[]> findMemberBalancesByGroupId(@Param("groupId") Long groupId);
+
+    // Non-zero net balance per user of a group as (userId, userName, net),
+    // used by the settlement planner
+    @Query("SELECT b.user.id, b.user.name, " +
+            "b.totalPaid - b.totalOwed + b.settlementsPaid - b.settlementsReceived " +
+            "FROM GroupMemberBalance b WHERE b.group.id = :groupId " +
+            "AND b.totalPaid - b.totalOwed + b.settlementsPaid - b.settlementsReceived <> 0")
+    List<Object[]> findNetBalancesByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,11 @@
+package com.dasa.splitspends.repository;
+
+import java.math.BigDecimal;
+
+public interface GroupMemberBalanceRepositoryCustom {
+
+    // Add a delta to a member's ledger row, creating the row on its first
+    // entry; concurrent first writes for the same member cannot collide
+    void upsertDelta(Long groupId, Long userId, BigDecimal paidDelta, BigDecimal owedDelta,
+            BigDecimal settlementsPaidDelta, BigDecimal settlementsReceivedDelta);
+}
@@ -0,0 +1,50 @@
+package com.dasa.splitspends.repository;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class GroupMemberBalanceRepositoryCustomImpl implements GroupMemberBalanceRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT = "INSERT INTO group_member_balances "
+            + "(group_id, user_id, total_paid, total_owed, settlements_paid, settlements_received, updated_at) "
+            + "VALUES (:groupId, :userId, :paidDelta, :owedDelta, :settlementsPaidDelta, "
+            + ":settlementsReceivedDelta, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (group_id, user_id) DO UPDATE SET "
+            + "total_paid = group_member_balances.total_paid + EXCLUDED.total_paid, "
+            + "total_owed = group_member_balances.total_owed + EXCLUDED.total_owed, "
+            + "settlements_paid = group_member_balances.settlements_paid + EXCLUDED.settlements_paid, "
+            + "settlements_received = group_member_balances.settlements_received + EXCLUDED.settlements_received, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    private static final String MERGE = "MERGE INTO group_member_balances b "
+            + "USING (SELECT CAST(:groupId AS BIGINT) AS group_id, CAST(:userId AS BIGINT) AS user_id) s "
+            + "ON (b.group_id = s.group_id AND b.user_id = s.user_id) "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "total_paid = b.total_paid + :paidDelta, "
+            + "total_owed = b.total_owed + :owedDelta, "
+            + "settlements_paid = b.settlements_paid + :settlementsPaidDelta, "
+            + "settlements_received = b.settlements_received + :settlementsReceivedDelta, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(group_id, user_id, total_paid, total_owed, settlements_paid, settlements_received, updated_at) "
+            + "VALUES (s.group_id, s.user_id, :paidDelta, :owedDelta, :settlementsPaidDelta, "
+            + ":settlementsReceivedDelta, CURRENT_TIMESTAMP)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsertDelta(Long groupId, Long userId, BigDecimal paidDelta, BigDecimal owedDelta,
+            BigDecimal settlementsPaidDelta, BigDecimal settlementsReceivedDelta) {
+        entityManager.createNativeQuery(NativeUpserts.isPostgres(entityManager) ? POSTGRES_UPSERT : MERGE)
+                .setParameter("groupId", groupId)
+                .setParameter("userId", userId)
+                .setParameter("paidDelta", paidDelta)
+                .setParameter("owedDelta", owedDelta)
+                .setParameter("settlementsPaidDelta", settlementsPaidDelta)
+                .setParameter("settlementsReceivedDelta", settlementsReceivedDelta)
+                .executeUpdate();
+    }
+}
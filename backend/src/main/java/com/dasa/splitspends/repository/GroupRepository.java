@@ -1,16 +1,27 @@
 package com.dasa.splitspends.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.dasa.splitspends.dto.balance.BalanceStreamState;
+import com.dasa.splitspends.dto.sync.GroupMemberView;
+import com.dasa.splitspends.dto.sync.GroupSyncView;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
 
+import jakarta.persistence.LockModeType;
+
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
         // ========== USER-GROUP RELATIONSHIP QUERIES ==========
@@ -19,9 +30,11 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
         List<Group> findByMembers_Id(Long userId);
 
         // Find all groups a particular user is a member of (by user object)
+        @EntityGraph(Group.WITH_CREATOR)
         List<Group> findByMembersContaining(User user);
 
         // Find all groups created by a particular user
+        @EntityGraph(Group.WITH_CREATOR)
         List<Group> findByCreatedBy(User user);
 
         // ========== GROUP SEARCH & DISCOVERY ==========
@@ -30,11 +43,68 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
         List<Group> findByNameContainingIgnoreCase(String namePart);
 
         // Search by partial name match with pagination (for super admin)
+        @EntityGraph(Group.WITH_CREATOR)
         Page<Group> findByNameContainingIgnoreCase(String namePart, Pageable pageable);
 
+        // All groups with pagination (for super admin); with the batch-fetched
+        // members and admins a page costs four statements including the count
+        @Override
+        @EntityGraph(Group.WITH_CREATOR)
+        Page<Group> findAll(Pageable pageable);
+
         // Find groups by exact name (for validation)
         List<Group> findByName(String name);
 
+        // ========== CHANGE VERSION ==========
+
+        // Bump the group's change version; runs in the transaction of the write
+        @Modifying
+        @Query("UPDATE Group g SET g.changeVersion = g.changeVersion + 1 WHERE g.id = :groupId")
+        int incrementChangeVersion(@Param("groupId") Long groupId);
+
+        // Current change version, read by primary key without loading the group
+        @Query("SELECT g.changeVersion FROM Group g WHERE g.id = :groupId")
+        Optional<Long> findChangeVersion(@Param("groupId") Long groupId);
+
+        // Lock the group's row until the transaction ends; writers of rows derived
+        // from the group's expenses take it so they never interleave with a rebuild
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT g FROM Group g WHERE g.id = :groupId")
+        Optional<Group> lockById(@Param("groupId") Long groupId);
+
+        // ========== BALANCE EVENT STREAM ==========
+
+        @Query("SELECT new com.dasa.splitspends.dto.balance.BalanceStreamState(" +
+                        "g.lastBalanceEventId, g.balanceEventsSinceSnapshot) FROM Group g WHERE g.id = :groupId")
+        BalanceStreamState findBalanceStreamState(@Param("groupId") Long groupId);
+
+        @Modifying
+        @Query("UPDATE Group g SET g.lastBalanceEventId = :lastEventId, " +
+                        "g.balanceEventsSinceSnapshot = :eventsSinceSnapshot WHERE g.id = :groupId")
+        int updateBalanceStreamState(@Param("groupId") Long groupId, @Param("lastEventId") Long lastEventId,
+                        @Param("eventsSinceSnapshot") int eventsSinceSnapshot);
+
+        // ========== DELTA SYNC ==========
+
+        // Includes deleted groups, so members still receive their tombstone
+        @Query("SELECT g.id FROM Group g JOIN g.members m WHERE m.id = :userId")
+        List<Long> findGroupIdsByMemberId(@Param("userId") Long userId);
+
+        @Query("SELECT new com.dasa.splitspends.dto.sync.GroupSyncView(" +
+                        "g.id, g.name, g.description, g.defaultCurrency, g.status, g.deletedAt, g.changeSeq) " +
+                        "FROM Group g WHERE g.id IN :groupIds AND g.changeSeq > :after ORDER BY g.changeSeq")
+        List<GroupSyncView> findSyncViews(@Param("groupIds") Collection<Long> groupIds,
+                        @Param("after") long after, Pageable pageable);
+
+        @Query("SELECT new com.dasa.splitspends.dto.sync.GroupMemberView(g.id, m.id, m.name) " +
+                        "FROM Group g JOIN g.members m WHERE g.id IN :groupIds ORDER BY g.id, m.id")
+        List<GroupMemberView> findMemberViews(@Param("groupIds") Collection<Long> groupIds);
+
+        // Membership changes leave the groups row untouched, so they stamp it here
+        @Modifying
+        @Query("UPDATE Group g SET g.changeSeq = :changeSeq WHERE g.id = :groupId")
+        int stampChangeSeq(@Param("groupId") Long groupId, @Param("changeSeq") long changeSeq);
+
         // ========== MUTUAL GROUP QUERIES ==========
 
         // Find mutual groups between two users
@@ -58,6 +128,14 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
         // Count groups by status (for super admin)
         Long countByStatusAndDeletedAtIsNull(Group.GroupStatus status);
 
+        // All group IDs (for batch maintenance jobs)
+        @Query("SELECT g.id FROM Group g ORDER BY g.id")
+        List<Long> findAllIds();
+
+        // (id, name, defaultCurrency) rows for a set of groups, without loading entities
+        @Query("SELECT g.id, g.name, g.defaultCurrency FROM Group g WHERE g.id IN :ids")
+        List<Object[]> findNamesByIds(@Param("ids") Collection<Long> ids);
+
         // Get groups with most members (for recommendations)
         @Query("SELECT g FROM Group g ORDER BY SIZE(g.members) DESC")
         List<Group> findGroupsOrderedByMemberCount();
@@ -72,6 +150,10 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
                         "FROM Group g JOIN g.members m WHERE g.id = :groupId AND m.id = :userId")
         boolean isUserMemberOfGroup(@Param("groupId") Long groupId, @Param("userId") Long userId);
 
+        // IDs of every member of a group (bulk validation without loading users)
+        @Query("SELECT m.id FROM Group g JOIN g.members m WHERE g.id = :groupId")
+        Set<Long> findMemberIds(@Param("groupId") Long groupId);
+
         // ========== ADMIN & MANAGEMENT QUERIES ==========
 
         // Find groups with specific member count
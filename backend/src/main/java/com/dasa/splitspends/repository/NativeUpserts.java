@@ -0,0 +1,26 @@
+package com.dasa.splitspends.repository;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Helpers for the counter tables that are written with a single upsert.
+ *
+ * PostgreSQL gets {@code INSERT ... ON CONFLICT DO UPDATE}, which is atomic
+ * against a concurrent first insert of the same key. Other databases (the H2
+ * test and QA setups) get the equivalent standard {@code MERGE}.
+ */
+final class NativeUpserts {
+
+    private NativeUpserts() {
+    }
+
+    static boolean isPostgres(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.dasa.splitspends.dto.sync.NotificationSyncView;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.Notification;
@@ -57,6 +58,25 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId ORDER BY n.createdAt DESC")
         Page<Notification> findByRecipientIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+        /**
+         * First page of a user's notification feed, newest first
+         */
+        @Query("SELECT n FROM Notification n JOIN FETCH n.recipient WHERE n.recipient.id = :userId " +
+                        "ORDER BY n.createdAt DESC, n.id DESC")
+        List<Notification> findFeedByRecipientId(@Param("userId") Long userId, Pageable pageable);
+
+        /**
+         * Next page of a user's notification feed, strictly before the
+         * (createdAt, id) cursor
+         */
+        @Query("SELECT n FROM Notification n JOIN FETCH n.recipient WHERE n.recipient.id = :userId " +
+                        "AND (n.createdAt < :beforeCreatedAt OR (n.createdAt = :beforeCreatedAt AND n.id < :beforeId)) " +
+                        "ORDER BY n.createdAt DESC, n.id DESC")
+        List<Notification> findFeedByRecipientIdBefore(@Param("userId") Long userId,
+                        @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                        @Param("beforeId") Long beforeId,
+                        Pageable pageable);
+
         /**
          * Find notifications by type
          */
@@ -220,6 +240,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         List<Notification> findNonExpiredByUser(@Param("user") User user);
 
         // ========== BULK OPERATIONS ==========
+        // Bulk updates bypass the change sequence, so delta sync does not see them
 
         /**
          * Mark all notifications as read for a user
@@ -309,4 +330,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
         List<Notification> findActivityFeedNotifications(@Param("user") User user,
                         @Param("recentThreshold") LocalDateTime recentThreshold);
 
+        // ========== DELTA SYNC ==========
+
+        /**
+         * A user's notifications created or changed after a change sequence value
+         */
+        @Query("SELECT new com.dasa.splitspends.dto.sync.NotificationSyncView(" +
+                        "n.id, n.type, n.title, n.message, n.isRead, n.group.id, n.createdAt, n.changeSeq) " +
+                        "FROM Notification n WHERE n.recipient.id = :userId AND n.changeSeq > :after " +
+                        "ORDER BY n.changeSeq")
+        List<NotificationSyncView> findSyncViews(@Param("userId") Long userId, @Param("after") long after,
+                        Pageable pageable);
 }
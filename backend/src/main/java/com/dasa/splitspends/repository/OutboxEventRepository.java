@@ -0,0 +1,37 @@
+package com.dasa.splitspends.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dasa.splitspends.entity.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Next page of unprocessed events after the ID cursor, locked for this
+    // transaction; rows held by another dispatcher are skipped (see
+    // RecurringExpenseRepository#SKIP_LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = RecurringExpenseRepository.SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.attempts < :maxAttempts " +
+            "AND e.id > :afterId ORDER BY e.id")
+    List<OutboxEvent> claimPending(@Param("maxAttempts") int maxAttempts, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    long countByProcessedAtIsNull();
+
+    // Housekeeping: processed events are only kept for inspection
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,51 @@
+package com.dasa.splitspends.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dasa.splitspends.entity.RecurringExpense;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface RecurringExpenseRepository extends JpaRepository<RecurringExpense, Long> {
+
+    // Lock timeout -2 is Hibernate's SKIP LOCKED: rows claimed by another node
+    // are left out instead of waited on
+    String SKIP_LOCKED = "-2";
+
+    // First page of due templates, locked for this transaction
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT r FROM RecurringExpense r WHERE r.active = true AND r.nextRunAt <= :now " +
+            "ORDER BY r.nextRunAt, r.id")
+    List<RecurringExpense> claimDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Next page of due templates after the (nextRunAt, id) keyset cursor
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT r FROM RecurringExpense r WHERE r.active = true AND r.nextRunAt <= :now " +
+            "AND (r.nextRunAt > :afterRunAt OR (r.nextRunAt = :afterRunAt AND r.id > :afterId)) " +
+            "ORDER BY r.nextRunAt, r.id")
+    List<RecurringExpense> claimDueAfter(@Param("now") LocalDateTime now,
+            @Param("afterRunAt") LocalDateTime afterRunAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // One template if it is still due, locked for this transaction; empty when
+    // another node holds it (used to retry a failed page one template at a time)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT r FROM RecurringExpense r WHERE r.id = :id AND r.active = true AND r.nextRunAt <= :now")
+    Optional<RecurringExpense> claimDueById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    List<RecurringExpense> findByGroupIdOrderByNextRunAt(Long groupId);
+}
@@ -3,6 +3,7 @@ package com.dasa.splitspends.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.dasa.splitspends.dto.sync.SettlementSyncView;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.SettleUp;
 import com.dasa.splitspends.entity.User;
@@ -56,6 +58,30 @@ public interface SettleUpRepository extends JpaRepository<SettleUp, Long> {
         List<SettleUp> findRecentByGroup(@Param("group") Group group,
                         org.springframework.data.domain.Pageable pageable);
 
+        /**
+         * First page of a group's settlement feed, newest first, with the
+         * users and group the response needs
+         */
+        @Query("SELECT s FROM SettleUp s JOIN FETCH s.group JOIN FETCH s.payer JOIN FETCH s.payee " +
+                        "LEFT JOIN FETCH s.confirmedBy " +
+                        "WHERE s.group.id = :groupId ORDER BY s.createdAt DESC, s.id DESC")
+        List<SettleUp> findFeedByGroupId(@Param("groupId") Long groupId,
+                        org.springframework.data.domain.Pageable pageable);
+
+        /**
+         * Next page of a group's settlement feed, strictly before the
+         * (createdAt, id) cursor
+         */
+        @Query("SELECT s FROM SettleUp s JOIN FETCH s.group JOIN FETCH s.payer JOIN FETCH s.payee " +
+                        "LEFT JOIN FETCH s.confirmedBy " +
+                        "WHERE s.group.id = :groupId " +
+                        "AND (s.createdAt < :beforeCreatedAt OR (s.createdAt = :beforeCreatedAt AND s.id < :beforeId)) " +
+                        "ORDER BY s.createdAt DESC, s.id DESC")
+        List<SettleUp> findFeedByGroupIdBefore(@Param("groupId") Long groupId,
+                        @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                        @Param("beforeId") Long beforeId,
+                        org.springframework.data.domain.Pageable pageable);
+
         // ========== BASIC QUERIES ==========
 
         /**
@@ -138,6 +164,41 @@ public interface SettleUpRepository extends JpaRepository<SettleUp, Long> {
                         @Param("user1") User user1,
                         @Param("user2") User user2);
 
+        /**
+         * Sum confirmed settlements paid per user in a group (ledger rebuild)
+         */
+        @Query("SELECT s.payer.id, COALESCE(SUM(ROUND(s.amount * s.exchangeRate, 2)), 0) " +
+                        "FROM SettleUp s WHERE s.group.id = :groupId AND s.status IN ('CONFIRMED', 'COMPLETED') " +
+                        "GROUP BY s.payer.id")
+        List<Object[]> sumConfirmedPaidByUserInGroup(@Param("groupId") Long groupId);
+
+        /**
+         * Sum confirmed settlements received per user in a group (ledger rebuild)
+         */
+        @Query("SELECT s.payee.id, COALESCE(SUM(ROUND(s.amount * s.exchangeRate, 2)), 0) " +
+                        "FROM SettleUp s WHERE s.group.id = :groupId AND s.status IN ('CONFIRMED', 'COMPLETED') " +
+                        "GROUP BY s.payee.id")
+        List<Object[]> sumConfirmedReceivedByUserInGroup(@Param("groupId") Long groupId);
+
+        /**
+         * Sum confirmed settlements per (payer, payee) pair in a group (balance matrix)
+         */
+        @Query("SELECT s.payer.id, s.payee.id, SUM(ROUND(s.amount * s.exchangeRate, 2)) " +
+                        "FROM SettleUp s WHERE s.group.id = :groupId AND s.status IN ('CONFIRMED', 'COMPLETED') " +
+                        "GROUP BY s.payer.id, s.payee.id")
+        List<Object[]> sumConfirmedByPairInGroup(@Param("groupId") Long groupId);
+
+        /**
+         * Sum confirmed settlements involving a user as (groupId, payerId, payeeId,
+         * amount) (balance summary)
+         */
+        @Query("SELECT s.group.id, s.payer.id, s.payee.id, SUM(ROUND(s.amount * s.exchangeRate, 2)) " +
+                        "FROM SettleUp s " +
+                        "WHERE (s.payer.id = :userId OR s.payee.id = :userId) " +
+                        "AND s.status IN ('CONFIRMED', 'COMPLETED') " +
+                        "GROUP BY s.group.id, s.payer.id, s.payee.id")
+        List<Object[]> sumConfirmedInvolvingUserByGroup(@Param("userId") Long userId);
+
         // ========== AMOUNT-BASED QUERIES ==========
 
         /**
@@ -262,4 +323,16 @@ public interface SettleUpRepository extends JpaRepository<SettleUp, Long> {
                         "AND (s.payer = :user OR s.payee = :user) " +
                         "ORDER BY s.createdAt DESC")
         List<SettleUp> getUserSettlementSummaryInGroup(@Param("group") Group group, @Param("user") User user);
+
+        // ========== DELTA SYNC ==========
+
+        /**
+         * Settlements in the given groups changed after a change sequence value
+         */
+        @Query("SELECT new com.dasa.splitspends.dto.sync.SettlementSyncView(" +
+                        "s.id, s.group.id, s.payer.id, s.payee.id, s.amount, s.currency, s.status, " +
+                        "s.paymentMethod, s.description, s.createdAt, s.changeSeq) " +
+                        "FROM SettleUp s WHERE s.group.id IN :groupIds AND s.changeSeq > :after ORDER BY s.changeSeq")
+        List<SettlementSyncView> findSyncViews(@Param("groupIds") Collection<Long> groupIds,
+                        @Param("after") long after, Pageable pageable);
 }
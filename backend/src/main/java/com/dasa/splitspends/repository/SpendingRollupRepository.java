@@ -0,0 +1,37 @@
+package com.dasa.splitspends.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dasa.splitspends.dto.expense.SpendingRollupView;
+import com.dasa.splitspends.entity.SpendingRollup;
+
+public interface SpendingRollupRepository extends JpaRepository<SpendingRollup, Long>, SpendingRollupRepositoryCustom {
+
+    // ========== REPORTING ==========
+
+    // Non-empty rollups of a group between two months (inclusive), optionally
+    // for one member (range scan on group_id, month_start)
+    @Query("SELECT new com.dasa.splitspends.dto.expense.SpendingRollupView(" +
+            "r.monthStart, r.user.id, r.category, r.totalAmount, r.expenseCount) " +
+            "FROM SpendingRollup r WHERE r.group.id = :groupId " +
+            "AND r.monthStart BETWEEN :fromMonth AND :toMonth " +
+            "AND (:userId IS NULL OR r.user.id = :userId) AND r.expenseCount > 0 " +
+            "ORDER BY r.monthStart, r.category, r.user.id")
+    List<SpendingRollupView> findGroupSpending(@Param("groupId") Long groupId,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("userId") Long userId);
+
+    // ========== REBUILD ==========
+
+    // Drop every rollup row of a group before it is recomputed
+    @Modifying
+    @Query("DELETE FROM SpendingRollup r WHERE r.group.id = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,14 @@
+package com.dasa.splitspends.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.dasa.splitspends.entity.Expense;
+
+public interface SpendingRollupRepositoryCustom {
+
+    // Add a delta to a member's rollup row for one category and month, creating
+    // the row on its first entry; concurrent first writes cannot collide
+    void upsertDelta(Long groupId, Long userId, Expense.ExpenseCategory category, LocalDate monthStart,
+            BigDecimal amountDelta, int countDelta);
+}
@@ -0,0 +1,50 @@
+package com.dasa.splitspends.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.dasa.splitspends.entity.Expense;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class SpendingRollupRepositoryCustomImpl implements SpendingRollupRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT = "INSERT INTO spending_rollups "
+            + "(group_id, user_id, category, month_start, total_amount, expense_count, updated_at) "
+            + "VALUES (:groupId, :userId, :category, :monthStart, :amountDelta, :countDelta, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (group_id, user_id, category, month_start) DO UPDATE SET "
+            + "total_amount = spending_rollups.total_amount + EXCLUDED.total_amount, "
+            + "expense_count = spending_rollups.expense_count + EXCLUDED.expense_count, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    private static final String MERGE = "MERGE INTO spending_rollups r "
+            + "USING (SELECT CAST(:groupId AS BIGINT) AS group_id, CAST(:userId AS BIGINT) AS user_id, "
+            + "CAST(:category AS VARCHAR(30)) AS category, CAST(:monthStart AS DATE) AS month_start) s "
+            + "ON (r.group_id = s.group_id AND r.user_id = s.user_id AND r.category = s.category "
+            + "AND r.month_start = s.month_start) "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + "total_amount = r.total_amount + :amountDelta, "
+            + "expense_count = r.expense_count + :countDelta, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(group_id, user_id, category, month_start, total_amount, expense_count, updated_at) "
+            + "VALUES (s.group_id, s.user_id, s.category, s.month_start, :amountDelta, :countDelta, "
+            + "CURRENT_TIMESTAMP)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsertDelta(Long groupId, Long userId, Expense.ExpenseCategory category, LocalDate monthStart,
+            BigDecimal amountDelta, int countDelta) {
+        entityManager.createNativeQuery(NativeUpserts.isPostgres(entityManager) ? POSTGRES_UPSERT : MERGE)
+                .setParameter("groupId", groupId)
+                .setParameter("userId", userId)
+                .setParameter("category", category.name())
+                .setParameter("monthStart", monthStart)
+                .setParameter("amountDelta", amountDelta)
+                .setParameter("countDelta", countDelta)
+                .executeUpdate();
+    }
+}
@@ -1,5 +1,6 @@
 package com.dasa.splitspends.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,11 +25,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // ========== USER SEARCH & DISCOVERY ==========
 
-    // Search users by name or email (for adding to groups)
-    List<User> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
-
-    // Search users by name or email with pagination (for super admin)
-    Page<User> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email, Pageable pageable);
+    // Search active users by name or email; the patterns come from
+    // SearchText#pattern and SearchText#emailPattern and are matched against
+    // the folded search columns
+    @Query("SELECT u FROM User u WHERE u.accountStatus = 'ACTIVE' AND u.deletedAt IS NULL " +
+            "AND (u.searchText LIKE :pattern ESCAPE '!' OR u.searchEmail LIKE :emailPattern ESCAPE '!') " +
+            "ORDER BY u.name, u.id")
+    List<User> searchActiveUsers(@Param("pattern") String pattern, @Param("emailPattern") String emailPattern,
+            Pageable pageable);
+
+    // Search all users by name or email with pagination (for super admin)
+    @Query(value = "SELECT u FROM User u WHERE u.searchText LIKE :pattern ESCAPE '!' " +
+            "OR u.searchEmail LIKE :emailPattern ESCAPE '!'",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.searchText LIKE :pattern ESCAPE '!' " +
+                    "OR u.searchEmail LIKE :emailPattern ESCAPE '!'")
+    Page<User> searchUsers(@Param("pattern") String pattern, @Param("emailPattern") String emailPattern,
+            Pageable pageable);
 
     // Find users by name only (alternative search)
     List<User> findByNameContainingIgnoreCase(String name);
@@ -49,17 +61,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // ========== GROUP RELATIONSHIP QUERIES ==========
 
-    // Find users who are NOT members of a specific group (for invitations)
+    // Find active users matching a search pattern who are NOT members of a
+    // specific group (for invitations); members are excluded with an anti-join
+    // on the membership table instead of materializing the member list
     @Query("SELECT u FROM User u WHERE u.accountStatus = 'ACTIVE' AND u.deletedAt IS NULL " +
-            "AND (LOWER(u.name) LIKE LOWER(CONCAT('%', :searchQuery, '%')) " +
-            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :searchQuery, '%'))) " +
-            "AND u NOT IN (SELECT m FROM Group g JOIN g.members m WHERE g = :group)")
-    List<User> findUsersNotInGroup(@Param("searchQuery") String searchQuery, @Param("group") Group group);
+            "AND (u.searchText LIKE :pattern ESCAPE '!' OR u.searchEmail LIKE :emailPattern ESCAPE '!') " +
+            "AND NOT EXISTS (SELECT 1 FROM Group g JOIN g.members m WHERE g.id = :groupId AND m.id = u.id) " +
+            "ORDER BY u.name, u.id")
+    List<User> findUsersNotInGroup(@Param("pattern") String pattern, @Param("emailPattern") String emailPattern,
+            @Param("groupId") Long groupId, Pageable pageable);
 
     // Find users who are members of a specific group
     @Query("SELECT u FROM User u JOIN u.groups g WHERE g = :group")
     List<User> findByGroupMembership(@Param("group") Group group);
 
+    // (id, name) pairs for a set of users, without loading entities
+    @Query("SELECT u.id, u.name FROM User u WHERE u.id IN :ids")
+    List<Object[]> findNamesByIds(@Param("ids") Collection<Long> ids);
+
     // ========== STATISTICS & ANALYTICS ==========
 
     // Count active users
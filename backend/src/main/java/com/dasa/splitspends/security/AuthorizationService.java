@@ -11,7 +11,9 @@ import org.springframework.stereotype.Service;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ExpenseRepository;
 import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.RecurringExpenseRepository;
 import com.dasa.splitspends.repository.UserRepository;
 
 /**
@@ -56,6 +58,12 @@ public class AuthorizationService {
     @Autowired
     private GroupRepository groupRepository;
 
+    @Autowired
+    private RecurringExpenseRepository recurringExpenseRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
     // ========== CURRENT USER UTILITIES ==========
 
     /**
@@ -328,6 +336,16 @@ public class AuthorizationService {
         return isGroupAdmin(expense.getGroup().getId(), currentUser.getId());
     }
 
+    /**
+     * Check if current user can modify the expense with the given ID
+     * Rules: Same as canModifyExpense; false if the expense does not exist
+     */
+    public boolean canModifyExpense(Long expenseId) {
+        return expenseRepository.findById(expenseId)
+                .map(this::canModifyExpense)
+                .orElse(false);
+    }
+
     /**
      * Check if current user can delete expense
      * Rules: Expense creator OR group admin
@@ -336,6 +354,19 @@ public class AuthorizationService {
         return canModifyExpense(expense); // Same rules as modify
     }
 
+    /**
+     * Check if current user can pause, resume or delete a recurring expense
+     * Rules: Template creator OR group admin
+     */
+    public boolean canModifyRecurringExpense(Long groupId, Long recurringExpenseId) {
+        Long currentUserId = getCurrentUserId();
+        boolean creator = recurringExpenseRepository.findById(recurringExpenseId)
+                .map(template -> template.getGroup().getId().equals(groupId)
+                        && template.getCreatedBy().getId().equals(currentUserId))
+                .orElse(false);
+        return creator || isGroupAdmin(groupId, currentUserId);
+    }
+
     // ========== STATISTICS AND REPORTS ==========
 
     /**
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.ActivityLog;
 import com.dasa.splitspends.entity.Attachment;
 import com.dasa.splitspends.entity.Expense;
@@ -78,6 +79,8 @@ public interface ActivityLogService {
     Page<ActivityLog> getActivityLogsForUser(User user, Pageable pageable);
     Page<ActivityLog> getActivityLogsForGroup(Group group, Pageable pageable);
     List<ActivityLog> getGroupActivityFeed(Group group, int days);
+    // Keyset page, newest first; cursor is the previous page's nextCursor or null
+    CursorPage<ActivityLog> getGroupActivityPage(Long groupId, String cursor, int limit);
     List<ActivityLog> getRecentActivitiesForUser(User user, int days);
     List<ActivityLog> getEntityTimeline(ActivityLog.EntityType entityType, Long entityId);
     List<ActivityLog> getUserLoginHistory(User user);
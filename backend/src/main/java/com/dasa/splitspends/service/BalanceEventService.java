@@ -0,0 +1,42 @@
+package com.dasa.splitspends.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.dasa.splitspends.dto.balance.BalanceHistoryResponse;
+import com.dasa.splitspends.entity.BalanceEvent;
+
+/**
+ * Append-only stream of balance changes with periodic per-group snapshots.
+ */
+public interface BalanceEventService {
+
+    /**
+     * Append one event per affected member and take a new snapshot once the
+     * configured number of events has accumulated since the last one. Holds
+     * the group's row lock until the transaction ends.
+     *
+     * @param groupId    the group ID
+     * @param eventType  what caused the change
+     * @param sourceType whether the source is an expense or a settlement
+     * @param sourceId   the expense or settlement ID
+     * @param deltas     net balance change per user ID
+     */
+    void append(Long groupId, BalanceEvent.EventType eventType, BalanceEvent.SourceType sourceType,
+            Long sourceId, Map<Long, BigDecimal> deltas);
+
+    /**
+     * Net balance per user of a group from the latest snapshot plus the events
+     * recorded after it.
+     */
+    Map<Long, BigDecimal> getGroupBalances(Long groupId);
+
+    /**
+     * Net balance per user of a group as it was at a point in time.
+     *
+     * @param groupId the group ID
+     * @param asOf    point in time, or null for the current balances
+     */
+    BalanceHistoryResponse getGroupBalancesAsOf(Long groupId, LocalDateTime asOf);
+}
@@ -0,0 +1,70 @@
+package com.dasa.splitspends.service;
+
+import java.util.List;
+
+import com.dasa.splitspends.dto.balance.LedgerRebuildReport;
+import com.dasa.splitspends.entity.BalanceEvent;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.SettleUp;
+
+/**
+ * Maintains the per-group member balance ledger ({@code group_member_balances}).
+ *
+ * All write methods are expected to run inside the caller's transaction so the
+ * ledger never drifts from the expense and settlement rows it summarises. Each
+ * write is also appended to the balance event stream.
+ */
+public interface BalanceLedgerService {
+
+    /**
+     * Add an expense (payer and all splits) to the ledger.
+     *
+     * @param expense   the persisted expense with its splits
+     * @param eventType EXPENSE_CREATED, or EXPENSE_UPDATED after a reversal
+     */
+    void recordExpense(Expense expense, BalanceEvent.EventType eventType);
+
+    /**
+     * Remove an expense's current amounts from the ledger. Call before the
+     * expense is modified or deleted.
+     *
+     * @param expense   the expense with its current splits
+     * @param eventType EXPENSE_UPDATED or EXPENSE_DELETED
+     */
+    void reverseExpense(Expense expense, BalanceEvent.EventType eventType);
+
+    /**
+     * Add a batch of newly imported expenses of one group to the ledger with a
+     * single delta per member, recorded as one EXPENSES_IMPORTED event set.
+     *
+     * @param groupId  the group all expenses belong to
+     * @param expenses the persisted expenses with their splits
+     */
+    void recordImportedExpenses(Long groupId, List<Expense> expenses);
+
+    /**
+     * Apply a confirmed settlement to the payer and payee rows.
+     *
+     * @param settlement the confirmed settlement
+     */
+    void recordSettlement(SettleUp settlement);
+
+    /**
+     * Recompute a group's ledger from expense splits and settlements and compare
+     * it with the stored rows. Corrections are also appended to the balance
+     * event stream.
+     *
+     * @param groupId the group ID
+     * @param dryRun  when true, only report mismatches without fixing them
+     * @return report of rows checked and mismatches found
+     */
+    LedgerRebuildReport rebuildGroup(Long groupId, boolean dryRun);
+
+    /**
+     * Rebuild the ledger of every group, each in its own transaction.
+     *
+     * @param dryRun when true, only report mismatches without fixing them
+     * @return one report per group that had mismatches
+     */
+    List<LedgerRebuildReport> rebuildAllGroups(boolean dryRun);
+}
@@ -0,0 +1,29 @@
+package com.dasa.splitspends.service;
+
+import com.dasa.splitspends.dto.balance.BalanceMatrixResponse;
+import com.dasa.splitspends.dto.balance.UserBalanceSummaryResponse;
+
+/**
+ * Read-only balance views computed from grouped aggregates, without loading
+ * expense or settlement entities.
+ */
+public interface BalanceReportService {
+
+    /**
+     * Build the pairwise balance matrix of a group: expense shares owed to each
+     * payer, minus confirmed settlements, netted per pair of users.
+     *
+     * @param groupId the group ID
+     * @return sparse matrix with only non-zero cells
+     */
+    BalanceMatrixResponse getBalanceMatrix(Long groupId);
+
+    /**
+     * Summarise a user's net position across every group, broken down per
+     * group and per counterparty.
+     *
+     * @param userId the user ID
+     * @return per-group and per-counterparty net positions, non-zero only
+     */
+    UserBalanceSummaryResponse getUserBalanceSummary(Long userId);
+}
@@ -0,0 +1,35 @@
+package com.dasa.splitspends.service;
+
+import java.io.InputStream;
+
+import com.dasa.splitspends.dto.expense.ExpenseImportReport;
+
+/**
+ * Bulk import of equally split expenses into a group.
+ *
+ * CSV files need a header row with the columns {@code description},
+ * {@code amount}, {@code paidByUserId} and {@code participantUserIds}
+ * (IDs separated by {@code ;}), plus optional {@code date},
+ * {@code category} and {@code currency} (the group currency when blank; other
+ * currencies are converted at the rate of the import day). NDJSON lines use the same names as JSON fields, with
+ * {@code participantUserIds} as an array.
+ */
+public interface ExpenseImportService {
+
+    enum ImportFormat {
+        CSV, NDJSON
+    }
+
+    /**
+     * Stream rows from the input and write valid ones in batches. Invalid rows
+     * are skipped and reported; each batch commits on its own.
+     *
+     * @param groupId          the group to import into
+     * @param importedByUserId the user recorded as creator of every expense
+     * @param input            the file content, read line by line
+     * @param format           CSV or NDJSON
+     * @return counts and per-row errors
+     */
+    ExpenseImportReport importExpenses(Long groupId, Long importedByUserId, InputStream input,
+            ImportFormat format);
+}
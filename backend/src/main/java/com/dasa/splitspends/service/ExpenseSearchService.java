@@ -0,0 +1,35 @@
+package com.dasa.splitspends.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+
+/**
+ * Full-text search over a group's expenses. Each group gets an in-memory
+ * inverted index of expense descriptions, notes and categories, built once on
+ * first use. An expense write that commits on this instance is applied to the
+ * index in place; a batch write (import, recurring postings) drops it for a
+ * rebuild. Before each search the index reads the group's changes past the
+ * last one it has seen, which picks up most writes from other instances;
+ * one that commits out of change order shows up once the index expires
+ * (app.search.ttl-minutes).
+ */
+public interface ExpenseSearchService {
+
+    /**
+     * Expenses of a group matching every word of the query, best match
+     * first. The last word also matches as a prefix. Deleted expenses are
+     * never returned.
+     *
+     * @param groupId  the group to search
+     * @param query    words to look for
+     * @param pageable page of the ranked results
+     */
+    Page<ExpenseSummaryView> searchGroupExpenses(Long groupId, String query, Pageable pageable);
+
+    /**
+     * Drop a group's index; the next search rebuilds it from the database.
+     */
+    void evictGroup(Long groupId);
+}
@@ -9,8 +9,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.dasa.splitspends.dto.CursorPage;
+import com.dasa.splitspends.dto.expense.ExpenseDetailView;
 import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
 import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
 import com.dasa.splitspends.entity.User;
 
 public interface ExpenseService {
@@ -81,18 +85,73 @@ public interface ExpenseService {
                         Map<Long, Integer> userShareMap, Expense.ExpenseCategory category);
 
         /**
-         * Update an existing expense.
+         * Create a new expense split by any supported split type.
+         *
+         * @param groupId      the group ID
+         * @param paidByUserId the user who paid
+         * @param description  expense description
+         * @param amount       total expense amount
+         * @param splitType    how the amount is divided
+         * @param userValueMap map of user ID to the value the split type expects
+         *                     (ignored for EQUAL; amount for EXACT_AMOUNT,
+         *                     ADJUSTMENT and ITEMIZED; percentage; or shares)
+         * @param category     expense category
+         * @return the created Expense
+         */
+        Expense createExpenseWithSplits(Long groupId, Long paidByUserId, String description, BigDecimal amount,
+                        ExpenseSplit.SplitType splitType, Map<Long, BigDecimal> userValueMap,
+                        Expense.ExpenseCategory category);
+
+        /**
+         * Create a new expense split by any supported split type, paid in a
+         * currency other than the group's. The exchange rate to the group
+         * currency is captured now and stored on the expense.
+         *
+         * @param currency ISO currency code, or null for the group currency
+         * @throws IllegalArgumentException if the currency has no exchange rate
+         * @see #createExpenseWithSplits(Long, Long, String, BigDecimal,
+         *      ExpenseSplit.SplitType, Map, Expense.ExpenseCategory)
+         */
+        Expense createExpenseWithSplits(Long groupId, Long paidByUserId, String description, BigDecimal amount,
+                        ExpenseSplit.SplitType splitType, Map<Long, BigDecimal> userValueMap,
+                        Expense.ExpenseCategory category, String currency);
+
+        /**
+         * Update an existing expense. If the amount changes, the current splits
+         * are rescaled and only the rows whose share moves are written.
          * 
-         * @param expenseId   the expense ID
-         * @param description new description
-         * @param amount      new amount
-         * @param category    new category
-         * @param notes       update notes
-         * @param updatedBy   the user making the update
+         * @param expenseId       the expense ID
+         * @param description     new description
+         * @param amount          new amount
+         * @param category        new category
+         * @param notes           update notes
+         * @param updatedBy       the user making the update
+         * @param expectedVersion version the client last read, or null to skip
+         *                        the check
          * @return the updated Expense
+         * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if
+         *         the expense changed since that version
          */
         Expense updateExpense(Long expenseId, String description, BigDecimal amount, Expense.ExpenseCategory category,
-                        String notes, User updatedBy);
+                        String notes, User updatedBy, Long expectedVersion);
+
+        /**
+         * Replace how an expense is split. Existing splits are diffed against the
+         * new allocation: unchanged rows are left alone, changed rows updated, and
+         * rows are only inserted or deleted for participants added or removed.
+         *
+         * @param expenseId       the expense ID
+         * @param splitType       how the amount is divided
+         * @param userValueMap    map of user ID to the value the split type expects
+         * @param updatedBy       the user making the update
+         * @param expectedVersion version the client last read, or null to skip
+         *                        the check
+         * @return the updated Expense
+         * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if
+         *         the expense changed since that version
+         */
+        Expense updateExpenseSplits(Long expenseId, ExpenseSplit.SplitType splitType,
+                        Map<Long, BigDecimal> userValueMap, User updatedBy, Long expectedVersion);
 
         /**
          * Delete an expense (soft delete).
@@ -103,31 +162,48 @@ public interface ExpenseService {
         void deleteExpense(Long expenseId, User deletedBy);
 
         /**
-         * Get paginated expenses for a group.
+         * Get paginated expenses for a group, newest first, excluding deleted
+         * ones. Rows are projected straight from the database.
          * 
          * @param groupId  the group ID
          * @param pageable pagination info
-         * @return page of expenses
+         * @return page of expense summaries
          */
-        Page<Expense> getGroupExpenses(Long groupId, Pageable pageable);
+        Page<ExpenseSummaryView> getGroupExpenses(Long groupId, Pageable pageable);
 
         /**
-         * Get all expenses involving a specific user.
+         * Get a page of the expenses involving a specific user, newest first,
+         * with their splits. The page, its count and the splits of its
+         * expenses take one query each.
          * 
-         * @param userId the user ID
-         * @return list of expenses
+         * @param userId   the user ID
+         * @param pageable pagination info
+         * @return page of expense details
          */
-        List<Expense> getUserExpenses(Long userId);
+        Page<ExpenseDetailView> getUserExpenses(Long userId, Pageable pageable);
 
         /**
          * Get recent expenses for a group (for activity feed).
          * 
          * @param groupId the group ID
-         * @param limit   max number of expenses
+         * @param limit   max number of expenses (capped at 100)
          * @return list of recent expenses
          */
         List<Expense> getRecentExpenses(Long groupId, int limit);
 
+        /**
+         * Get one page of a group's expense feed, newest first by date,
+         * excluding deleted expenses. Pages are read with a keyset predicate on
+         * {@code (date, id)}, so deep pages cost the same as the first.
+         * 
+         * @param groupId the group ID
+         * @param cursor  the {@code nextCursor} of the previous page, or null
+         *                for the first page
+         * @param limit   page size (capped at 100)
+         * @return the page and the cursor of the next one
+         */
+        CursorPage<ExpenseSummaryView> getGroupExpenseFeed(Long groupId, String cursor, int limit);
+
         /**
          * Add a receipt attachment to an expense.
          * 
@@ -0,0 +1,40 @@
+package com.dasa.splitspends.service;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.util.FxRateTable;
+
+/**
+ * Holds the current exchange rate table in memory. Rates are loaded from the
+ * configured rates file, or the {@code fx_rates} table when no file is set.
+ */
+public interface FxRateService {
+
+    /**
+     * The rate table currently in use; never hits the database.
+     */
+    FxRateTable getRateTable();
+
+    /**
+     * Convert an amount between currencies using the current rate table.
+     *
+     * @throws IllegalStateException if a currency has no rate
+     */
+    BigDecimal convert(BigDecimal amount, String fromCurrency, String toCurrency);
+
+    /**
+     * Rate to store on an expense or settlement recorded in {@code currency}
+     * for a group keeping its books in {@code groupCurrency}, at the scale of
+     * the {@code exchange_rate} columns.
+     *
+     * @throws IllegalArgumentException if the currency has no rate
+     */
+    BigDecimal captureRate(String currency, String groupCurrency);
+
+    /**
+     * Reload rates from the source and swap in a new table.
+     *
+     * @return the newly loaded table
+     */
+    FxRateTable reload();
+}
@@ -0,0 +1,35 @@
+package com.dasa.splitspends.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.service.impl.GroupServiceImpl;
+import com.dasa.splitspends.util.BoundedTtlCache;
+
+/**
+ * Per-group cache for the read-heavy stats and balance endpoints. Entries are
+ * bounded in size and age, and evicted after any committed write to the group.
+ */
+public interface GroupReadCache {
+
+    GroupServiceImpl.GroupStats getGroupStats(Long groupId, Supplier<GroupServiceImpl.GroupStats> loader);
+
+    List<GroupServiceImpl.UserBalance> getGroupBalances(Long groupId,
+            Supplier<List<GroupServiceImpl.UserBalance>> loader);
+
+    ExpenseStats getExpenseStats(Long groupId, Supplier<ExpenseStats> loader);
+
+    /**
+     * Drop every cached entry of a group.
+     */
+    void evictGroup(Long groupId);
+
+    void evictAll();
+
+    /**
+     * Hit, miss and eviction counters per cache name.
+     */
+    Map<String, BoundedTtlCache.Stats> getStats();
+}
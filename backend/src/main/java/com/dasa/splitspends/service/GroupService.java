@@ -215,9 +215,10 @@ public interface GroupService {
          * 
          * @param groupId     the group ID
          * @param searchQuery the search query
+         * @param pageable    the page of results, by name
          * @return a list of User entities
          */
-        List<User> getUsersForInvitation(Long groupId, String searchQuery);
+        List<User> getUsersForInvitation(Long groupId, String searchQuery, Pageable pageable);
 
         // ========== SUPER ADMIN METHODS ==========
 
@@ -0,0 +1,23 @@
+package com.dasa.splitspends.service;
+
+/**
+ * Monotonic per-group change version used for conditional GETs. Every write
+ * to a group, its members (profiles included), expenses or settlements bumps
+ * it in the same transaction, so equal versions mean equal group data.
+ */
+public interface GroupVersionService {
+
+    /**
+     * Current version of a group, read with one primary-key lookup.
+     *
+     * @throws IllegalArgumentException if the group does not exist
+     */
+    long getVersion(Long groupId);
+
+    /**
+     * Strong ETag for the group's current version. Read it before building
+     * the response: a write that lands in between then only costs the client
+     * one extra full response, never a stale 304.
+     */
+    String getETag(Long groupId);
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.Invitation;
@@ -31,6 +32,13 @@ public interface NotificationService {
      */
     Page<Notification> getUserNotificationsPaginated(Long userId, Pageable pageable);
 
+    /**
+     * Get one page of a user's notifications, newest first, read with a
+     * keyset predicate on (createdAt, id). Pass the previous page's
+     * nextCursor, or null for the first page; limit is capped at 100.
+     */
+    CursorPage<Notification> getUserNotificationFeed(Long userId, String cursor, int limit);
+
     /**
      * Mark notification as read.
      */
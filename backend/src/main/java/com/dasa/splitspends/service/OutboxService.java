@@ -0,0 +1,35 @@
+package com.dasa.splitspends.service;
+
+import com.dasa.splitspends.entity.OutboxEvent;
+
+/**
+ * Transactional outbox for activity logs and notifications. Business writes
+ * record an event in their own transaction; a scheduled dispatcher hands
+ * committed events to {@link ActivityLogService} and
+ * {@link NotificationService}.
+ */
+public interface OutboxService {
+
+    /**
+     * Record an event in the caller's transaction, so it commits or rolls
+     * back with the business write. Must be called inside a transaction.
+     *
+     * @param eventType   what happened
+     * @param aggregateId the settlement or invitation ID
+     * @param actorId     the user who triggered it, or null
+     * @param detail      optional text for the consumer (e.g. a reason)
+     * @return the recorded event
+     */
+    OutboxEvent enqueue(OutboxEvent.EventType eventType, Long aggregateId, Long actorId, String detail);
+
+    /**
+     * Drain pending events in batches. Delivery is at least once: a batch
+     * that fails is retried event by event, and failing events are retried on
+     * later runs up to the configured number of attempts. The consumers'
+     * writes commit together with the processed mark, so a delivered event
+     * never takes effect twice.
+     *
+     * @return number of events processed
+     */
+    int dispatchPending();
+}
@@ -0,0 +1,40 @@
+package com.dasa.splitspends.service;
+
+import java.util.Map;
+
+/**
+ * Platform-wide totals for the admin dashboard, served from in-memory
+ * counters instead of counting tables on every request.
+ *
+ * Counters follow committed entity inserts, updates and deletes. Writes that
+ * bypass the entity lifecycle (bulk JPQL updates, manual fixes) are caught by
+ * a periodic reconciliation against the database.
+ */
+public interface PlatformMetricsService {
+
+    enum Metric {
+        USERS,
+        ACTIVE_USERS,
+        GROUPS,
+        ACTIVE_GROUPS,
+        EXPENSES,
+        SETTLEMENTS,
+        ATTACHMENTS
+    }
+
+    /**
+     * Current value of a counter, without touching the database once the
+     * counters have been reconciled for the first time.
+     *
+     * @param metric the counter to read
+     */
+    long get(Metric metric);
+
+    /**
+     * Recount every metric from the database and correct the counters. The
+     * first call only loads the counters and reports no drift.
+     *
+     * @return drift found per metric; metrics that matched are left out
+     */
+    Map<Metric, Long> reconcile();
+}
@@ -0,0 +1,50 @@
+package com.dasa.splitspends.service;
+
+import java.util.List;
+
+import com.dasa.splitspends.dto.expense.RecurringExpenseRequest;
+import com.dasa.splitspends.entity.RecurringExpense;
+
+/**
+ * Recurring expense templates and the scheduled job that posts them.
+ */
+public interface RecurringExpenseService {
+
+    /**
+     * Create a template. The split and participants are validated up front,
+     * and the first run is the first scheduled time at or after
+     * {@code startAt} (or now).
+     *
+     * @param groupId         the group ID
+     * @param createdByUserId the user creating the template
+     * @param request         template details
+     * @return the created template
+     */
+    RecurringExpense createRecurringExpense(Long groupId, Long createdByUserId, RecurringExpenseRequest request);
+
+    /**
+     * All templates of a group, soonest next run first.
+     */
+    List<RecurringExpense> getGroupRecurringExpenses(Long groupId);
+
+    /**
+     * Pause or resume a template. Resuming clears the last error; missed
+     * occurrences are still posted on the next run.
+     */
+    RecurringExpense setActive(Long groupId, Long recurringExpenseId, boolean active);
+
+    /**
+     * Delete a template. Expenses already posted from it are kept.
+     */
+    void deleteRecurringExpense(Long groupId, Long recurringExpenseId);
+
+    /**
+     * Post every due occurrence. Templates are claimed in keyset-ordered
+     * chunks with row locks that skip rows held by other nodes, and each
+     * chunk commits on its own, so concurrent runs never post an occurrence
+     * twice.
+     *
+     * @return number of expenses posted
+     */
+    int generateDueExpenses();
+}
@@ -3,14 +3,19 @@ package com.dasa.splitspends.service;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.SettleUp;
 
 public interface SettleUpService {
 
     /**
-     * Create a new settlement between two users.
+     * Create a new settlement between two users. A settlement paid in another
+     * currency stores the exchange rate to the group currency captured now.
+     *
+     * @param currency ISO currency code, or null for the group currency
+     * @throws IllegalArgumentException if the currency has no exchange rate
      */
-    SettleUp createSettlement(Long groupId, Long payerId, Long payeeId, BigDecimal amount, 
+    SettleUp createSettlement(Long groupId, Long payerId, Long payeeId, BigDecimal amount, String currency,
                             String description, SettleUp.PaymentMethod paymentMethod);
 
     /**
@@ -67,4 +72,11 @@ public interface SettleUpService {
      * Get recent settlements for activity feed.
      */
     List<SettleUp> getRecentSettlements(Long groupId, int limit);
+
+    /**
+     * Get one page of a group's settlements, newest first, read with a
+     * keyset predicate on {@code (createdAt, id)}. Pass the previous page's
+     * {@code nextCursor}, or null for the first page; limit is capped at 100.
+     */
+    CursorPage<SettleUp> getGroupSettlementFeed(Long groupId, String cursor, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.dasa.splitspends.service;
+
+import com.dasa.splitspends.dto.settlement.SettlementPlanResponse;
+
+public interface SettlementPlanService {
+
+    /**
+     * Compute the minimal list of payer to payee transfers that settles every
+     * member of a group, based on the group's current net balances.
+     */
+    SettlementPlanResponse getSettlementPlan(Long groupId);
+}
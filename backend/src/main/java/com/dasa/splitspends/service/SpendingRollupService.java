@@ -0,0 +1,72 @@
+package com.dasa.splitspends.service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.dasa.splitspends.dto.expense.SpendingRollupView;
+import com.dasa.splitspends.entity.Expense;
+
+/**
+ * Maintains the monthly spending rollups ({@code spending_rollups}): one row
+ * per group, member, category and calendar month holding the member's shares
+ * of active expenses dated in that month.
+ *
+ * Like the balance ledger, write methods run inside the caller's transaction.
+ * An edit is applied as a reversal of the expense as it was followed by a
+ * record of the expense as it is, so an edit to an old expense corrects the
+ * month it is dated in, whenever it happens.
+ */
+public interface SpendingRollupService {
+
+    /**
+     * Add an expense's shares to the rollups of the month it is dated in.
+     *
+     * @param expense the persisted expense with its splits
+     */
+    void recordExpense(Expense expense);
+
+    /**
+     * Remove an expense's current shares from the rollups. Call before the
+     * expense is modified or deleted.
+     *
+     * @param expense the expense with its current splits
+     */
+    void reverseExpense(Expense expense);
+
+    /**
+     * Add a batch of newly imported expenses of one group with a single delta
+     * per rollup row.
+     *
+     * @param groupId  the group all expenses belong to
+     * @param expenses the persisted expenses with their splits
+     */
+    void recordImportedExpenses(Long groupId, List<Expense> expenses);
+
+    /**
+     * Spending of a group per month, category and member, read from the
+     * rollups only.
+     *
+     * @param groupId the group ID
+     * @param from    first month, defaults to eleven months before {@code to}
+     * @param to      last month, defaults to the current month
+     * @param userId  only this member's spending, or null for everyone
+     * @return non-empty rollups ordered by month, category and member
+     */
+    List<SpendingRollupView> getGroupSpending(Long groupId, YearMonth from, YearMonth to, Long userId);
+
+    /**
+     * Recompute a group's rollups from its expense splits, replacing the
+     * stored rows. Expense writes to the group wait until the rebuild commits.
+     *
+     * @param groupId the group ID
+     * @return number of rollup rows written
+     */
+    int rebuildGroup(Long groupId);
+
+    /**
+     * Recompute the rollups of every group (e.g. after first deployment).
+     *
+     * @return number of rollup rows written
+     */
+    int rebuildAllGroups();
+}
@@ -0,0 +1,21 @@
+package com.dasa.splitspends.service;
+
+import com.dasa.splitspends.dto.sync.SyncResponse;
+
+/**
+ * Delta sync for offline-first clients. Each call returns the groups,
+ * expenses with their splits, settlements and notifications that changed
+ * since the client's token, read through the indexed change sequence, so its
+ * cost follows the amount of change rather than the size of the data.
+ */
+public interface SyncService {
+
+    /**
+     * @param userId the syncing user
+     * @param since  token from the previous response, or null for a first
+     *               (full) sync
+     * @param limit  maximum rows per entity type in this response
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    SyncResponse sync(Long userId, String since, int limit);
+}
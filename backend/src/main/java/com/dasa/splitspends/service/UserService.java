@@ -112,12 +112,13 @@ public interface UserService {
     Optional<User> getUserByEmail(String email);
 
     /**
-     * Searches for users matching the given query.
+     * Searches active users whose name or email matches the given query.
      * 
-     * @param query the search query
+     * @param query    the search query
+     * @param pageable the page of results, by name
      * @return a list of matching users
      */
-    List<User> searchUsers(String query);
+    List<User> searchActiveUsers(String query, Pageable pageable);
 
     /**
      * Retrieves users by a list of IDs.
@@ -214,9 +215,10 @@ public interface UserService {
      * 
      * @param searchQuery the search query
      * @param groupId     the group ID
+     * @param pageable    the page of results, by name
      * @return a list of User entities
      */
-    List<User> getUsersForGroupInvitation(String searchQuery, Long groupId);
+    List<User> getUsersForGroupInvitation(String searchQuery, Long groupId, Pageable pageable);
 
     /**
      * Updates the user's profile information including name, phone number, and
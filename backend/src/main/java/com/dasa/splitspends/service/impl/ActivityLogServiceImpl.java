@@ -6,10 +6,12 @@ import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.ActivityLog;
 import com.dasa.splitspends.entity.Attachment;
 import com.dasa.splitspends.entity.Expense;
@@ -19,6 +21,7 @@ import com.dasa.splitspends.entity.SettleUp;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.repository.ActivityLogRepository;
 import com.dasa.splitspends.service.ActivityLogService;
+import com.dasa.splitspends.util.FeedCursor;
 
 @Service
 @Transactional
@@ -475,6 +478,22 @@ public class ActivityLogServiceImpl implements ActivityLogService {
         return activityLogRepository.findGroupActivityFeed(group, since);
     }
 
+    /**
+     * Get one keyset page of a group's activity log
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ActivityLog> getGroupActivityPage(Long groupId, String cursor, int limit) {
+        int pageSize = FeedCursor.clampLimit(limit);
+        FeedCursor after = FeedCursor.decode(cursor);
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<ActivityLog> rows = after == null
+                ? activityLogRepository.findPageByGroupId(groupId, page)
+                : activityLogRepository.findPageByGroupIdBefore(groupId, after.timestamp(), after.id(), page);
+        return CursorPage.of(rows, pageSize, activityLog -> new FeedCursor(activityLog.getCreatedAt(), activityLog.getId()));
+    }
+
     /**
      * Get recent activities for a user
      */
@@ -0,0 +1,176 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.dto.balance.BalanceHistoryResponse;
+import com.dasa.splitspends.dto.balance.BalanceStreamState;
+import com.dasa.splitspends.entity.BalanceEvent;
+import com.dasa.splitspends.entity.BalanceSnapshot;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.GroupMemberBalance;
+import com.dasa.splitspends.repository.BalanceEventRepository;
+import com.dasa.splitspends.repository.BalanceSnapshotRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.BalanceEventService;
+
+@Service
+@Transactional
+public class BalanceEventServiceImpl implements BalanceEventService {
+
+    private final BalanceEventRepository eventRepository;
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final GroupMemberBalanceRepository balanceRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final int snapshotInterval;
+
+    public BalanceEventServiceImpl(BalanceEventRepository eventRepository,
+            BalanceSnapshotRepository snapshotRepository,
+            GroupMemberBalanceRepository balanceRepository,
+            GroupRepository groupRepository,
+            UserRepository userRepository,
+            @Value("${app.balance.snapshot-interval:500}") int snapshotInterval) {
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.balanceRepository = balanceRepository;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    // ========== APPEND ==========
+
+    /**
+     * Appends to a group are serialized on the group row lock, held until
+     * commit. Event IDs are assigned at insert, so without it a snapshot cut
+     * at the newest ID could skip a lower ID still waiting to commit, and
+     * every later replay would start past it.
+     */
+    @Override
+    public void append(Long groupId, BalanceEvent.EventType eventType, BalanceEvent.SourceType sourceType,
+            Long sourceId, Map<Long, BigDecimal> deltas) {
+        Group group = groupRepository.lockById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        BalanceStreamState state = groupRepository.findBalanceStreamState(groupId);
+        Long lastEventId = state.lastEventId();
+        if (lastEventId == null) {
+            // Groups whose stream predates the bookkeeping columns
+            lastEventId = eventRepository.findLastEventId(groupId);
+        }
+
+        List<BalanceEvent> events = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, amount) -> {
+            if (amount.signum() != 0) {
+                events.add(BalanceEvent.builder()
+                        .group(group)
+                        .user(userRepository.getReferenceById(userId))
+                        .eventType(eventType)
+                        .sourceType(sourceType)
+                        .sourceId(sourceId)
+                        .amount(amount)
+                        .build());
+            }
+        });
+        if (events.isEmpty()) {
+            return;
+        }
+        if (lastEventId == null) {
+            // First event of a group: keep balances that predate the stream
+            saveBaseline(groupId);
+        }
+        eventRepository.saveAll(events);
+
+        long appendedUpTo = events.stream().mapToLong(BalanceEvent::getId).max().getAsLong();
+        int sinceSnapshot = state.eventsSinceSnapshot() + events.size();
+        if (sinceSnapshot >= snapshotInterval) {
+            snapshotRepository.save(BalanceSnapshot.builder()
+                    .group(group)
+                    .lastEventId(appendedUpTo)
+                    .balances(replay(groupId, appendedUpTo))
+                    .build());
+            sinceSnapshot = 0;
+        }
+        groupRepository.updateBalanceStreamState(groupId, appendedUpTo, sinceSnapshot);
+    }
+
+    // ========== READ ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> getGroupBalances(Long groupId) {
+        Long lastEventId = eventRepository.findLastEventId(groupId);
+        return replay(groupId, lastEventId != null ? lastEventId : 0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceHistoryResponse getGroupBalancesAsOf(Long groupId, LocalDateTime asOf) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("Group not found");
+        }
+        Long lastEventId = asOf != null
+                ? eventRepository.findLastEventIdAsOf(groupId, asOf)
+                : eventRepository.findLastEventId(groupId);
+        long upTo = lastEventId != null ? lastEventId : 0L;
+        return BalanceHistoryResponse.builder()
+                .groupId(groupId)
+                .asOf(asOf)
+                .lastEventId(upTo)
+                .balances(replay(groupId, upTo))
+                .build();
+    }
+
+    // ========== PRIVATE HELPERS ==========
+
+    /**
+     * Load the closest snapshot at or before the given event and fold in the
+     * events recorded after it.
+     */
+    private Map<Long, BigDecimal> replay(Long groupId, long upToEventId) {
+        Optional<BalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByGroupIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(groupId, upToEventId);
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        long afterEventId = 0L;
+        if (snapshot.isPresent()) {
+            balances.putAll(snapshot.get().getBalances());
+            afterEventId = snapshot.get().getLastEventId();
+        }
+        if (upToEventId > afterEventId) {
+            for (Object[] row : eventRepository.sumAmountsByUserInRange(groupId, afterEventId, upToEventId)) {
+                balances.merge((Long) row[0], (BigDecimal) row[1], BigDecimal::add);
+            }
+        }
+        balances.values().removeIf(amount -> amount.signum() == 0);
+        return balances;
+    }
+
+    private void saveBaseline(Long groupId) {
+        List<GroupMemberBalance> rows = balanceRepository.findByGroupId(groupId);
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (GroupMemberBalance row : rows) {
+            if (row.getNetBalance().signum() != 0) {
+                balances.put(row.getUser().getId(), row.getNetBalance());
+            }
+        }
+        if (balances.isEmpty()) {
+            return;
+        }
+        snapshotRepository.save(BalanceSnapshot.builder()
+                .group(groupRepository.getReferenceById(groupId))
+                .lastEventId(0L)
+                .balances(balances)
+                .build());
+    }
+}
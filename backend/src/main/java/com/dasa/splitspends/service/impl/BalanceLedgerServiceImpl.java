@@ -0,0 +1,276 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.balance.LedgerRebuildReport;
+import com.dasa.splitspends.entity.BalanceEvent;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.GroupMemberBalance;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.ExpenseSplitRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.service.BalanceEventService;
+import com.dasa.splitspends.service.BalanceLedgerService;
+
+@Service
+@Transactional
+public class BalanceLedgerServiceImpl implements BalanceLedgerService {
+
+    // Column positions inside a ledger delta
+    private static final int PAID = 0;
+    private static final int OWED = 1;
+    private static final int SETTLEMENTS_PAID = 2;
+    private static final int SETTLEMENTS_RECEIVED = 3;
+
+    @Autowired
+    private GroupMemberBalanceRepository balanceRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ExpenseSplitRepository expenseSplitRepository;
+
+    @Autowired
+    private SettleUpRepository settleUpRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private BalanceEventService balanceEventService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // ========== INCREMENTAL MAINTENANCE ==========
+
+    @Override
+    public void recordExpense(Expense expense, BalanceEvent.EventType eventType) {
+        applyExpense(expense, BigDecimal.ONE, eventType);
+    }
+
+    @Override
+    public void reverseExpense(Expense expense, BalanceEvent.EventType eventType) {
+        applyExpense(expense, BigDecimal.ONE.negate(), eventType);
+    }
+
+    @Override
+    public void recordImportedExpenses(Long groupId, List<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        Map<Long, BigDecimal[]> deltas = new HashMap<>();
+        for (Expense expense : expenses) {
+            addExpense(deltas, expense, BigDecimal.ONE);
+        }
+        apply(groupId, BalanceEvent.EventType.EXPENSES_IMPORTED, BalanceEvent.SourceType.EXPENSE_IMPORT,
+                expenses.get(0).getId(), deltas);
+    }
+
+    @Override
+    public void recordSettlement(SettleUp settlement) {
+        Long groupId = settlement.getGroup().getId();
+        Long payerId = settlement.getPayer().getId();
+        Long payeeId = settlement.getPayee().getId();
+        BigDecimal amount = settlement.toGroupCurrency(settlement.getAmount());
+
+        Map<Long, BigDecimal[]> deltas = new HashMap<>();
+        delta(deltas, payerId)[SETTLEMENTS_PAID] = amount;
+        delta(deltas, payeeId)[SETTLEMENTS_RECEIVED] = amount;
+        apply(groupId, BalanceEvent.EventType.SETTLEMENT_CONFIRMED, BalanceEvent.SourceType.SETTLEMENT,
+                settlement.getId(), deltas);
+    }
+
+    /**
+     * Fold the payer and splits of an expense into one delta per user, in the
+     * group currency, then write each delta with a single upsert.
+     */
+    private void applyExpense(Expense expense, BigDecimal sign, BalanceEvent.EventType eventType) {
+        if (expense.getStatus() == Expense.ExpenseStatus.DELETED) {
+            return;
+        }
+        Map<Long, BigDecimal[]> deltas = new HashMap<>();
+        addExpense(deltas, expense, sign);
+        apply(expense.getGroup().getId(), eventType, BalanceEvent.SourceType.EXPENSE, expense.getId(), deltas);
+    }
+
+    private static void addExpense(Map<Long, BigDecimal[]> deltas, Expense expense, BigDecimal sign) {
+        BigDecimal[] payer = delta(deltas, expense.getPaidBy().getId());
+        payer[PAID] = payer[PAID].add(expense.toGroupCurrency(expense.getAmount()).multiply(sign));
+        for (ExpenseSplit split : expense.getSplits()) {
+            BigDecimal[] delta = delta(deltas, split.getUser().getId());
+            delta[OWED] = delta[OWED].add(expense.toGroupCurrency(split.getShareAmount()).multiply(sign));
+        }
+    }
+
+    /**
+     * Append the deltas to the event stream, then write them to the ledger.
+     * Appending takes the group lock, so the ledger writes land either before
+     * or after a concurrent rebuild of the group, never inside it.
+     */
+    private void apply(Long groupId, BalanceEvent.EventType eventType, BalanceEvent.SourceType sourceType,
+            Long sourceId, Map<Long, BigDecimal[]> deltas) {
+        Map<Long, BigDecimal> netDeltas = new HashMap<>();
+        deltas.forEach((userId, delta) -> netDeltas.put(userId, net(delta)));
+        balanceEventService.append(groupId, eventType, sourceType, sourceId, netDeltas);
+        deltas.forEach((userId, delta) -> applyDelta(groupId, userId, delta));
+    }
+
+    private void applyDelta(Long groupId, Long userId, BigDecimal[] delta) {
+        balanceRepository.upsertDelta(groupId, userId,
+                delta[PAID], delta[OWED], delta[SETTLEMENTS_PAID], delta[SETTLEMENTS_RECEIVED]);
+    }
+
+    // ========== REBUILD & VERIFICATION ==========
+
+    /**
+     * Holds the group lock from the first read until commit, so no expense or
+     * settlement can be posted between reading the sums and writing them
+     * back. Every member whose row is corrected also gets a LEDGER_CORRECTED
+     * event for the change in net balance, so the event stream keeps matching
+     * the ledger. The events are appended before any row is touched, so a
+     * first event still baselines from the ledger as it was.
+     */
+    @Override
+    public LedgerRebuildReport rebuildGroup(Long groupId, boolean dryRun) {
+        lockGroup(groupId);
+        Map<Long, BigDecimal[]> expected = new HashMap<>();
+        accumulate(expected, expenseRepository.sumPaidByUserInGroup(groupId), PAID);
+        accumulate(expected, expenseSplitRepository.sumOwedByUserInGroup(groupId), OWED);
+        accumulate(expected, settleUpRepository.sumConfirmedPaidByUserInGroup(groupId), SETTLEMENTS_PAID);
+        accumulate(expected, settleUpRepository.sumConfirmedReceivedByUserInGroup(groupId),
+                SETTLEMENTS_RECEIVED);
+
+        List<GroupMemberBalance> stored = balanceRepository.findByGroupId(groupId);
+        List<LedgerRebuildReport.Mismatch> mismatches = new ArrayList<>();
+        List<GroupMemberBalance> drifted = new ArrayList<>();
+        Map<Long, BigDecimal> corrections = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (GroupMemberBalance row : stored) {
+            Long userId = row.getUser().getId();
+            seen.add(userId);
+            BigDecimal[] amounts = expected.getOrDefault(userId, zeroDelta());
+            if (!matches(row, amounts)) {
+                mismatches.add(mismatch(userId, row.getNetBalance(), amounts));
+                drifted.add(row);
+                corrections.put(userId, net(amounts).subtract(row.getNetBalance()));
+            }
+        }
+
+        Map<Long, BigDecimal[]> missing = new HashMap<>();
+        for (Map.Entry<Long, BigDecimal[]> entry : expected.entrySet()) {
+            if (seen.contains(entry.getKey())) {
+                continue;
+            }
+            mismatches.add(mismatch(entry.getKey(), BigDecimal.ZERO, entry.getValue()));
+            missing.put(entry.getKey(), entry.getValue());
+            corrections.put(entry.getKey(), net(entry.getValue()));
+        }
+
+        if (!dryRun && !mismatches.isEmpty()) {
+            balanceEventService.append(groupId, BalanceEvent.EventType.LEDGER_CORRECTED,
+                    BalanceEvent.SourceType.LEDGER_REBUILD, groupId, corrections);
+            for (GroupMemberBalance row : drifted) {
+                setAmounts(row, expected.getOrDefault(row.getUser().getId(), zeroDelta()));
+            }
+            missing.forEach((userId, amounts) -> applyDelta(groupId, userId, amounts));
+        }
+
+        seen.addAll(expected.keySet());
+        return LedgerRebuildReport.builder()
+                .groupId(groupId)
+                .rowsChecked(seen.size())
+                .dryRun(dryRun)
+                .mismatches(mismatches)
+                .build();
+    }
+
+    /**
+     * Each group is checked in its own transaction, so group locks are held
+     * one at a time and a repaired group is committed before the next starts.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<LedgerRebuildReport> rebuildAllGroups(boolean dryRun) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<LedgerRebuildReport> reports = new ArrayList<>();
+        for (Long groupId : groupRepository.findAllIds()) {
+            LedgerRebuildReport report = transactionTemplate.execute(status -> rebuildGroup(groupId, dryRun));
+            if (!report.isConsistent()) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    // ========== PRIVATE HELPERS ==========
+
+    private void lockGroup(Long groupId) {
+        groupRepository.lockById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+    }
+
+    private static BigDecimal[] delta(Map<Long, BigDecimal[]> deltas, Long userId) {
+        return deltas.computeIfAbsent(userId, id -> zeroDelta());
+    }
+
+    private static BigDecimal[] zeroDelta() {
+        return new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO };
+    }
+
+    private static void accumulate(Map<Long, BigDecimal[]> expected, List<Object[]> rows, int column) {
+        for (Object[] row : rows) {
+            delta(expected, (Long) row[0])[column] = (BigDecimal) row[1];
+        }
+    }
+
+    private static BigDecimal net(BigDecimal[] amounts) {
+        return amounts[PAID].subtract(amounts[OWED])
+                .add(amounts[SETTLEMENTS_PAID]).subtract(amounts[SETTLEMENTS_RECEIVED]);
+    }
+
+    private static boolean matches(GroupMemberBalance row, BigDecimal[] amounts) {
+        return row.getTotalPaid().compareTo(amounts[PAID]) == 0
+                && row.getTotalOwed().compareTo(amounts[OWED]) == 0
+                && row.getSettlementsPaid().compareTo(amounts[SETTLEMENTS_PAID]) == 0
+                && row.getSettlementsReceived().compareTo(amounts[SETTLEMENTS_RECEIVED]) == 0;
+    }
+
+    private static void setAmounts(GroupMemberBalance row, BigDecimal[] amounts) {
+        row.setTotalPaid(amounts[PAID]);
+        row.setTotalOwed(amounts[OWED]);
+        row.setSettlementsPaid(amounts[SETTLEMENTS_PAID]);
+        row.setSettlementsReceived(amounts[SETTLEMENTS_RECEIVED]);
+    }
+
+    private static LedgerRebuildReport.Mismatch mismatch(Long userId, BigDecimal storedNet, BigDecimal[] amounts) {
+        return LedgerRebuildReport.Mismatch.builder()
+                .userId(userId)
+                .storedNetBalance(storedNet)
+                .expectedNetBalance(net(amounts))
+                .expectedTotalPaid(amounts[PAID])
+                .expectedTotalOwed(amounts[OWED])
+                .expectedSettlementsPaid(amounts[SETTLEMENTS_PAID])
+                .expectedSettlementsReceived(amounts[SETTLEMENTS_RECEIVED])
+                .build();
+    }
+}
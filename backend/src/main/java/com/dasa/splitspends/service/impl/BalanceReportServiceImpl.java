@@ -0,0 +1,246 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.dto.balance.BalanceMatrixResponse;
+import com.dasa.splitspends.dto.balance.UserBalanceSummaryResponse;
+import com.dasa.splitspends.repository.ExpenseSplitRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.BalanceReportService;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.util.FxRateTable;
+import com.dasa.splitspends.util.Money;
+
+@Service
+@Transactional(readOnly = true)
+public class BalanceReportServiceImpl implements BalanceReportService {
+
+    private final ExpenseSplitRepository expenseSplitRepository;
+    private final SettleUpRepository settleUpRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final FxRateService fxRateService;
+
+    public BalanceReportServiceImpl(ExpenseSplitRepository expenseSplitRepository,
+            SettleUpRepository settleUpRepository,
+            GroupRepository groupRepository,
+            UserRepository userRepository,
+            FxRateService fxRateService) {
+        this.expenseSplitRepository = expenseSplitRepository;
+        this.settleUpRepository = settleUpRepository;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.fxRateService = fxRateService;
+    }
+
+    // ========== GROUP BALANCE MATRIX ==========
+
+    @Override
+    public BalanceMatrixResponse getBalanceMatrix(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("Group not found");
+        }
+
+        // (creditor, debtor, amount) and (payer, payee, amount)
+        List<Object[]> owed = expenseSplitRepository.sumOwedByPairInGroup(groupId);
+        List<Object[]> settled = settleUpRepository.sumConfirmedByPairInGroup(groupId);
+
+        long[] userIds = distinctUserIds(owed, settled);
+        int n = userIds.length;
+
+        // Keyed by low * n + high; a positive value means low owes high
+        Map<Long, Long> pairs = new TreeMap<>();
+        for (Object[] row : owed) {
+            addOwed(pairs, userIds, (Long) row[1], (Long) row[0], Money.toMinorUnits((BigDecimal) row[2]));
+        }
+        for (Object[] row : settled) {
+            // A confirmed payment reduces what the payer owes the payee
+            addOwed(pairs, userIds, (Long) row[0], (Long) row[1], -Money.toMinorUnits((BigDecimal) row[2]));
+        }
+
+        List<BalanceMatrixResponse.Cell> cells = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : pairs.entrySet()) {
+            long amount = entry.getValue();
+            if (amount == 0) {
+                continue;
+            }
+            int low = (int) (entry.getKey() / n);
+            int high = (int) (entry.getKey() % n);
+            cells.add(BalanceMatrixResponse.Cell.builder()
+                    .debtor(amount > 0 ? low : high)
+                    .creditor(amount > 0 ? high : low)
+                    .amount(Money.toBigDecimal(Math.abs(amount)))
+                    .build());
+        }
+
+        return BalanceMatrixResponse.builder()
+                .groupId(groupId)
+                .userIds(Arrays.stream(userIds).boxed().toList())
+                .cells(cells)
+                .build();
+    }
+
+    // ========== USER BALANCE SUMMARY ==========
+
+    @Override
+    public UserBalanceSummaryResponse getUserBalanceSummary(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+
+        // groupId -> counterpartyId -> net position in minor units
+        Map<Long, Map<Long, Long>> positions = new TreeMap<>();
+        // Both row shapes are (group, paid by, paid for, amount): when the user
+        // is on the paying side the amount counts in their favour
+        for (Object[] row : expenseSplitRepository.sumSharesInvolvingUserByGroup(userId)) {
+            addPosition(positions, userId, row);
+        }
+        for (Object[] row : settleUpRepository.sumConfirmedInvolvingUserByGroup(userId)) {
+            addPosition(positions, userId, row);
+        }
+
+        Set<Long> counterpartyIds = new HashSet<>();
+        positions.values().forEach(byCounterparty -> counterpartyIds.addAll(byCounterparty.keySet()));
+        List<Object[]> groupRows = positions.isEmpty() ? List.of()
+                : groupRepository.findNamesByIds(positions.keySet());
+        Map<Long, String> groupNames = toNameMap(groupRows);
+        Map<Long, String> groupCurrencies = new HashMap<>();
+        for (Object[] row : groupRows) {
+            groupCurrencies.put((Long) row[0], (String) row[2]);
+        }
+        Map<Long, String> userNames = counterpartyIds.isEmpty() ? Map.of()
+                : toNameMap(userRepository.findNamesByIds(counterpartyIds));
+
+        // Group positions stay in the group currency; cross-group totals use the
+        // shared currency, or the FX base currency when groups differ
+        FxRateTable rates = fxRateService.getRateTable();
+        Set<String> currencies = new HashSet<>(groupCurrencies.values());
+        String currency = currencies.size() == 1 ? currencies.iterator().next() : rates.getBaseCurrency();
+
+        List<UserBalanceSummaryResponse.GroupPosition> groups = new ArrayList<>();
+        Map<Long, Long> totalsByCounterparty = new TreeMap<>();
+        long owedToUser = 0;
+        long userOwes = 0;
+        for (Map.Entry<Long, Map<Long, Long>> group : positions.entrySet()) {
+            String groupCurrency = groupCurrencies.get(group.getKey());
+            List<UserBalanceSummaryResponse.CounterpartyPosition> counterparties = new ArrayList<>();
+            long groupNet = 0;
+            long convertedNet = 0;
+            for (Map.Entry<Long, Long> counterparty : group.getValue().entrySet()) {
+                long amount = counterparty.getValue();
+                if (amount == 0) {
+                    continue;
+                }
+                long converted = convert(rates, amount, groupCurrency, currency);
+                groupNet += amount;
+                convertedNet += converted;
+                totalsByCounterparty.merge(counterparty.getKey(), converted, Long::sum);
+                counterparties.add(counterpartyPosition(counterparty.getKey(), userNames, amount));
+            }
+            if (counterparties.isEmpty()) {
+                continue;
+            }
+            if (convertedNet > 0) {
+                owedToUser += convertedNet;
+            } else {
+                userOwes -= convertedNet;
+            }
+            groups.add(UserBalanceSummaryResponse.GroupPosition.builder()
+                    .groupId(group.getKey())
+                    .groupName(groupNames.get(group.getKey()))
+                    .currency(groupCurrency)
+                    .netBalance(Money.toBigDecimal(groupNet))
+                    .counterparties(counterparties)
+                    .build());
+        }
+
+        List<UserBalanceSummaryResponse.CounterpartyPosition> counterparties = new ArrayList<>();
+        totalsByCounterparty.forEach((counterpartyId, amount) -> {
+            if (amount != 0) {
+                counterparties.add(counterpartyPosition(counterpartyId, userNames, amount));
+            }
+        });
+
+        return UserBalanceSummaryResponse.builder()
+                .userId(userId)
+                .currency(currency)
+                .netBalance(Money.toBigDecimal(owedToUser - userOwes))
+                .totalOwedToUser(Money.toBigDecimal(owedToUser))
+                .totalUserOwes(Money.toBigDecimal(userOwes))
+                .groups(groups)
+                .counterparties(counterparties)
+                .build();
+    }
+
+    // ========== PRIVATE HELPERS ==========
+
+    private static void addPosition(Map<Long, Map<Long, Long>> positions, Long userId, Object[] row) {
+        boolean userFirst = userId.equals(row[1]);
+        Long counterpartyId = (Long) (userFirst ? row[2] : row[1]);
+        long amount = Money.toMinorUnits((BigDecimal) row[3]);
+        positions.computeIfAbsent((Long) row[0], id -> new TreeMap<>())
+                .merge(counterpartyId, userFirst ? amount : -amount, Long::sum);
+    }
+
+    private static long convert(FxRateTable rates, long amount, String from, String to) {
+        if (from == null || from.equals(to)) {
+            return amount;
+        }
+        return Money.toMinorUnits(rates.convert(Money.toBigDecimal(amount), from, to));
+    }
+
+    private static Map<Long, String> toNameMap(List<Object[]> rows) {
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : rows) {
+            names.put((Long) row[0], (String) row[1]);
+        }
+        return names;
+    }
+
+    private static UserBalanceSummaryResponse.CounterpartyPosition counterpartyPosition(Long userId,
+            Map<Long, String> userNames, long amount) {
+        return UserBalanceSummaryResponse.CounterpartyPosition.builder()
+                .userId(userId)
+                .userName(userNames.get(userId))
+                .netBalance(Money.toBigDecimal(amount))
+                .build();
+    }
+
+    private static long[] distinctUserIds(List<Object[]> owed, List<Object[]> settled) {
+        long[] ids = new long[(owed.size() + settled.size()) * 2];
+        int size = 0;
+        for (Object[] row : owed) {
+            ids[size++] = (Long) row[0];
+            ids[size++] = (Long) row[1];
+        }
+        for (Object[] row : settled) {
+            ids[size++] = (Long) row[0];
+            ids[size++] = (Long) row[1];
+        }
+        return Arrays.stream(ids, 0, size).sorted().distinct().toArray();
+    }
+
+    private static void addOwed(Map<Long, Long> pairs, long[] userIds, Long debtorId, Long creditorId,
+            long amount) {
+        int debtor = Arrays.binarySearch(userIds, debtorId);
+        int creditor = Arrays.binarySearch(userIds, creditorId);
+        if (debtor == creditor) {
+            return;
+        }
+        long key = (long) Math.min(debtor, creditor) * userIds.length + Math.max(debtor, creditor);
+        pairs.merge(key, debtor < creditor ? amount : -amount, Long::sum);
+    }
+}
@@ -0,0 +1,453 @@
+package com.dasa.splitspends.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.expense.ExpenseImportReport;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.service.BalanceLedgerService;
+import com.dasa.splitspends.service.ExpenseImportService;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.service.SpendingRollupService;
+import com.dasa.splitspends.split.SplitEngine;
+import com.dasa.splitspends.util.FxRateTable;
+import com.dasa.splitspends.util.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ExpenseImportServiceImpl implements ExpenseImportService {
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private final GroupRepository groupRepository;
+    private final SplitEngine splitEngine;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SpendingRollupService spendingRollupService;
+    private final FxRateService fxRateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExpenseImportServiceImpl(GroupRepository groupRepository,
+            SplitEngine splitEngine,
+            BalanceLedgerService balanceLedgerService,
+            SpendingRollupService spendingRollupService,
+            FxRateService fxRateService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.import.batch-size:500}") int batchSize,
+            @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.groupRepository = groupRepository;
+        this.splitEngine = splitEngine;
+        this.balanceLedgerService = balanceLedgerService;
+        this.spendingRollupService = spendingRollupService;
+        this.fxRateService = fxRateService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ExpenseImportReport importExpenses(Long groupId, Long importedByUserId, InputStream input,
+            ImportFormat format) {
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        if (!group.isActive()) {
+            throw new IllegalStateException("Cannot import expenses into an inactive group");
+        }
+        // One query for all membership checks of the whole file
+        Set<Long> memberIds = groupRepository.findMemberIds(groupId);
+        if (!memberIds.contains(importedByUserId)) {
+            throw new IllegalArgumentException("User is not a member of this group");
+        }
+
+        Progress progress = new Progress(maxReportedErrors);
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+                progress.totalRows++;
+                try {
+                    ImportRow row = format == ImportFormat.CSV ? parseCsvRow(line, header) : parseJsonRow(line);
+                    row.line = lineNumber;
+                    validate(row, memberIds);
+                    // Rows in another currency keep the rate of the day they are imported
+                    row.currency = FxRateTable.currencyOrDefault(row.currency, group.getDefaultCurrency());
+                    row.exchangeRate = fxRateService.captureRate(row.currency, group.getDefaultCurrency());
+                    batch.add(row);
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    progress.fail(lineNumber, e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    writeBatch(groupId, importedByUserId, batch, progress);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read import file", e);
+        }
+        writeBatch(groupId, importedByUserId, batch, progress);
+
+        log.info("Imported {} of {} expense rows into group {}", progress.importedRows, progress.totalRows,
+                groupId);
+        return ExpenseImportReport.builder()
+                .groupId(groupId)
+                .totalRows(progress.totalRows)
+                .importedRows(progress.importedRows)
+                .failedRows(progress.failedRows)
+                .errorsTruncated(progress.failedRows > progress.errors.size())
+                .errors(progress.errors)
+                .build();
+    }
+
+    // ========== BATCH WRITE ==========
+
+    /**
+     * Persist one batch in its own transaction, then detach it so memory stays
+     * flat. If the batch fails, all of its rows are reported as not imported.
+     */
+    private void writeBatch(Long groupId, Long importedByUserId, List<ImportRow> rows, Progress progress) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                Group group = entityManager.getReference(Group.class, groupId);
+                User createdBy = entityManager.getReference(User.class, importedByUserId);
+
+                long[] shares = allocateShares(rows);
+                List<Expense> expenses = new ArrayList<>(rows.size());
+                int offset = 0;
+                for (ImportRow row : rows) {
+                    Expense expense = toExpense(row, group, createdBy, shares, offset);
+                    offset += row.participantUserIds.length;
+                    entityManager.persist(expense);
+                    expenses.add(expense);
+                }
+                entityManager.flush();
+                balanceLedgerService.recordImportedExpenses(groupId, expenses);
+                spendingRollupService.recordImportedExpenses(groupId, expenses);
+                eventPublisher.publishEvent(
+                        new GroupDataChangedEvent(groupId, GroupDataChangedEvent.ChangeType.EXPENSE));
+                entityManager.flush();
+                entityManager.clear();
+            });
+            progress.importedRows += rows.size();
+        } catch (RuntimeException e) {
+            log.warn("Expense import batch for group {} failed at lines {}-{}", groupId, rows.get(0).line,
+                    rows.get(rows.size() - 1).line, e);
+            for (ImportRow row : rows) {
+                progress.fail(row.line, "Not imported: batch write failed");
+            }
+        }
+    }
+
+    // Equal shares for every row of the batch in one engine call, packed in row order
+    private long[] allocateShares(List<ImportRow> rows) {
+        long[] totals = new long[rows.size()];
+        int[] offsets = new int[rows.size() + 1];
+        for (int r = 0; r < rows.size(); r++) {
+            totals[r] = Money.toMinorUnits(rows.get(r).amount);
+            offsets[r + 1] = offsets[r] + rows.get(r).participantUserIds.length;
+        }
+        return splitEngine.allocateBatch(ExpenseSplit.SplitType.EQUAL, totals, offsets, new long[offsets[rows.size()]]);
+    }
+
+    private Expense toExpense(ImportRow row, Group group, User createdBy, long[] shares, int offset) {
+        Expense expense = Expense.builder()
+                .group(group)
+                .description(row.description)
+                .amount(row.amount)
+                .date(row.date)
+                .paidBy(entityManager.getReference(User.class, row.paidByUserId))
+                .category(row.category)
+                .currency(row.currency)
+                .exchangeRate(row.exchangeRate)
+                .status(Expense.ExpenseStatus.CONFIRMED)
+                .createdBy(createdBy)
+                .build();
+        for (int i = 0; i < row.participantUserIds.length; i++) {
+            expense.addSplit(ExpenseSplit.builder()
+                    .user(entityManager.getReference(User.class, row.participantUserIds[i]))
+                    .shareAmount(Money.toBigDecimal(shares[offset + i]))
+                    .splitType(ExpenseSplit.SplitType.EQUAL)
+                    .settled(false)
+                    .build());
+        }
+        return expense;
+    }
+
+    // ========== PARSING & VALIDATION ==========
+
+    private static Map<String, Integer> parseHeader(String line) {
+        if (line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        List<String> names = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : new String[] { "description", "amount", "paidbyuserid", "participantuserids" }) {
+            if (!header.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return header;
+    }
+
+    private static ImportRow parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> fields = splitCsvLine(line);
+        ImportRow row = new ImportRow();
+        row.description = field(fields, header, "description");
+        row.amount = parseAmount(field(fields, header, "amount"));
+        row.paidByUserId = parseId(field(fields, header, "paidbyuserid"));
+        String participants = field(fields, header, "participantuserids");
+        if (participants != null) {
+            String[] ids = participants.split(";");
+            row.participantUserIds = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                row.participantUserIds[i] = parseId(ids[i].trim());
+            }
+        }
+        row.category = parseCategory(field(fields, header, "category"));
+        row.date = parseDate(field(fields, header, "date"));
+        row.currency = field(fields, header, "currency");
+        return row;
+    }
+
+    private static ImportRow parseJsonRow(String line) {
+        JsonNode node;
+        try {
+            node = JSON.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Each line must be a JSON object");
+        }
+        ImportRow row = new ImportRow();
+        row.description = text(node, "description");
+        JsonNode amount = node.get("amount");
+        row.amount = amount == null || amount.isNull() ? null
+                : amount.isNumber() ? amount.decimalValue() : parseAmount(amount.asText());
+        row.paidByUserId = parseId(text(node, "paidByUserId"));
+        JsonNode participants = node.get("participantUserIds");
+        if (participants != null && participants.isArray()) {
+            row.participantUserIds = new long[participants.size()];
+            for (int i = 0; i < participants.size(); i++) {
+                row.participantUserIds[i] = parseId(participants.get(i).asText());
+            }
+        }
+        row.category = parseCategory(text(node, "category"));
+        row.date = parseDate(text(node, "date"));
+        row.currency = text(node, "currency");
+        return row;
+    }
+
+    private static void validate(ImportRow row, Set<Long> memberIds) {
+        if (row.description == null || row.description.isBlank()) {
+            throw new IllegalArgumentException("Description is required");
+        }
+        if (row.description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Description must be at most 500 characters");
+        }
+        if (row.amount == null || row.amount.compareTo(new BigDecimal("0.01")) < 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (row.amount.stripTrailingZeros().scale() > Money.SCALE) {
+            throw new IllegalArgumentException("Amount must have at most 2 decimal places");
+        }
+        if (row.paidByUserId == null || !memberIds.contains(row.paidByUserId)) {
+            throw new IllegalArgumentException("Paid by user " + row.paidByUserId + " is not a member of the group");
+        }
+        if (row.participantUserIds == null || row.participantUserIds.length == 0) {
+            throw new IllegalArgumentException("At least one participant is required");
+        }
+        Set<Long> seen = new LinkedHashSet<>();
+        for (long userId : row.participantUserIds) {
+            if (!memberIds.contains(userId)) {
+                throw new IllegalArgumentException("User " + userId + " is not a member of the group");
+            }
+            if (!seen.add(userId)) {
+                throw new IllegalArgumentException("User " + userId + " is listed twice");
+            }
+        }
+    }
+
+    /**
+     * Split one CSV record on commas, honouring double-quoted fields and
+     * {@code ""} escapes. Records must fit on a single line.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static String text(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    private static Long parseId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid user ID: " + value);
+        }
+    }
+
+    private static Expense.ExpenseCategory parseCategory(String value) {
+        if (value == null || value.isBlank()) {
+            return Expense.ExpenseCategory.OTHER;
+        }
+        try {
+            return Expense.ExpenseCategory.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown category: " + value);
+        }
+    }
+
+    // ISO date (2024-03-01) or date-time (2024-03-01T19:30:00); blank means now
+    private static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return LocalDateTime.now();
+        }
+        String trimmed = value.trim();
+        return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+    }
+
+    // ========== STATE ==========
+
+    private static final class ImportRow {
+        private long line;
+        private String description;
+        private BigDecimal amount;
+        private Long paidByUserId;
+        private long[] participantUserIds;
+        private Expense.ExpenseCategory category;
+        private LocalDateTime date;
+        private String currency;
+        private BigDecimal exchangeRate;
+    }
+
+    private static final class Progress {
+        private final int maxErrors;
+        private final List<ExpenseImportReport.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(ExpenseImportReport.RowError.builder().line(line).message(message).build());
+            }
+        }
+    }
+}
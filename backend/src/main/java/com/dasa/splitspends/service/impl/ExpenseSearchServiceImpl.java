@@ -0,0 +1,216 @@
+package com.dasa.splitspends.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.expense.ExpenseSearchDocument;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.service.ExpenseSearchService;
+import com.dasa.splitspends.util.BoundedTtlCache;
+import com.dasa.splitspends.util.InvertedIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ExpenseSearchServiceImpl implements ExpenseSearchService {
+
+    // Field weights: a match in the description counts most, then the category
+    private static final float DESCRIPTION_WEIGHT = 3f;
+    private static final float NOTES_WEIGHT = 1f;
+    private static final float CATEGORY_WEIGHT = 2f;
+
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private final ExpenseRepository expenseRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BoundedTtlCache<Long, GroupIndex> indexes;
+    private final int warmGroups;
+
+    public ExpenseSearchServiceImpl(ExpenseRepository expenseRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.search.max-groups:500}") int maxGroups,
+            @Value("${app.search.ttl-minutes:60}") long ttlMinutes,
+            @Value("${app.search.warm-groups:0}") int warmGroups) {
+        this.expenseRepository = expenseRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Also used after commit, while the writer's finished transaction is still bound
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.indexes = new BoundedTtlCache<>(maxGroups, ttlMinutes * 60_000L);
+        this.warmGroups = Math.min(warmGroups, maxGroups);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExpenseSummaryView> searchGroupExpenses(Long groupId, String query, Pageable pageable) {
+        if (InvertedIndex.tokenize(query).isEmpty()) {
+            return Page.empty(pageable);
+        }
+        GroupIndex group = indexes.get(groupId, () -> build(groupId));
+        List<Long> ranked;
+        synchronized (group) {
+            refresh(groupId, group);
+            ranked = group.index.search(query);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+        Map<Long, ExpenseSummaryView> rows = expenseRepository.findSummariesByIds(pageIds).stream()
+                .collect(Collectors.toMap(ExpenseSummaryView::id, Function.identity()));
+        List<ExpenseSummaryView> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    @Override
+    public void evictGroup(Long groupId) {
+        indexes.invalidate(groupId);
+    }
+
+    /**
+     * Apply a committed expense write to the group's cached index: the
+     * expense is read back and re-indexed, or removed once deleted. Batch
+     * writes that name no single expense (imports, recurring postings) drop
+     * the index so the next search rebuilds it. With nothing cached the index
+     * is dropped too, so a build that read before this commit is not stored.
+     * A rolled-back write leaves the index untouched.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGroupDataChanged(GroupDataChangedEvent event) {
+        if (event.getChangeType() != GroupDataChangedEvent.ChangeType.EXPENSE) {
+            return;
+        }
+        GroupIndex group = event.getExpenseId() == null ? null : indexes.getIfPresent(event.getGroupId());
+        if (group == null) {
+            evictGroup(event.getGroupId());
+            return;
+        }
+        synchronized (group) {
+            // Read under the lock, so of two writes to one expense the later read lands last
+            Optional<ExpenseSearchDocument> document = readOnlyTransaction.execute(
+                    status -> expenseRepository.findSearchDocument(event.getExpenseId()));
+            if (document == null || document.isEmpty()
+                    || document.get().status() == Expense.ExpenseStatus.DELETED) {
+                group.index.remove(event.getExpenseId());
+            } else {
+                index(group.index, document.get());
+            }
+        }
+    }
+
+    /**
+     * Optionally build the indexes of the most recently active groups at
+     * startup, so their first searches do not pay for the build.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmGroups <= 0) {
+            return;
+        }
+        List<Long> groupIds = readOnlyTransaction.execute(status -> expenseRepository
+                .findGroupIdsByLatestExpenseChange(PageRequest.of(0, warmGroups)));
+        if (groupIds == null) {
+            return;
+        }
+        for (Long groupId : groupIds) {
+            readOnlyTransaction.executeWithoutResult(status -> indexes.get(groupId, () -> build(groupId)));
+        }
+        log.info("Built expense search indexes for {} groups", groupIds.size());
+    }
+
+    // ========== INDEX MAINTENANCE ==========
+
+    /**
+     * A group's index and how far into the change sequence it is current.
+     */
+    private static final class GroupIndex {
+
+        private final InvertedIndex index = new InvertedIndex(DESCRIPTION_WEIGHT, NOTES_WEIGHT, CATEGORY_WEIGHT);
+
+        // Guarded by this: highest expense change sequence value applied
+        private long seq;
+    }
+
+    /**
+     * Index every live expense of a group, current up to the highest change
+     * read. A write on this instance that commits during the build evicts the
+     * index before it is stored.
+     */
+    private GroupIndex build(Long groupId) {
+        GroupIndex group = new GroupIndex();
+        long highest = 0;
+        long afterId = 0;
+        List<ExpenseSearchDocument> batch;
+        do {
+            batch = expenseRepository.findSearchDocuments(groupId, Expense.ExpenseStatus.DELETED, afterId,
+                    PageRequest.of(0, READ_BATCH_SIZE));
+            for (ExpenseSearchDocument document : batch) {
+                index(group.index, document);
+                highest = Math.max(highest, document.changeSeq());
+                afterId = document.id();
+            }
+        } while (batch.size() == READ_BATCH_SIZE);
+        group.seq = highest;
+        return group;
+    }
+
+    /**
+     * Apply the committed expenses of the group changed after the index was
+     * last current: one range read on idx_expense_group_change_seq, which
+     * finds nothing when the group has not changed. Writes on this instance
+     * are applied after commit instead; this only catches writes from other
+     * instances, and misses one that commits after a later change was already
+     * read. The TTL bounds how long such a miss lasts.
+     */
+    private void refresh(Long groupId, GroupIndex group) {
+        long reached = group.seq;
+        List<ExpenseSearchDocument> batch;
+        do {
+            batch = expenseRepository.findSearchDocumentsChangedAfter(groupId, reached,
+                    PageRequest.of(0, READ_BATCH_SIZE));
+            for (ExpenseSearchDocument document : batch) {
+                if (document.status() == Expense.ExpenseStatus.DELETED) {
+                    group.index.remove(document.id());
+                } else {
+                    index(group.index, document);
+                }
+                reached = document.changeSeq();
+            }
+        } while (batch.size() == READ_BATCH_SIZE);
+        group.seq = reached;
+    }
+
+    private static void index(InvertedIndex index, ExpenseSearchDocument document) {
+        String category = document.category() == null ? null : document.category().getDisplayName();
+        index.put(document.id(), document.description(), document.notes(), category);
+    }
+}
@@ -6,28 +6,49 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.dasa.splitspends.dto.CursorPage;
+import com.dasa.splitspends.dto.expense.ExpenseDetailView;
+import com.dasa.splitspends.dto.expense.ExpenseSplitView;
 import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.dto.expense.GroupExpenseTotals;
+import com.dasa.splitspends.entity.BalanceEvent;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.ExpenseSplit;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
 import com.dasa.splitspends.repository.ExpenseRepository;
 import com.dasa.splitspends.repository.ExpenseSplitRepository;
 import com.dasa.splitspends.repository.GroupRepository;
 import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.BalanceLedgerService;
 import com.dasa.splitspends.service.ExpenseService;
-import com.dasa.splitspends.service.ExpenseSplitService;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.service.GroupReadCache;
+import com.dasa.splitspends.service.SpendingRollupService;
+import com.dasa.splitspends.split.SplitEngine;
+import com.dasa.splitspends.util.FeedCursor;
+import com.dasa.splitspends.util.FxRateTable;
+import com.dasa.splitspends.util.Money;
+import com.dasa.splitspends.util.SplitAllocator;
 
 @Service
 @Transactional
@@ -45,33 +66,36 @@ public class ExpenseServiceImpl implements ExpenseService {
         @Autowired
         private GroupRepository groupRepository;
 
-        @SuppressWarnings("unused")
         @Autowired
-        private ExpenseSplitService expenseSplitService;
+        private BalanceLedgerService balanceLedgerService;
+
+        @Autowired
+        private SpendingRollupService spendingRollupService;
+
+        @Autowired
+        private FxRateService fxRateService;
+
+        @Autowired
+        private ParticipantResolver participantResolver;
+
+        @Autowired
+        private SplitEngine splitEngine;
+
+        @Autowired
+        private GroupReadCache groupReadCache;
+
+        @Autowired
+        private ApplicationEventPublisher eventPublisher;
 
         @Override
         public Expense createExpenseWithEqualSplits(Long groupId, Long paidByUserId,
                         String description, BigDecimal amount,
                         List<Long> participantUserIds,
                         Expense.ExpenseCategory category) {
-                Group group = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-                User paidBy = userRepository.findById(paidByUserId)
-                                .orElseThrow(() -> new IllegalArgumentException("Paid by user not found"));
-                List<User> participants = validateParticipants(participantUserIds, group);
-                Expense expense = Expense.builder()
-                                .group(group)
-                                .description(description)
-                                .amount(amount)
-                                .date(LocalDateTime.now())
-                                .paidBy(paidBy)
-                                .category(category)
-                                .status(Expense.ExpenseStatus.CONFIRMED)
-                                .createdBy(paidBy)
-                                .build();
-                expense = expenseRepository.save(expense);
-                createEqualSplits(expense, participants);
-                return expense;
+                Map<Long, BigDecimal> userValueMap = new LinkedHashMap<>();
+                participantUserIds.forEach(userId -> userValueMap.put(userId, BigDecimal.ONE));
+                return createExpenseWithSplits(groupId, paidByUserId, description, amount,
+                                ExpenseSplit.SplitType.EQUAL, userValueMap, category);
         }
 
         @Override
@@ -79,15 +103,54 @@ public class ExpenseServiceImpl implements ExpenseService {
                         String description, BigDecimal amount,
                         Map<Long, BigDecimal> userAmountMap,
                         Expense.ExpenseCategory category) {
+                return createExpenseWithSplits(groupId, paidByUserId, description, amount,
+                                ExpenseSplit.SplitType.EXACT_AMOUNT, userAmountMap, category);
+        }
+
+        @Override
+        public Expense createExpenseWithPercentageSplits(Long groupId, Long paidByUserId, String description,
+                        BigDecimal amount,
+                        Map<Long, BigDecimal> userPercentageMap, Expense.ExpenseCategory category) {
+                return createExpenseWithSplits(groupId, paidByUserId, description, amount,
+                                ExpenseSplit.SplitType.PERCENTAGE, userPercentageMap, category);
+        }
+
+        @Override
+        public Expense createExpenseWithShareSplits(Long groupId, Long paidByUserId, String description,
+                        BigDecimal amount,
+                        Map<Long, Integer> userShareMap, Expense.ExpenseCategory category) {
+                Map<Long, BigDecimal> userValueMap = new LinkedHashMap<>();
+                userShareMap.forEach((userId, shares) -> userValueMap.put(userId,
+                                shares == null ? null : BigDecimal.valueOf(shares)));
+                return createExpenseWithSplits(groupId, paidByUserId, description, amount,
+                                ExpenseSplit.SplitType.SHARES, userValueMap, category);
+        }
+
+        @Override
+        public Expense createExpenseWithSplits(Long groupId, Long paidByUserId, String description,
+                        BigDecimal amount, ExpenseSplit.SplitType splitType,
+                        Map<Long, BigDecimal> userValueMap, Expense.ExpenseCategory category) {
+                return createExpenseWithSplits(groupId, paidByUserId, description, amount, splitType, userValueMap,
+                                category, null);
+        }
+
+        @Override
+        public Expense createExpenseWithSplits(Long groupId, Long paidByUserId, String description,
+                        BigDecimal amount, ExpenseSplit.SplitType splitType,
+                        Map<Long, BigDecimal> userValueMap, Expense.ExpenseCategory category, String currency) {
                 Group group = groupRepository.findById(groupId)
                                 .orElseThrow(() -> new IllegalArgumentException("Group not found"));
                 User paidBy = userRepository.findById(paidByUserId)
                                 .orElseThrow(() -> new IllegalArgumentException("Paid by user not found"));
-                BigDecimal totalSplits = userAmountMap.values().stream()
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-                if (amount.subtract(totalSplits).abs().compareTo(new BigDecimal("0.01")) > 0) {
-                        throw new IllegalArgumentException("Split amounts must equal total expense amount");
+                if (userValueMap.isEmpty()) {
+                        throw new IllegalArgumentException("At least one participant is required");
                 }
+                // Allocate before touching the database so invalid splits fail fast
+                List<Long> userIds = new ArrayList<>(userValueMap.keySet());
+                long[] shares = splitEngine.allocate(splitType, Money.toMinorUnits(amount),
+                                splitEngine.encode(splitType, userValueMap.values()));
+                Map<Long, User> participants = participantResolver.resolve(groupId, userIds);
+                String expenseCurrency = FxRateTable.currencyOrDefault(currency, group.getDefaultCurrency());
                 Expense expense = Expense.builder()
                                 .group(group)
                                 .description(description)
@@ -95,31 +158,69 @@ public class ExpenseServiceImpl implements ExpenseService {
                                 .date(LocalDateTime.now())
                                 .paidBy(paidBy)
                                 .category(category)
+                                .currency(expenseCurrency)
+                                .exchangeRate(fxRateService.captureRate(expenseCurrency, group.getDefaultCurrency()))
                                 .status(Expense.ExpenseStatus.CONFIRMED)
                                 .createdBy(paidBy)
                                 .build();
                 expense = expenseRepository.save(expense);
-                createCustomSplits(expense, userAmountMap, group);
+                List<User> users = new ArrayList<>(userIds.size());
+                userIds.forEach(userId -> users.add(participants.get(userId)));
+                addSplits(expense, users, shares, splitType);
+                balanceLedgerService.recordExpense(expense, BalanceEvent.EventType.EXPENSE_CREATED);
+                spendingRollupService.recordExpense(expense);
+                publishChange(expense);
                 return expense;
         }
 
         @Override
         public Expense updateExpense(Long expenseId, String description, BigDecimal amount,
-                        Expense.ExpenseCategory category, String notes, User updatedBy) {
-                Expense expense = expenseRepository.findById(expenseId)
-                                .orElseThrow(() -> new IllegalArgumentException("Expense not found"));
-                if (expense.isFullySettled()) {
-                        throw new IllegalStateException("Cannot modify fully settled expense");
-                }
+                        Expense.ExpenseCategory category, String notes, User updatedBy, Long expectedVersion) {
+                Expense expense = findEditableExpense(expenseId, expectedVersion);
+                boolean amountChanged = expense.getAmount().compareTo(amount) != 0;
+                balanceLedgerService.reverseExpense(expense, BalanceEvent.EventType.EXPENSE_UPDATED);
+                spendingRollupService.reverseExpense(expense);
                 expense.setDescription(description);
                 expense.setAmount(amount);
                 expense.setCategory(category);
                 expense.setNotes(notes);
                 expense.setUpdatedBy(updatedBy);
-                if (!expense.getAmount().equals(amount)) {
+                if (amountChanged) {
                         recalculateSplits(expense);
                 }
-                return expenseRepository.save(expense);
+                Expense saved = expenseRepository.save(expense);
+                balanceLedgerService.recordExpense(saved, BalanceEvent.EventType.EXPENSE_UPDATED);
+                spendingRollupService.recordExpense(saved);
+                publishChange(saved);
+                return saved;
+        }
+
+        @Override
+        public Expense updateExpenseSplits(Long expenseId, ExpenseSplit.SplitType splitType,
+                        Map<Long, BigDecimal> userValueMap, User updatedBy, Long expectedVersion) {
+                Expense expense = findEditableExpense(expenseId, expectedVersion);
+                if (userValueMap.isEmpty()) {
+                        throw new IllegalArgumentException("At least one participant is required");
+                }
+                List<Long> userIds = new ArrayList<>(userValueMap.keySet());
+                long[] shares = splitEngine.allocate(splitType, Money.toMinorUnits(expense.getAmount()),
+                                splitEngine.encode(splitType, userValueMap.values()));
+                Map<Long, User> participants = participantResolver.resolve(expense.getGroup().getId(), userIds);
+                Map<Long, Long> sharesByUser = new LinkedHashMap<>();
+                for (int i = 0; i < shares.length; i++) {
+                        sharesByUser.put(userIds.get(i), shares[i]);
+                }
+                balanceLedgerService.reverseExpense(expense, BalanceEvent.EventType.EXPENSE_UPDATED);
+                spendingRollupService.reverseExpense(expense);
+                applySplitDiff(expense, sharesByUser, participants, splitType);
+                // Touching the expense bumps its version even when only splits changed
+                expense.setUpdatedBy(updatedBy);
+                expense.setUpdatedAt(LocalDateTime.now());
+                Expense saved = expenseRepository.save(expense);
+                balanceLedgerService.recordExpense(saved, BalanceEvent.EventType.EXPENSE_UPDATED);
+                spendingRollupService.recordExpense(saved);
+                publishChange(saved);
+                return saved;
         }
 
         @Override
@@ -129,33 +230,56 @@ public class ExpenseServiceImpl implements ExpenseService {
                 if (expense.isFullySettled()) {
                         throw new IllegalStateException("Cannot delete fully settled expense");
                 }
+                balanceLedgerService.reverseExpense(expense, BalanceEvent.EventType.EXPENSE_DELETED);
+                spendingRollupService.reverseExpense(expense);
                 expense.setStatus(Expense.ExpenseStatus.DELETED);
                 expense.setUpdatedBy(deletedBy);
                 expenseRepository.save(expense);
+                publishChange(expense);
         }
 
         @Override
-        public Page<Expense> getGroupExpenses(Long groupId, Pageable pageable) {
-                Group group = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-                return expenseRepository.findByGroupAndStatusNotOrderByDateDesc(group,
-                                Expense.ExpenseStatus.DELETED,
-                                pageable);
+        @Transactional(readOnly = true)
+        public Page<ExpenseSummaryView> getGroupExpenses(Long groupId, Pageable pageable) {
+                return expenseRepository.findSummariesByGroupId(groupId, Expense.ExpenseStatus.DELETED, pageable);
         }
 
         @Override
-        public List<Expense> getUserExpenses(Long userId) {
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-                return expenseRepository.findExpensesInvolvingUser(user);
+        @Transactional(readOnly = true)
+        public Page<ExpenseDetailView> getUserExpenses(Long userId, Pageable pageable) {
+                Page<ExpenseSummaryView> summaries = expenseRepository.findSummariesInvolvingUser(userId, pageable);
+                if (summaries.isEmpty()) {
+                        return summaries.map(summary -> ExpenseDetailView.of(summary, List.of()));
+                }
+                // Bounded by the page size
+                Map<Long, List<ExpenseSplitView>> splitsByExpense = expenseRepository
+                                .findSplitViewsByExpenseIds(summaries.map(ExpenseSummaryView::id).getContent())
+                                .stream()
+                                .collect(Collectors.groupingBy(ExpenseSplitView::expenseId));
+                return summaries.map(summary -> ExpenseDetailView.of(summary,
+                                splitsByExpense.getOrDefault(summary.id(), List.of())));
         }
 
         @Override
         public List<Expense> getRecentExpenses(Long groupId, int limit) {
                 Group group = groupRepository.findById(groupId)
                                 .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-                return expenseRepository.findTop10ByGroupAndStatusNotOrderByCreatedAtDesc(group,
-                                Expense.ExpenseStatus.DELETED);
+                return expenseRepository.findRecentByGroupAndStatusNot(group, Expense.ExpenseStatus.DELETED,
+                                PageRequest.of(0, FeedCursor.clampLimit(limit)));
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<ExpenseSummaryView> getGroupExpenseFeed(Long groupId, String cursor, int limit) {
+                int pageSize = FeedCursor.clampLimit(limit);
+                FeedCursor after = FeedCursor.decode(cursor);
+                // One extra row tells whether there is a next page
+                PageRequest page = PageRequest.of(0, pageSize + 1);
+                List<ExpenseSummaryView> rows = after == null
+                                ? expenseRepository.findFeedByGroupId(groupId, Expense.ExpenseStatus.DELETED, page)
+                                : expenseRepository.findFeedByGroupIdBefore(groupId, Expense.ExpenseStatus.DELETED,
+                                                after.timestamp(), after.id(), page);
+                return CursorPage.of(rows, pageSize, row -> new FeedCursor(row.date(), row.id()));
         }
 
         @Override
@@ -171,14 +295,19 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         @Override
         public ExpenseStats getGroupExpenseStats(Long groupId) {
-                Group group = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+                return groupReadCache.getExpenseStats(groupId, () -> loadGroupExpenseStats(groupId));
+        }
+
+        private ExpenseStats loadGroupExpenseStats(Long groupId) {
+                if (!groupRepository.existsById(groupId)) {
+                        throw new IllegalArgumentException("Group not found");
+                }
+                GroupExpenseTotals totals = expenseRepository.getGroupExpenseTotals(groupId);
                 return ExpenseStats.builder()
-                                .totalExpenses(expenseRepository.countByGroupAndStatusNot(group,
-                                                Expense.ExpenseStatus.DELETED))
-                                .totalAmount(expenseRepository.getTotalAmountByGroup(group))
-                                .settledAmount(expenseRepository.getTotalSettledAmountByGroup(group))
-                                .averageExpenseAmount(expenseRepository.getAverageExpenseAmountByGroup(group))
+                                .totalExpenses(totals.liveExpenseCount())
+                                .totalAmount(totals.totalAmount())
+                                .settledAmount(totals.settledAmount())
+                                .averageExpenseAmount(totals.averageAmount())
                                 .build();
         }
 
@@ -208,201 +337,110 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         // ========== PRIVATE HELPERS ========== //
 
-        private void createEqualSplits(Expense expense, List<User> participants) {
-                BigDecimal shareAmount = expense.getAmount()
-                                .divide(BigDecimal.valueOf(participants.size()), 2, RoundingMode.HALF_UP);
-                BigDecimal totalAssigned = BigDecimal.ZERO;
-                for (int i = 0; i < participants.size(); i++) {
-                        User participant = participants.get(i);
-                        BigDecimal amount = shareAmount;
-                        if (i == participants.size() - 1) {
-                                amount = expense.getAmount().subtract(totalAssigned);
-                        }
+        private void addSplits(Expense expense, List<User> users, long[] shares, ExpenseSplit.SplitType splitType) {
+                for (int i = 0; i < shares.length; i++) {
                         ExpenseSplit split = ExpenseSplit.builder()
                                         .expense(expense)
-                                        .user(participant)
-                                        .shareAmount(amount)
-                                        .splitType(ExpenseSplit.SplitType.EQUAL)
+                                        .user(users.get(i))
+                                        .shareAmount(Money.toBigDecimal(shares[i]))
+                                        .splitType(splitType)
                                         .settled(false)
                                         .build();
                         expense.addSplit(split);
-                        totalAssigned = totalAssigned.add(amount);
                 }
                 expenseSplitRepository.saveAll(expense.getSplits());
         }
 
-        private void createCustomSplits(Expense expense, Map<Long, BigDecimal> userAmountMap, Group group) {
-                for (Map.Entry<Long, BigDecimal> entry : userAmountMap.entrySet()) {
-                        User user = userRepository.findById(entry.getKey())
-                                        .orElseThrow(() -> new IllegalArgumentException(
-                                                        "User not found: " + entry.getKey()));
-                        if (!group.getMembers().contains(user)) {
-                                throw new IllegalArgumentException("User is not a member of the group");
-                        }
-                        ExpenseSplit split = ExpenseSplit.builder()
-                                        .expense(expense)
-                                        .user(user)
-                                        .shareAmount(entry.getValue())
-                                        .splitType(ExpenseSplit.SplitType.EXACT_AMOUNT)
-                                        .settled(false)
-                                        .build();
-                        expense.addSplit(split);
+        private Expense findEditableExpense(Long expenseId, Long expectedVersion) {
+                Expense expense = expenseRepository.findById(expenseId)
+                                .orElseThrow(() -> new IllegalArgumentException("Expense not found"));
+                // Checked here for edits based on an older read; concurrent
+                // writers racing this transaction are caught by @Version on flush
+                if (expectedVersion != null && !expectedVersion.equals(expense.getVersion())) {
+                        throw new ObjectOptimisticLockingFailureException(Expense.class, expenseId);
                 }
-                expenseSplitRepository.saveAll(expense.getSplits());
+                if (expense.isFullySettled()) {
+                        throw new IllegalStateException("Cannot modify fully settled expense");
+                }
+                return expense;
         }
 
+        /**
+         * Rescale the existing splits to a new amount: equal splits stay equal,
+         * anything else keeps its proportions. Participants are ordered by user ID
+         * so leftover cents land on the same people every time.
+         */
         private void recalculateSplits(Expense expense) {
                 List<ExpenseSplit> currentSplits = new ArrayList<>(expense.getSplits());
+                currentSplits.sort(Comparator.comparing(split -> split.getUser().getId()));
                 boolean allEqualSplits = currentSplits.stream()
                                 .allMatch(split -> split.getSplitType() == ExpenseSplit.SplitType.EQUAL);
-                if (allEqualSplits) {
-                        expense.getSplits().clear();
-                        List<User> participants = currentSplits.stream()
-                                        .map(ExpenseSplit::getUser)
-                                        .collect(Collectors.toList());
-                        createEqualSplits(expense, participants);
-                } else {
-                        BigDecimal oldTotal = currentSplits.stream()
-                                        .map(ExpenseSplit::getShareAmount)
-                                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-                        BigDecimal ratio = expense.getAmount().divide(oldTotal, 4, RoundingMode.HALF_UP);
-                        for (ExpenseSplit split : currentSplits) {
-                                BigDecimal newAmount = split.getShareAmount().multiply(ratio)
-                                                .setScale(2, RoundingMode.HALF_UP);
-                                split.setShareAmount(newAmount);
-                        }
-                }
-        }
-
-        private List<User> validateParticipants(List<Long> participantUserIds, Group group) {
-                List<User> participants = userRepository.findAllById(participantUserIds);
-                if (participants.size() != participantUserIds.size()) {
-                        throw new IllegalArgumentException("Some participants not found");
+                long[] weights = new long[currentSplits.size()];
+                for (int i = 0; i < weights.length; i++) {
+                        weights[i] = Money.toMinorUnits(currentSplits.get(i).getShareAmount());
                 }
-                for (User participant : participants) {
-                        if (!group.getMembers().contains(participant)) {
-                                throw new IllegalArgumentException("User " + participant.getName() +
-                                                " is not a member of the group");
+                long totalMinor = Money.toMinorUnits(expense.getAmount());
+                long[] shares = allEqualSplits
+                                ? splitEngine.allocate(ExpenseSplit.SplitType.EQUAL, totalMinor, weights)
+                                : SplitAllocator.allocate(totalMinor, weights);
+                for (int i = 0; i < shares.length; i++) {
+                        ExpenseSplit split = currentSplits.get(i);
+                        BigDecimal share = Money.toBigDecimal(shares[i]);
+                        if (split.getShareAmount().compareTo(share) != 0) {
+                                requireUnsettled(split);
+                                split.setShareAmount(share);
                         }
                 }
-                return participants;
         }
 
-        @Override
-        public Expense createExpenseWithPercentageSplits(Long groupId, Long paidByUserId, String description,
-                        BigDecimal amount,
-                        Map<Long, BigDecimal> userPercentageMap, Expense.ExpenseCategory category) {
-                Group group = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-                User paidBy = userRepository.findById(paidByUserId)
-                                .orElseThrow(() -> new IllegalArgumentException("Paid by user not found"));
-                // Validate percentages sum to 100 (allowing for rounding error)
-                BigDecimal totalPercent = userPercentageMap.values().stream()
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-                if (totalPercent.subtract(new BigDecimal("100")).abs().compareTo(new BigDecimal("0.01")) > 0) {
-                        throw new IllegalArgumentException("Split percentages must sum to 100");
+        /**
+         * Bring the expense's splits in line with the target shares using the
+         * fewest writes: unchanged splits are left alone, changed ones updated in
+         * place, and only added or removed participants insert or delete rows.
+         */
+        private void applySplitDiff(Expense expense, Map<Long, Long> sharesByUser, Map<Long, User> participants,
+                        ExpenseSplit.SplitType splitType) {
+                Map<Long, ExpenseSplit> current = new HashMap<>();
+                for (ExpenseSplit split : expense.getSplits()) {
+                        current.put(split.getUser().getId(), split);
                 }
-                // Validate all users are in the group
-                for (Long userId : userPercentageMap.keySet()) {
-                        User user = userRepository.findById(userId)
-                                        .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-                        if (!group.getMembers().contains(user)) {
-                                throw new IllegalArgumentException("User is not a member of the group");
+                for (ExpenseSplit split : current.values()) {
+                        if (!sharesByUser.containsKey(split.getUser().getId())) {
+                                requireUnsettled(split);
+                                expense.getSplits().remove(split);
                         }
                 }
-                Expense expense = Expense.builder()
-                                .group(group)
-                                .description(description)
-                                .amount(amount)
-                                .date(LocalDateTime.now())
-                                .paidBy(paidBy)
-                                .category(category)
-                                .status(Expense.ExpenseStatus.CONFIRMED)
-                                .createdBy(paidBy)
-                                .build();
-                expense = expenseRepository.save(expense);
-                // Create splits
-                BigDecimal totalAssigned = BigDecimal.ZERO;
-                int i = 0;
-                int n = userPercentageMap.size();
-                for (Map.Entry<Long, BigDecimal> entry : userPercentageMap.entrySet()) {
-                        User user = userRepository.findById(entry.getKey()).get();
-                        BigDecimal percent = entry.getValue();
-                        BigDecimal shareAmount = amount.multiply(percent).divide(new BigDecimal("100"), 2,
-                                        RoundingMode.HALF_UP);
-                        if (++i == n) {
-                                // Assign remainder to last user to avoid rounding issues
-                                shareAmount = amount.subtract(totalAssigned);
+                List<ExpenseSplit> added = new ArrayList<>();
+                for (Map.Entry<Long, Long> entry : sharesByUser.entrySet()) {
+                        BigDecimal share = Money.toBigDecimal(entry.getValue());
+                        ExpenseSplit split = current.get(entry.getKey());
+                        if (split == null) {
+                                ExpenseSplit newSplit = ExpenseSplit.builder()
+                                                .user(participants.get(entry.getKey()))
+                                                .shareAmount(share)
+                                                .splitType(splitType)
+                                                .settled(false)
+                                                .build();
+                                expense.addSplit(newSplit);
+                                added.add(newSplit);
+                        } else if (split.getShareAmount().compareTo(share) != 0 || split.getSplitType() != splitType) {
+                                requireUnsettled(split);
+                                split.setShareAmount(share);
+                                split.setSplitType(splitType);
                         }
-                        ExpenseSplit split = ExpenseSplit.builder()
-                                        .expense(expense)
-                                        .user(user)
-                                        .shareAmount(shareAmount)
-                                        .splitType(ExpenseSplit.SplitType.PERCENTAGE)
-                                        .settled(false)
-                                        .build();
-                        expense.addSplit(split);
-                        totalAssigned = totalAssigned.add(shareAmount);
                 }
-                expenseSplitRepository.saveAll(expense.getSplits());
-                return expense;
+                expenseSplitRepository.saveAll(added);
         }
 
-        @Override
-        public Expense createExpenseWithShareSplits(Long groupId, Long paidByUserId, String description,
-                        BigDecimal amount,
-                        Map<Long, Integer> userShareMap, Expense.ExpenseCategory category) {
-                Group group = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-                User paidBy = userRepository.findById(paidByUserId)
-                                .orElseThrow(() -> new IllegalArgumentException("Paid by user not found"));
-                int totalShares = userShareMap.values().stream().mapToInt(Integer::intValue).sum();
-                if (totalShares <= 0) {
-                        throw new IllegalArgumentException("Total shares must be greater than zero");
-                }
-                // Validate all users are in the group
-                for (Long userId : userShareMap.keySet()) {
-                        User user = userRepository.findById(userId)
-                                        .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-                        if (!group.getMembers().contains(user)) {
-                                throw new IllegalArgumentException("User is not a member of the group");
-                        }
+        private static void requireUnsettled(ExpenseSplit split) {
+                if (split.isSettled()) {
+                        throw new IllegalStateException("Cannot change a settled split");
                 }
-                Expense expense = Expense.builder()
-                                .group(group)
-                                .description(description)
-                                .amount(amount)
-                                .date(LocalDateTime.now())
-                                .paidBy(paidBy)
-                                .category(category)
-                                .status(Expense.ExpenseStatus.CONFIRMED)
-                                .createdBy(paidBy)
-                                .build();
-                expense = expenseRepository.save(expense);
-                // Create splits
-                BigDecimal totalAssigned = BigDecimal.ZERO;
-                int i = 0;
-                int n = userShareMap.size();
-                for (Map.Entry<Long, Integer> entry : userShareMap.entrySet()) {
-                        User user = userRepository.findById(entry.getKey()).get();
-                        int shares = entry.getValue();
-                        BigDecimal shareAmount = amount.multiply(BigDecimal.valueOf(shares))
-                                        .divide(BigDecimal.valueOf(totalShares), 2, RoundingMode.HALF_UP);
-                        if (++i == n) {
-                                // Assign remainder to last user to avoid rounding issues
-                                shareAmount = amount.subtract(totalAssigned);
-                        }
-                        ExpenseSplit split = ExpenseSplit.builder()
-                                        .expense(expense)
-                                        .user(user)
-                                        .shareAmount(shareAmount)
-                                        .splitType(ExpenseSplit.SplitType.SHARES)
-                                        .settled(false)
-                                        .build();
-                        expense.addSplit(split);
-                        totalAssigned = totalAssigned.add(shareAmount);
-                }
-                expenseSplitRepository.saveAll(expense.getSplits());
-                return expense;
+        }
+
+        // Cached group reads are evicted once this transaction commits
+        private void publishChange(Expense expense) {
+                eventPublisher.publishEvent(new GroupDataChangedEvent(expense.getGroup().getId(),
+                                GroupDataChangedEvent.ChangeType.EXPENSE, expense.getId()));
         }
 }
@@ -0,0 +1,151 @@
+package com.dasa.splitspends.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dasa.splitspends.entity.FxRate;
+import com.dasa.splitspends.repository.FxRateRepository;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.util.FxRateTable;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class FxRateServiceImpl implements FxRateService {
+
+    // Scale of the exchange_rate columns on expenses and settlements
+    private static final int RATE_SCALE = 8;
+
+    private final FxRateRepository fxRateRepository;
+
+    @Value("${app.fx.base-currency:USD}")
+    private String baseCurrency;
+
+    // Optional CSV of "date,currency,rate" lines; the fx_rates table is used when blank
+    @Value("${app.fx.rates-file:}")
+    private String ratesFile;
+
+    private volatile FxRateTable rateTable;
+
+    public FxRateServiceImpl(FxRateRepository fxRateRepository) {
+        this.fxRateRepository = fxRateRepository;
+    }
+
+    @Override
+    public FxRateTable getRateTable() {
+        FxRateTable table = rateTable;
+        return table != null ? table : FxRateTable.empty(baseCurrency);
+    }
+
+    @Override
+    public BigDecimal convert(BigDecimal amount, String fromCurrency, String toCurrency) {
+        return getRateTable().convert(amount, fromCurrency, toCurrency);
+    }
+
+    @Override
+    public BigDecimal captureRate(String currency, String groupCurrency) {
+        if (currency.equals(groupCurrency)) {
+            return BigDecimal.ONE;
+        }
+        FxRateTable table = getRateTable();
+        if (!table.supports(currency) || !table.supports(groupCurrency)) {
+            throw new IllegalArgumentException(
+                    "No exchange rate available from " + currency + " to " + groupCurrency);
+        }
+        return table.rate(currency, groupCurrency).setScale(RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public FxRateTable reload() {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        Map<String, LocalDate> dates = new HashMap<>();
+        if (ratesFile != null && !ratesFile.isBlank()) {
+            loadFromFile(Path.of(ratesFile), rates, dates);
+        } else {
+            loadFromDatabase(rates, dates);
+        }
+        return publish(rates, dates);
+    }
+
+    /**
+     * Load rates at startup and on schedule. A rates file that cannot be read
+     * is logged and the fx_rates table is used instead, so a bad file never
+     * stops the application from starting.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.fx.refresh-cron:0 15 0 * * *}")
+    public void refreshRates() {
+        try {
+            reload();
+        } catch (IllegalStateException | IllegalArgumentException | DateTimeParseException e) {
+            log.error("Could not load exchange rates from {}, using the fx_rates table: {}", ratesFile,
+                    e.getMessage());
+            Map<String, BigDecimal> rates = new HashMap<>();
+            Map<String, LocalDate> dates = new HashMap<>();
+            loadFromDatabase(rates, dates);
+            publish(rates, dates);
+        }
+    }
+
+    // ========== PRIVATE HELPERS ==========
+
+    private FxRateTable publish(Map<String, BigDecimal> rates, Map<String, LocalDate> dates) {
+        LocalDate asOf = dates.values().stream().max(LocalDate::compareTo).orElse(null);
+        FxRateTable table = new FxRateTable(baseCurrency, asOf, rates);
+        rateTable = table;
+        log.info("Loaded {} exchange rates against {} as of {}", rates.size(), baseCurrency, asOf);
+        return table;
+    }
+
+    private void loadFromDatabase(Map<String, BigDecimal> rates, Map<String, LocalDate> dates) {
+        for (FxRate rate : fxRateRepository.findLatestRates()) {
+            rates.put(rate.getCurrency(), rate.getRate());
+            dates.put(rate.getCurrency(), rate.getRateDate());
+        }
+    }
+
+    /**
+     * Read "date,currency,rate" lines, keeping the latest rate per currency.
+     * Blank lines, comments and a header line are skipped.
+     */
+    private void loadFromFile(Path path, Map<String, BigDecimal> rates, Map<String, LocalDate> dates) {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("date")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 3) {
+                    throw new IllegalStateException("Invalid exchange rate line: " + line);
+                }
+                LocalDate date = LocalDate.parse(parts[0].trim());
+                String currency = parts[1].trim().toUpperCase();
+                LocalDate current = dates.get(currency);
+                if (current == null || date.isAfter(current)) {
+                    dates.put(currency, date);
+                    rates.put(currency, new BigDecimal(parts[2].trim()));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read exchange rates from " + path, e);
+        }
+    }
+}
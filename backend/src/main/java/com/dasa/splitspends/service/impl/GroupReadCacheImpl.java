@@ -0,0 +1,80 @@
+package com.dasa.splitspends.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.service.GroupReadCache;
+import com.dasa.splitspends.util.BoundedTtlCache;
+
+@Service
+public class GroupReadCacheImpl implements GroupReadCache {
+
+    private final BoundedTtlCache<Long, GroupServiceImpl.GroupStats> groupStats;
+    private final BoundedTtlCache<Long, List<GroupServiceImpl.UserBalance>> groupBalances;
+    private final BoundedTtlCache<Long, ExpenseStats> expenseStats;
+
+    public GroupReadCacheImpl(@Value("${app.cache.group.max-size:1000}") int maxSize,
+            @Value("${app.cache.group.ttl-seconds:300}") long ttlSeconds) {
+        long ttlMillis = ttlSeconds * 1000L;
+        this.groupStats = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.groupBalances = new BoundedTtlCache<>(maxSize, ttlMillis);
+        this.expenseStats = new BoundedTtlCache<>(maxSize, ttlMillis);
+    }
+
+    @Override
+    public GroupServiceImpl.GroupStats getGroupStats(Long groupId, Supplier<GroupServiceImpl.GroupStats> loader) {
+        return groupStats.get(groupId, loader);
+    }
+
+    @Override
+    public List<GroupServiceImpl.UserBalance> getGroupBalances(Long groupId,
+            Supplier<List<GroupServiceImpl.UserBalance>> loader) {
+        return groupBalances.get(groupId, loader);
+    }
+
+    @Override
+    public ExpenseStats getExpenseStats(Long groupId, Supplier<ExpenseStats> loader) {
+        return expenseStats.get(groupId, loader);
+    }
+
+    @Override
+    public void evictGroup(Long groupId) {
+        groupStats.invalidate(groupId);
+        groupBalances.invalidate(groupId);
+        expenseStats.invalidate(groupId);
+    }
+
+    @Override
+    public void evictAll() {
+        groupStats.invalidateAll();
+        groupBalances.invalidateAll();
+        expenseStats.invalidateAll();
+    }
+
+    @Override
+    public Map<String, BoundedTtlCache.Stats> getStats() {
+        Map<String, BoundedTtlCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("groupStats", groupStats.stats());
+        stats.put("groupBalances", groupBalances.stats());
+        stats.put("expenseStats", expenseStats.stats());
+        return stats;
+    }
+
+    /**
+     * Evict once the write is committed; a rolled-back write leaves the cache
+     * untouched. Writes made outside a transaction evict immediately.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGroupDataChanged(GroupDataChangedEvent event) {
+        evictGroup(event.getGroupId());
+    }
+}
@@ -7,19 +7,26 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.dasa.splitspends.dto.expense.GroupExpenseTotals;
 import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.GroupMemberBalance;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
 import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
 import com.dasa.splitspends.repository.GroupRepository;
 import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.GroupReadCache;
 import com.dasa.splitspends.service.GroupService;
 import com.dasa.splitspends.service.UserService;
+import com.dasa.splitspends.util.SearchText;
 
 @Service
 @Transactional
@@ -34,9 +41,18 @@ public class GroupServiceImpl implements GroupService {
     @Autowired
     private ExpenseRepository expenseRepository;
 
+    @Autowired
+    private GroupMemberBalanceRepository groupMemberBalanceRepository;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private GroupReadCache groupReadCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // ========== GROUP CREATION & MANAGEMENT ==========
 
     /**
@@ -95,7 +111,9 @@ public class GroupServiceImpl implements GroupService {
             group.setDefaultCurrency(defaultCurrency);
         }
 
-        return groupRepository.save(group);
+        Group saved = groupRepository.save(group);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
+        return saved;
     }
 
     /**
@@ -114,7 +132,9 @@ public class GroupServiceImpl implements GroupService {
         String filename = "group_" + groupId + "_" + file.getOriginalFilename();
         group.setGroupImageUrl("/uploads/groups/" + filename);
 
-        return groupRepository.save(group);
+        Group saved = groupRepository.save(group);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
+        return saved;
     }
 
     // ========== MEMBER MANAGEMENT ==========
@@ -140,6 +160,7 @@ public class GroupServiceImpl implements GroupService {
             }
         }
 
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.MEMBERSHIP);
         return groupRepository.save(group);
     }
 
@@ -168,6 +189,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         group.removeMember(userToRemove);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.MEMBERSHIP);
         return groupRepository.save(group);
     }
 
@@ -190,6 +212,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         group.addAdmin(userToPromote);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.MEMBERSHIP);
         return groupRepository.save(group);
     }
 
@@ -218,6 +241,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         group.removeAdmin(userToDemote);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.MEMBERSHIP);
         return groupRepository.save(group);
     }
 
@@ -295,6 +319,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         group.archive(archivedBy);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
         return groupRepository.save(group);
     }
 
@@ -311,6 +336,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         group.reactivate();
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
         return groupRepository.save(group);
     }
 
@@ -333,6 +359,7 @@ public class GroupServiceImpl implements GroupService {
 
         group.softDelete();
         groupRepository.save(group);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
     }
 
     // ========== GROUP SETTINGS MANAGEMENT ==========
@@ -361,52 +388,68 @@ public class GroupServiceImpl implements GroupService {
             group.setAllowExternalPayments(allowExternalPayments);
         }
 
-        return groupRepository.save(group);
+        Group saved = groupRepository.save(group);
+        publishChange(groupId, GroupDataChangedEvent.ChangeType.GROUP);
+        return saved;
     }
 
     // ========== GROUP STATISTICS & ANALYTICS ==========
 
     /**
-     * Get group statistics
+     * Get group statistics (cached per group until the next committed write)
      */
     @Override
     public GroupStats getGroupStats(Long groupId) {
+        return groupReadCache.getGroupStats(groupId, () -> loadGroupStats(groupId));
+    }
+
+    private GroupStats loadGroupStats(Long groupId) {
         Group group = getGroupById(groupId);
 
-        Long totalExpenses = expenseRepository.countByGroup(group);
-        BigDecimal totalAmount = expenseRepository.getTotalAmountByGroup(group);
-        BigDecimal settledAmount = expenseRepository.getTotalSettledAmountByGroup(group);
+        GroupExpenseTotals totals = expenseRepository.getGroupExpenseTotals(groupId);
 
         return GroupStats.builder()
                 .groupId(groupId)
                 .memberCount(group.getMemberCount())
                 .adminCount(group.getAdmins().size())
-                .totalExpenses(totalExpenses)
-                .totalAmount(totalAmount)
-                .settledAmount(settledAmount)
+                .totalExpenses(totals.expenseCount())
+                .totalAmount(totals.totalAmount())
+                .settledAmount(totals.settledAmount())
                 .createdAt(group.getCreatedAt())
                 .isActive(group.isActive())
                 .build();
     }
 
     /**
-     * Get group balance summary
+     * Get group balance summary (read from the incrementally maintained ledger,
+     * cached per group until the next committed write)
      */
     @Override
     public List<UserBalance> getGroupBalances(Long groupId) {
-        Group group = getGroupById(groupId);
+        return groupReadCache.getGroupBalances(groupId, () -> loadGroupBalances(groupId));
+    }
 
-        return group.getMembers().stream()
-                .map(user -> {
-                    BigDecimal totalPaid = expenseRepository.getTotalPaidByUserInGroup(group, user);
-                    BigDecimal totalOwed = expenseRepository.getTotalOwedByUserInGroup(group, user);
-                    BigDecimal netBalance = totalPaid.subtract(totalOwed);
+    private List<UserBalance> loadGroupBalances(Long groupId) {
+        getGroupById(groupId);
+
+        return groupMemberBalanceRepository.findMemberBalancesByGroupId(groupId).stream()
+                .map(row -> {
+                    User user = (User) row[0];
+                    GroupMemberBalance balance = (GroupMemberBalance) row[1];
+                    if (balance == null) {
+                        return UserBalance.builder()
+                                .user(user)
+                                .totalPaid(BigDecimal.ZERO)
+                                .totalOwed(BigDecimal.ZERO)
+                                .netBalance(BigDecimal.ZERO)
+                                .build();
+                    }
 
                     return UserBalance.builder()
                             .user(user)
-                            .totalPaid(totalPaid)
-                            .totalOwed(totalOwed)
-                            .netBalance(netBalance)
+                            .totalPaid(balance.getTotalPaid())
+                            .totalOwed(balance.getTotalOwed())
+                            .netBalance(balance.getNetBalance())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -432,6 +475,10 @@ public class GroupServiceImpl implements GroupService {
         }
     }
 
+    private void publishChange(Long groupId, GroupDataChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new GroupDataChangedEvent(groupId, changeType));
+    }
+
     /**
      * Check if group has unsettled expenses
      */
@@ -450,9 +497,11 @@ public class GroupServiceImpl implements GroupService {
      * Get users suitable for group invitation
      */
     @Override
-    public List<User> getUsersForInvitation(Long groupId, String searchQuery) {
+    public List<User> getUsersForInvitation(Long groupId, String searchQuery, Pageable pageable) {
         Group group = getGroupById(groupId);
-        return userRepository.findUsersNotInGroup(searchQuery, group);
+        String pattern = SearchText.pattern(searchQuery);
+        return pattern == null ? List.of() : userRepository.findUsersNotInGroup(pattern,
+                SearchText.emailPattern(searchQuery), group.getId(), pageable);
     }
 
     // ========== SUPER ADMIN METHODS ==========
@@ -0,0 +1,41 @@
+package com.dasa.splitspends.service.impl;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.service.GroupVersionService;
+
+@Service
+public class GroupVersionServiceImpl implements GroupVersionService {
+
+    private final GroupRepository groupRepository;
+
+    public GroupVersionServiceImpl(GroupRepository groupRepository) {
+        this.groupRepository = groupRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(Long groupId) {
+        return groupRepository.findChangeVersion(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+    }
+
+    @Override
+    public String getETag(Long groupId) {
+        return "\"" + groupId + "-" + getVersion(groupId) + "\"";
+    }
+
+    /**
+     * Bump the version inside the writing transaction (not after commit), so
+     * the new version becomes visible together with the data it describes.
+     */
+    @EventListener
+    @Transactional
+    public void onGroupDataChanged(GroupDataChangedEvent event) {
+        groupRepository.incrementChangeVersion(event.getGroupId());
+    }
+}
@@ -9,14 +9,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.Invitation;
+import com.dasa.splitspends.entity.OutboxEvent;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.repository.GroupRepository;
 import com.dasa.splitspends.repository.InvitationRepository;
 import com.dasa.splitspends.repository.UserRepository;
-import com.dasa.splitspends.service.ActivityLogService;
 import com.dasa.splitspends.service.GroupService;
 import com.dasa.splitspends.service.InvitationService;
-import com.dasa.splitspends.service.NotificationService;
+import com.dasa.splitspends.service.OutboxService;
 
 @Service
 @Transactional
@@ -26,21 +26,18 @@ public class InvitationServiceImpl implements InvitationService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final GroupService groupService;
-    private final ActivityLogService activityLogService;
-    private final NotificationService notificationService;
+    private final OutboxService outboxService;
 
     public InvitationServiceImpl(InvitationRepository invitationRepository,
             UserRepository userRepository,
             GroupRepository groupRepository,
             GroupService groupService,
-            ActivityLogService activityLogService,
-            NotificationService notificationService) {
+            OutboxService outboxService) {
         this.invitationRepository = invitationRepository;
         this.userRepository = userRepository;
         this.groupRepository = groupRepository;
         this.groupService = groupService;
-        this.activityLogService = activityLogService;
-        this.notificationService = notificationService;
+        this.outboxService = outboxService;
     }
 
     @Override
@@ -73,11 +70,8 @@ public class InvitationServiceImpl implements InvitationService {
 
         Invitation saved = invitationRepository.save(invitation);
 
-        // Log activity
-        activityLogService.logInvitationSent(saved, invitedBy);
-
-        // Send notification
-        notificationService.sendGroupInvitationNotification(saved);
+        // Activity log and invitee notification are written by the outbox dispatcher
+        outboxService.enqueue(OutboxEvent.EventType.INVITATION_SENT, saved.getId(), invitedBy.getId(), null);
 
         return saved;
     }
@@ -109,8 +103,7 @@ public class InvitationServiceImpl implements InvitationService {
 
         Invitation saved = invitationRepository.save(invitation);
 
-        // Log activity
-        activityLogService.logInvitationAccepted(saved, acceptingUser);
+        outboxService.enqueue(OutboxEvent.EventType.INVITATION_ACCEPTED, saved.getId(), acceptingUser.getId(), null);
 
         return saved;
     }
@@ -132,8 +125,8 @@ public class InvitationServiceImpl implements InvitationService {
 
         Invitation saved = invitationRepository.save(invitation);
 
-        // Log activity
-        activityLogService.logInvitationDeclined(saved, decliningUser, reason);
+        outboxService.enqueue(OutboxEvent.EventType.INVITATION_DECLINED, saved.getId(), decliningUser.getId(),
+                reason);
 
         return saved;
     }
@@ -181,8 +174,8 @@ public class InvitationServiceImpl implements InvitationService {
 
         invitationRepository.save(invitation);
 
-        // Log activity
-        activityLogService.logInvitationCancelled(invitation, cancelledBy);
+        outboxService.enqueue(OutboxEvent.EventType.INVITATION_CANCELLED, invitation.getId(), cancelledBy.getId(),
+                null);
     }
 
     @Override
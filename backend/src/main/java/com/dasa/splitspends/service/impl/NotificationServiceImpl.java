@@ -4,10 +4,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.Invitation;
@@ -17,6 +19,7 @@ import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.repository.NotificationRepository;
 import com.dasa.splitspends.repository.UserRepository;
 import com.dasa.splitspends.service.NotificationService;
+import com.dasa.splitspends.util.FeedCursor;
 
 @Service
 @Transactional
@@ -58,6 +61,20 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findByRecipientIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getUserNotificationFeed(Long userId, String cursor, int limit) {
+        int pageSize = FeedCursor.clampLimit(limit);
+        FeedCursor after = FeedCursor.decode(cursor);
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Notification> rows = after == null
+                ? notificationRepository.findFeedByRecipientId(userId, page)
+                : notificationRepository.findFeedByRecipientIdBefore(userId, after.timestamp(), after.id(), page);
+        return CursorPage.of(rows, pageSize,
+                notification -> new FeedCursor(notification.getCreatedAt(), notification.getId()));
+    }
+
     @Override
     public Notification markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -71,7 +88,11 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public int markAllAsRead(Long userId) {
-        return notificationRepository.markAllAsReadForUser(userId);
+        // Marked through the entities rather than a bulk update, so each row
+        // gets its own change sequence value for delta sync
+        List<Notification> unread = notificationRepository.findUnreadByUserId(userId);
+        unread.forEach(Notification::markAsRead);
+        return unread.size();
     }
 
     @Override
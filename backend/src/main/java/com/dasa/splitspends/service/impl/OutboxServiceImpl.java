@@ -0,0 +1,289 @@
+package com.dasa.splitspends.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.entity.Invitation;
+import com.dasa.splitspends.entity.OutboxEvent;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.InvitationRepository;
+import com.dasa.splitspends.repository.OutboxEventRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.ActivityLogService;
+import com.dasa.splitspends.service.NotificationService;
+import com.dasa.splitspends.service.OutboxService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final SettleUpRepository settleUpRepository;
+    private final InvitationRepository invitationRepository;
+    private final UserRepository userRepository;
+    private final ActivityLogService activityLogService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+    private final boolean dispatcherEnabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+            SettleUpRepository settleUpRepository,
+            InvitationRepository invitationRepository,
+            UserRepository userRepository,
+            ActivityLogService activityLogService,
+            NotificationService notificationService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.batch-size:100}") int batchSize,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retention-days:7}") int retentionDays,
+            @Value("${app.outbox.dispatcher-enabled:true}") boolean dispatcherEnabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.settleUpRepository = settleUpRepository;
+        this.invitationRepository = invitationRepository;
+        this.userRepository = userRepository;
+        this.activityLogService = activityLogService;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.dispatcherEnabled = dispatcherEnabled;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(OutboxEvent.EventType eventType, Long aggregateId, Long actorId, String detail) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .actorId(actorId)
+                .detail(truncate(detail))
+                .build());
+    }
+
+    // With the dispatcher disabled, events are only delivered by explicit
+    // dispatchPending calls (tests, or another instance doing the polling)
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void runScheduledDispatch() {
+        if (!dispatcherEnabled) {
+            return;
+        }
+        int processed = dispatchPending();
+        if (processed > 0) {
+            log.debug("Dispatched {} outbox events", processed);
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeProcessedEvents() {
+        if (!dispatcherEnabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed outbox events", deleted);
+    }
+
+    @Override
+    public int dispatchPending() {
+        int processed = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            BatchResult batch;
+            try {
+                batch = transactionTemplate.execute(status -> processBatch(cursor));
+            } catch (RuntimeException e) {
+                // One bad event rolled back the whole batch; redo it one event at a time
+                log.warn("Outbox batch after event {} failed, retrying events singly: {}", cursor, e.getMessage());
+                batch = processSingly(cursor);
+            }
+            if (batch == null || batch.claimed == 0) {
+                return processed;
+            }
+            processed += batch.processed;
+            if (batch.claimed < batchSize) {
+                return processed;
+            }
+            afterId = batch.lastId;
+        }
+    }
+
+    // ========== BATCH PROCESSING ==========
+
+    private record BatchResult(int claimed, int processed, long lastId) {
+    }
+
+    /**
+     * Claim one page of pending events after the ID cursor and deliver all of
+     * them. Runs in its own transaction, which holds the row locks, so the
+     * consumers' writes and the processed marks commit together.
+     */
+    private BatchResult processBatch(long afterId) {
+        List<OutboxEvent> claimed = outboxEventRepository.claimPending(maxAttempts, afterId,
+                PageRequest.of(0, batchSize));
+        if (claimed.isEmpty()) {
+            return new BatchResult(0, 0, afterId);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : claimed) {
+            deliver(event);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setProcessedAt(now);
+        }
+        long lastId = claimed.get(claimed.size() - 1).getId();
+        entityManager.flush();
+        entityManager.clear();
+        return new BatchResult(claimed.size(), claimed.size(), lastId);
+    }
+
+    /**
+     * Deliver the page after the cursor with one transaction per event. A
+     * failing event is left pending with its attempt count and error, and the
+     * rest of the page still goes through.
+     */
+    private BatchResult processSingly(long afterId) {
+        List<Long> ids = transactionTemplate.execute(status -> outboxEventRepository
+                .claimPending(maxAttempts, afterId, PageRequest.of(0, batchSize)).stream()
+                .map(OutboxEvent::getId)
+                .toList());
+        if (ids == null || ids.isEmpty()) {
+            return new BatchResult(0, 0, afterId);
+        }
+        int processed = 0;
+        for (Long id : ids) {
+            try {
+                Boolean delivered = transactionTemplate.execute(status -> processOne(id));
+                if (Boolean.TRUE.equals(delivered)) {
+                    processed++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox event {} failed: {}", id, e.getMessage());
+                transactionTemplate.executeWithoutResult(status -> recordFailure(id, e));
+            }
+        }
+        return new BatchResult(ids.size(), processed, ids.get(ids.size() - 1));
+    }
+
+    private boolean processOne(Long id) {
+        OutboxEvent event = entityManager.find(OutboxEvent.class, id, LockModeType.PESSIMISTIC_WRITE);
+        // Another dispatcher may have delivered it since the page was read
+        if (event == null || event.isProcessed()) {
+            return false;
+        }
+        deliver(event);
+        event.setAttempts(event.getAttempts() + 1);
+        event.setProcessedAt(LocalDateTime.now());
+        return true;
+    }
+
+    private void recordFailure(Long id, RuntimeException error) {
+        outboxEventRepository.findById(id).ifPresent(event -> {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+            if (event.getAttempts() >= maxAttempts) {
+                log.error("Outbox event {} ({}) gave up after {} attempts", id, event.getEventType(),
+                        event.getAttempts());
+            }
+        });
+    }
+
+    // ========== CONSUMERS ==========
+
+    private void deliver(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case SETTLEMENT_CREATED, SETTLEMENT_CONFIRMED, SETTLEMENT_REJECTED, SETTLEMENT_REMINDER ->
+                deliverSettlementEvent(event);
+            case INVITATION_SENT, INVITATION_ACCEPTED, INVITATION_DECLINED, INVITATION_CANCELLED ->
+                deliverInvitationEvent(event);
+        }
+    }
+
+    private void deliverSettlementEvent(OutboxEvent event) {
+        SettleUp settlement = settleUpRepository.findById(event.getAggregateId()).orElse(null);
+        if (settlement == null) {
+            skipMissing(event, "Settlement");
+            return;
+        }
+        switch (event.getEventType()) {
+            case SETTLEMENT_CREATED -> {
+                activityLogService.logSettlementCreated(settlement, actor(event));
+                notificationService.sendSettlementNotification(settlement);
+            }
+            case SETTLEMENT_CONFIRMED -> {
+                activityLogService.logSettlementConfirmed(settlement, actor(event));
+                notificationService.sendSettlementConfirmedNotification(settlement);
+            }
+            case SETTLEMENT_REJECTED -> {
+                activityLogService.logSettlementRejected(settlement, actor(event), event.getDetail());
+                notificationService.sendSettlementRejectedNotification(settlement);
+            }
+            case SETTLEMENT_REMINDER -> notificationService.sendSettlementReminderNotification(settlement);
+            default -> throw new IllegalStateException("Not a settlement event: " + event.getEventType());
+        }
+    }
+
+    private void deliverInvitationEvent(OutboxEvent event) {
+        Invitation invitation = invitationRepository.findById(event.getAggregateId()).orElse(null);
+        if (invitation == null) {
+            skipMissing(event, "Invitation");
+            return;
+        }
+        switch (event.getEventType()) {
+            case INVITATION_SENT -> {
+                activityLogService.logInvitationSent(invitation, actor(event));
+                notificationService.sendGroupInvitationNotification(invitation);
+            }
+            case INVITATION_ACCEPTED -> activityLogService.logInvitationAccepted(invitation, actor(event));
+            case INVITATION_DECLINED ->
+                activityLogService.logInvitationDeclined(invitation, actor(event), event.getDetail());
+            case INVITATION_CANCELLED -> activityLogService.logInvitationCancelled(invitation, actor(event));
+            default -> throw new IllegalStateException("Not an invitation event: " + event.getEventType());
+        }
+    }
+
+    private User actor(OutboxEvent event) {
+        if (event.getActorId() == null) {
+            throw new IllegalStateException("Outbox event " + event.getId() + " has no actor");
+        }
+        return userRepository.findById(event.getActorId())
+                .orElseThrow(() -> new IllegalStateException("User " + event.getActorId() + " not found"));
+    }
+
+    // The subject was deleted after the event was written; nothing left to report on
+    private static void skipMissing(OutboxEvent event, String subject) {
+        event.setLastError(subject + " " + event.getAggregateId() + " no longer exists");
+        log.debug("Skipping outbox event {}: {}", event.getId(), event.getLastError());
+    }
+
+    private static String truncate(String text) {
+        if (text == null || text.length() <= MAX_ERROR_LENGTH) {
+            return text;
+        }
+        return text.substring(0, MAX_ERROR_LENGTH);
+    }
+}
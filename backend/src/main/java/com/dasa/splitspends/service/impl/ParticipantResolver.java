@@ -0,0 +1,71 @@
+package com.dasa.splitspends.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.exception.InvalidParticipantsException;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.UserRepository;
+
+/**
+ * Shared validation stage for expense splits. Participant IDs are checked
+ * against the group's member-ID set and loaded with a single IN query, so
+ * the cost is two queries however many people share the expense.
+ */
+@Component
+public class ParticipantResolver {
+
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+
+    public ParticipantResolver(GroupRepository groupRepository, UserRepository userRepository) {
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Resolve participants of a split in the group.
+     *
+     * @param groupId the group the expense belongs to
+     * @param userIds participant IDs; duplicates are collapsed
+     * @return the participants keyed by ID, in the order the IDs were given
+     * @throws InvalidParticipantsException if any ID is unknown or not a member
+     */
+    public Map<Long, User> resolve(Long groupId, Collection<Long> userIds) {
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        if (requested.isEmpty() || requested.contains(null)) {
+            throw new IllegalArgumentException("At least one participant is required");
+        }
+        Set<Long> memberIds = groupRepository.findMemberIds(groupId);
+        Map<Long, User> found = userRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Long> unknown = new ArrayList<>();
+        List<Long> nonMembers = new ArrayList<>();
+        Map<Long, User> participants = new LinkedHashMap<>();
+        for (Long userId : requested) {
+            User user = found.get(userId);
+            if (user == null) {
+                unknown.add(userId);
+            } else if (!memberIds.contains(userId)) {
+                nonMembers.add(userId);
+            } else {
+                participants.put(userId, user);
+            }
+        }
+        if (!unknown.isEmpty() || !nonMembers.isEmpty()) {
+            throw new InvalidParticipantsException(unknown, nonMembers);
+        }
+        return participants;
+    }
+}
@@ -0,0 +1,223 @@
+package com.dasa.splitspends.service.impl;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.entity.Attachment;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.AttachmentRepository;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.PlatformMetricsService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class PlatformMetricsServiceImpl implements PlatformMetricsService {
+
+    private final List<Rule> rules;
+    private final Map<Metric, AtomicLong> counters = new EnumMap<>(Metric.class);
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile boolean reconciled;
+
+    public PlatformMetricsServiceImpl(UserRepository userRepository,
+            GroupRepository groupRepository,
+            ExpenseRepository expenseRepository,
+            SettleUpRepository settleUpRepository,
+            AttachmentRepository attachmentRepository,
+            EntityManagerFactory entityManagerFactory,
+            PlatformTransactionManager transactionManager) {
+        // Each rule decides from an entity's persisted state whether it counts,
+        // and matches the query that recounts the same rows
+        this.rules = List.of(
+                new Rule(Metric.USERS, User.class, state -> true, userRepository::count),
+                new Rule(Metric.ACTIVE_USERS, User.class,
+                        state -> state.get("accountStatus") == User.AccountStatus.ACTIVE
+                                && state.get("deletedAt") == null,
+                        () -> userRepository.countByAccountStatusAndDeletedAtIsNull(User.AccountStatus.ACTIVE)),
+                new Rule(Metric.GROUPS, Group.class, state -> true, groupRepository::count),
+                new Rule(Metric.ACTIVE_GROUPS, Group.class,
+                        state -> state.get("status") == Group.GroupStatus.ACTIVE && state.get("deletedAt") == null,
+                        () -> groupRepository.countByStatusAndDeletedAtIsNull(Group.GroupStatus.ACTIVE)),
+                new Rule(Metric.EXPENSES, Expense.class,
+                        state -> state.get("status") != Expense.ExpenseStatus.DELETED,
+                        () -> expenseRepository.countByStatusNot(Expense.ExpenseStatus.DELETED)),
+                new Rule(Metric.SETTLEMENTS, SettleUp.class, state -> true, settleUpRepository::count),
+                new Rule(Metric.ATTACHMENTS, Attachment.class, state -> state.get("deletedAt") == null,
+                        attachmentRepository::countByDeletedAtIsNull));
+        for (Metric metric : Metric.values()) {
+            counters.put(metric, new AtomicLong());
+        }
+        this.entityManagerFactory = entityManagerFactory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Listen to post-commit events only, so rolled-back writes never move a
+     * counter.
+     */
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        LifecycleListener listener = new LifecycleListener();
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    @Override
+    public long get(Metric metric) {
+        if (!reconciled) {
+            reconcile();
+        }
+        return counters.get(metric).get();
+    }
+
+    /**
+     * The first run, right after startup, loads the counters.
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.reconcile-interval-ms:600000}")
+    public void runScheduledReconcile() {
+        Map<Metric, Long> drift = reconcile();
+        if (!drift.isEmpty()) {
+            log.info("Corrected platform metrics drift: {}", drift);
+        }
+    }
+
+    /**
+     * Corrections are applied as deltas, so events committed while the counts
+     * run are not thrown away; anything counted twice in that window is
+     * corrected by the next run.
+     */
+    @Override
+    public synchronized Map<Metric, Long> reconcile() {
+        boolean initial = !reconciled;
+        Map<Metric, Long> drift = new EnumMap<>(Metric.class);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Rule rule : rules) {
+                AtomicLong counter = counters.get(rule.metric());
+                long before = counter.get();
+                long delta = rule.recount().getAsLong() - before;
+                if (delta != 0) {
+                    counter.addAndGet(delta);
+                    drift.put(rule.metric(), delta);
+                }
+            }
+        });
+        reconciled = true;
+        return initial ? Map.of() : drift;
+    }
+
+    // ========== LIFECYCLE EVENTS ==========
+
+    /**
+     * Move every counter whose rule changed its verdict between the old and
+     * the new state of an entity. A missing state counts as "not counted".
+     */
+    private void apply(EntityPersister persister, Object[] oldState, Object[] newState) {
+        Class<?> type = persister.getMappedClass();
+        for (Rule rule : rules) {
+            if (rule.entityType() != type) {
+                continue;
+            }
+            boolean before = oldState != null && rule.counts().test(new EntityState(persister, oldState));
+            boolean after = newState != null && rule.counts().test(new EntityState(persister, newState));
+            if (before != after) {
+                counters.get(rule.metric()).addAndGet(after ? 1 : -1);
+            }
+        }
+    }
+
+    private boolean isTracked(EntityPersister persister) {
+        return rules.stream().anyMatch(rule -> rule.entityType() == persister.getMappedClass());
+    }
+
+    private final class LifecycleListener implements PostCommitInsertEventListener,
+            PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            apply(event.getPersister(), null, event.getState());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            // Without the loaded state (e.g. a merged detached entity) there is
+            // nothing to compare; reconciliation catches that change instead
+            if (event.getOldState() != null) {
+                apply(event.getPersister(), event.getOldState(), event.getState());
+            }
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            apply(event.getPersister(), event.getDeletedState(), null);
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return isTracked(persister);
+        }
+    }
+
+    private record Rule(Metric metric, Class<?> entityType, Predicate<EntityState> counts, LongSupplier recount) {
+    }
+
+    /**
+     * Property values of one entity state, looked up by property name.
+     */
+    private record EntityState(EntityPersister persister, Object[] values) {
+
+        Object get(String property) {
+            int index = Arrays.asList(persister.getPropertyNames()).indexOf(property);
+            if (index < 0) {
+                throw new IllegalArgumentException(persister.getEntityName() + " has no property " + property);
+            }
+            return values[index];
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.expense.RecurringExpenseRequest;
+import com.dasa.splitspends.entity.BalanceEvent;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.RecurringExpense;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.RecurringExpenseRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.BalanceLedgerService;
+import com.dasa.splitspends.service.RecurringExpenseService;
+import com.dasa.splitspends.service.SpendingRollupService;
+import com.dasa.splitspends.split.SplitEngine;
+import com.dasa.splitspends.util.Money;
+import com.dasa.splitspends.util.RecurrenceRule;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class RecurringExpenseServiceImpl implements RecurringExpenseService {
+
+    private final RecurringExpenseRepository recurringExpenseRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final ParticipantResolver participantResolver;
+    private final SplitEngine splitEngine;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SpendingRollupService spendingRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxCatchUp;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public RecurringExpenseServiceImpl(RecurringExpenseRepository recurringExpenseRepository,
+            GroupRepository groupRepository,
+            UserRepository userRepository,
+            ParticipantResolver participantResolver,
+            SplitEngine splitEngine,
+            BalanceLedgerService balanceLedgerService,
+            SpendingRollupService spendingRollupService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.recurring.chunk-size:100}") int chunkSize,
+            @Value("${app.recurring.max-catch-up:31}") int maxCatchUp) {
+        this.recurringExpenseRepository = recurringExpenseRepository;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.participantResolver = participantResolver;
+        this.splitEngine = splitEngine;
+        this.balanceLedgerService = balanceLedgerService;
+        this.spendingRollupService = spendingRollupService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    @Override
+    @Transactional
+    public RecurringExpense createRecurringExpense(Long groupId, Long createdByUserId,
+            RecurringExpenseRequest request) {
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+        User createdBy = userRepository.findById(createdByUserId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        User paidBy = userRepository.findById(request.getPaidByUserId())
+                .orElseThrow(() -> new IllegalArgumentException("Paid by user not found"));
+        ExpenseSplit.SplitType splitType = request.getSplitType() == null ? ExpenseSplit.SplitType.EQUAL
+                : ExpenseSplit.SplitType.valueOf(request.getSplitType());
+        RecurrenceRule rule = RecurrenceRule.parse(request.getSchedule());
+
+        // Every occurrence uses the same split, so a bad one is rejected now
+        Map<Long, BigDecimal> values = new LinkedHashMap<>(request.getUserValueMap());
+        splitEngine.allocate(splitType, Money.toMinorUnits(request.getAmount()),
+                splitEngine.encode(splitType, values.values()));
+        participantResolver.resolve(groupId, values.keySet());
+        if (!groupRepository.findMemberIds(groupId).contains(paidBy.getId())) {
+            throw new IllegalArgumentException("Paid by user is not a member of the group");
+        }
+
+        LocalDateTime start = request.getStartAt() != null ? request.getStartAt() : LocalDateTime.now();
+        RecurringExpense template = RecurringExpense.builder()
+                .group(group)
+                .paidBy(paidBy)
+                .createdBy(createdBy)
+                .description(request.getDescription())
+                .amount(request.getAmount())
+                .category(request.getCategory() == null ? Expense.ExpenseCategory.OTHER
+                        : Expense.ExpenseCategory.valueOf(request.getCategory()))
+                .splitType(splitType)
+                .participantValues(values)
+                .schedule(request.getSchedule().trim())
+                .startsAt(rule.first(start))
+                .nextRunAt(rule.first(start))
+                .endsAt(request.getEndsAt())
+                .build();
+        return recurringExpenseRepository.save(template);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringExpense> getGroupRecurringExpenses(Long groupId) {
+        return recurringExpenseRepository.findByGroupIdOrderByNextRunAt(groupId);
+    }
+
+    @Override
+    @Transactional
+    public RecurringExpense setActive(Long groupId, Long recurringExpenseId, boolean active) {
+        RecurringExpense template = findInGroup(groupId, recurringExpenseId);
+        template.setActive(active);
+        if (active) {
+            template.setLastError(null);
+        }
+        return template;
+    }
+
+    @Override
+    @Transactional
+    public void deleteRecurringExpense(Long groupId, Long recurringExpenseId) {
+        recurringExpenseRepository.delete(findInGroup(groupId, recurringExpenseId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.recurring.poll-interval-ms:60000}")
+    public void runScheduledGeneration() {
+        int posted = generateDueExpenses();
+        if (posted > 0) {
+            log.info("Posted {} recurring expenses", posted);
+        }
+    }
+
+    /**
+     * Each template is handled at most once per run: one still due after
+     * catching up max-catch-up occurrences waits for the next run instead of
+     * being claimed again by a later page.
+     */
+    @Override
+    public int generateDueExpenses() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> handled = new HashSet<>();
+        int posted = 0;
+        LocalDateTime afterRunAt = null;
+        Long afterId = null;
+        while (true) {
+            LocalDateTime cursorRunAt = afterRunAt;
+            Long cursorId = afterId;
+            ChunkResult chunk;
+            try {
+                chunk = transactionTemplate.execute(status -> processChunk(now, cursorRunAt, cursorId, handled));
+            } catch (RuntimeException e) {
+                log.warn("Recurring expense chunk failed, retrying its templates one at a time", e);
+                chunk = processChunkPerTemplate(now, cursorRunAt, cursorId, handled);
+            }
+            if (chunk == null || chunk.claimed == 0) {
+                return posted;
+            }
+            posted += chunk.posted;
+            handled.addAll(chunk.handledIds);
+            if (chunk.claimed < chunkSize) {
+                return posted;
+            }
+            afterRunAt = chunk.lastRunAt;
+            afterId = chunk.lastId;
+        }
+    }
+
+    // ========== CHUNK PROCESSING ==========
+
+    private record ChunkResult(int claimed, int posted, LocalDateTime lastRunAt, Long lastId,
+            List<Long> handledIds) {
+    }
+
+    /**
+     * Claim one page of due templates after the keyset cursor and post their
+     * occurrences. Runs in its own transaction, which holds the row locks.
+     */
+    private ChunkResult processChunk(LocalDateTime now, LocalDateTime afterRunAt, Long afterId,
+            Set<Long> handled) {
+        List<RecurringExpense> claimed = claim(now, afterRunAt, afterId);
+        if (claimed.isEmpty()) {
+            return new ChunkResult(0, 0, null, null, List.of());
+        }
+        // The cursor is taken before nextRunAt moves on
+        RecurringExpense last = claimed.get(claimed.size() - 1);
+        LocalDateTime lastRunAt = last.getNextRunAt();
+        Long lastId = last.getId();
+        List<RecurringExpense> pending = claimed.stream()
+                .filter(template -> !handled.contains(template.getId()))
+                .toList();
+        int posted = postOccurrences(pending, now);
+        entityManager.flush();
+        entityManager.clear();
+        return new ChunkResult(claimed.size(), posted, lastRunAt, lastId,
+                pending.stream().map(RecurringExpense::getId).toList());
+    }
+
+    /**
+     * Fallback after a page failed as a whole: post each of its templates in a
+     * transaction of its own and pause the ones that fail, so one broken
+     * template cannot hold back the others on every run.
+     */
+    private ChunkResult processChunkPerTemplate(LocalDateTime now, LocalDateTime afterRunAt, Long afterId,
+            Set<Long> handled) {
+        entityManager.clear();
+        ChunkResult page = transactionTemplate.execute(status -> {
+            List<RecurringExpense> claimed = claim(now, afterRunAt, afterId);
+            if (claimed.isEmpty()) {
+                return new ChunkResult(0, 0, null, null, List.of());
+            }
+            RecurringExpense last = claimed.get(claimed.size() - 1);
+            return new ChunkResult(claimed.size(), 0, last.getNextRunAt(), last.getId(),
+                    claimed.stream().map(RecurringExpense::getId).filter(id -> !handled.contains(id)).toList());
+        });
+        if (page == null || page.claimed == 0) {
+            return page;
+        }
+        int posted = 0;
+        for (Long id : page.handledIds) {
+            try {
+                Integer count = transactionTemplate.execute(status -> recurringExpenseRepository
+                        .claimDueById(id, now)
+                        .map(template -> postOccurrences(List.of(template), now))
+                        .orElse(0));
+                posted += count == null ? 0 : count;
+            } catch (RuntimeException e) {
+                log.warn("Recurring expense {} failed to post", id, e);
+                entityManager.clear();
+                transactionTemplate.executeWithoutResult(status -> recurringExpenseRepository.findById(id)
+                        .ifPresent(template -> pause(template, failureReason(e))));
+            }
+        }
+        return new ChunkResult(page.claimed, posted, page.lastRunAt, page.lastId, page.handledIds);
+    }
+
+    private List<RecurringExpense> claim(LocalDateTime now, LocalDateTime afterRunAt, Long afterId) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        return afterId == null
+                ? recurringExpenseRepository.claimDue(now, page)
+                : recurringExpenseRepository.claimDueAfter(now, afterRunAt, afterId, page);
+    }
+
+    private int postOccurrences(List<RecurringExpense> templates, LocalDateTime now) {
+        Map<Long, Set<Long>> memberIdsByGroup = new HashMap<>();
+        Map<ExpenseSplit.SplitType, List<RecurringExpense>> byType = new EnumMap<>(ExpenseSplit.SplitType.class);
+        Map<RecurringExpense, List<LocalDateTime>> occurrences = new HashMap<>();
+        for (RecurringExpense template : templates) {
+            Set<Long> memberIds = memberIdsByGroup.computeIfAbsent(template.getGroup().getId(),
+                    groupRepository::findMemberIds);
+            String problem = validate(template, memberIds);
+            if (problem != null) {
+                pause(template, problem);
+                continue;
+            }
+            List<LocalDateTime> due = advance(template, now);
+            if (!due.isEmpty()) {
+                occurrences.put(template, due);
+                byType.computeIfAbsent(template.getSplitType(), type -> new ArrayList<>()).add(template);
+            }
+        }
+
+        int posted = 0;
+        Set<Long> changedGroups = new HashSet<>();
+        for (Map.Entry<ExpenseSplit.SplitType, List<RecurringExpense>> entry : byType.entrySet()) {
+            List<RecurringExpense> batch = entry.getValue();
+            List<Map<Long, BigDecimal>> participants = new ArrayList<>(batch.size());
+            long[] shares = allocate(entry.getKey(), batch, participants);
+            int offset = 0;
+            for (int t = 0; t < batch.size(); t++) {
+                RecurringExpense template = batch.get(t);
+                List<Long> userIds = new ArrayList<>(participants.get(t).keySet());
+                for (LocalDateTime date : occurrences.get(template)) {
+                    Expense expense = toExpense(template, date, userIds, shares, offset);
+                    entityManager.persist(expense);
+                    balanceLedgerService.recordExpense(expense, BalanceEvent.EventType.EXPENSE_CREATED);
+                    spendingRollupService.recordExpense(expense);
+                    posted++;
+                }
+                offset += userIds.size();
+                changedGroups.add(template.getGroup().getId());
+            }
+        }
+        changedGroups.forEach(groupId -> eventPublisher.publishEvent(
+                new GroupDataChangedEvent(groupId, GroupDataChangedEvent.ChangeType.EXPENSE)));
+        return posted;
+    }
+
+    // Shares of every template of one split type in one engine call; participants
+    // are ordered by user ID so leftover cents always go to the same people
+    private long[] allocate(ExpenseSplit.SplitType splitType, List<RecurringExpense> batch,
+            List<Map<Long, BigDecimal>> participants) {
+        long[] totals = new long[batch.size()];
+        int[] offsets = new int[batch.size() + 1];
+        for (int t = 0; t < batch.size(); t++) {
+            Map<Long, BigDecimal> values = new TreeMap<>(batch.get(t).getParticipantValues());
+            participants.add(values);
+            totals[t] = Money.toMinorUnits(batch.get(t).getAmount());
+            offsets[t + 1] = offsets[t] + values.size();
+        }
+        long[] inputs = new long[offsets[batch.size()]];
+        for (int t = 0; t < batch.size(); t++) {
+            long[] encoded = splitEngine.encode(splitType, participants.get(t).values());
+            System.arraycopy(encoded, 0, inputs, offsets[t], encoded.length);
+        }
+        return splitEngine.allocateBatch(splitType, totals, offsets, inputs);
+    }
+
+    /**
+     * Collect the occurrences due by {@code now} (at most max-catch-up of them)
+     * and move the template past them; a template past its end is deactivated.
+     */
+    private List<LocalDateTime> advance(RecurringExpense template, LocalDateTime now) {
+        RecurrenceRule rule = RecurrenceRule.parse(template.getSchedule());
+        List<LocalDateTime> due = new ArrayList<>();
+        LocalDateTime next = template.getNextRunAt();
+        LocalDateTime anchor = template.getStartsAt() != null ? template.getStartsAt() : next;
+        while (!next.isAfter(now) && due.size() < maxCatchUp && !isPastEnd(template, next)) {
+            due.add(next);
+            next = rule.next(next, anchor);
+        }
+        template.setNextRunAt(next);
+        if (!due.isEmpty()) {
+            template.setLastRunAt(due.get(due.size() - 1));
+            template.setOccurrenceCount(template.getOccurrenceCount() + due.size());
+        }
+        if (isPastEnd(template, next)) {
+            template.setActive(false);
+        }
+        return due;
+    }
+
+    private static boolean isPastEnd(RecurringExpense template, LocalDateTime occurrence) {
+        return template.getEndsAt() != null && occurrence.isAfter(template.getEndsAt());
+    }
+
+    private static String validate(RecurringExpense template, Set<Long> memberIds) {
+        if (!template.getGroup().isActive()) {
+            return "Group is not active";
+        }
+        if (!memberIds.contains(template.getPaidBy().getId())) {
+            return "Payer is no longer a member of the group";
+        }
+        for (Long userId : template.getParticipantValues().keySet()) {
+            if (!memberIds.contains(userId)) {
+                return "User " + userId + " is no longer a member of the group";
+            }
+        }
+        return null;
+    }
+
+    private static String failureReason(RuntimeException e) {
+        String reason = "Posting failed: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        return reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
+    private static void pause(RecurringExpense template, String reason) {
+        log.warn("Pausing recurring expense {}: {}", template.getId(), reason);
+        template.setActive(false);
+        template.setLastError(reason);
+    }
+
+    private Expense toExpense(RecurringExpense template, LocalDateTime date, List<Long> userIds, long[] shares,
+            int offset) {
+        Expense expense = Expense.builder()
+                .group(template.getGroup())
+                .description(template.getDescription())
+                .amount(template.getAmount())
+                .date(date)
+                .paidBy(template.getPaidBy())
+                .category(template.getCategory())
+                .currency(template.getGroup().getDefaultCurrency())
+                .status(Expense.ExpenseStatus.CONFIRMED)
+                .createdBy(template.getCreatedBy())
+                .recurringExpenseId(template.getId())
+                .build();
+        for (int i = 0; i < userIds.size(); i++) {
+            expense.addSplit(ExpenseSplit.builder()
+                    .user(entityManager.getReference(User.class, userIds.get(i)))
+                    .shareAmount(Money.toBigDecimal(shares[offset + i]))
+                    .splitType(template.getSplitType())
+                    .settled(false)
+                    .build());
+        }
+        return expense;
+    }
+
+    private RecurringExpense findInGroup(Long groupId, Long recurringExpenseId) {
+        return recurringExpenseRepository.findById(recurringExpenseId)
+                .filter(template -> template.getGroup().getId().equals(groupId))
+                .orElseThrow(() -> new IllegalArgumentException("Recurring expense not found"));
+    }
+}
@@ -4,19 +4,26 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dasa.splitspends.dto.CursorPage;
 import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.OutboxEvent;
 import com.dasa.splitspends.entity.SettleUp;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
 import com.dasa.splitspends.repository.GroupRepository;
 import com.dasa.splitspends.repository.SettleUpRepository;
 import com.dasa.splitspends.repository.UserRepository;
-import com.dasa.splitspends.service.ActivityLogService;
-import com.dasa.splitspends.service.NotificationService;
+import com.dasa.splitspends.service.BalanceLedgerService;
+import com.dasa.splitspends.service.FxRateService;
+import com.dasa.splitspends.service.OutboxService;
 import com.dasa.splitspends.service.SettleUpService;
+import com.dasa.splitspends.util.FeedCursor;
+import com.dasa.splitspends.util.FxRateTable;
 
 @Service
 @Transactional
@@ -25,24 +32,30 @@ public class SettleUpServiceImpl implements SettleUpService {
         private final SettleUpRepository settleUpRepository;
         private final UserRepository userRepository;
         private final GroupRepository groupRepository;
-        private final ActivityLogService activityLogService;
-        private final NotificationService notificationService;
+        private final OutboxService outboxService;
+        private final BalanceLedgerService balanceLedgerService;
+        private final FxRateService fxRateService;
+        private final ApplicationEventPublisher eventPublisher;
 
         public SettleUpServiceImpl(SettleUpRepository settleUpRepository,
                         UserRepository userRepository,
                         GroupRepository groupRepository,
-                        ActivityLogService activityLogService,
-                        NotificationService notificationService) {
+                        OutboxService outboxService,
+                        BalanceLedgerService balanceLedgerService,
+                        FxRateService fxRateService,
+                        ApplicationEventPublisher eventPublisher) {
                 this.settleUpRepository = settleUpRepository;
                 this.userRepository = userRepository;
                 this.groupRepository = groupRepository;
-                this.activityLogService = activityLogService;
-                this.notificationService = notificationService;
+                this.outboxService = outboxService;
+                this.balanceLedgerService = balanceLedgerService;
+                this.fxRateService = fxRateService;
+                this.eventPublisher = eventPublisher;
         }
 
         @Override
         public SettleUp createSettlement(Long groupId, Long payerId, Long payeeId, BigDecimal amount,
-                        String description, SettleUp.PaymentMethod paymentMethod) {
+                        String currency, String description, SettleUp.PaymentMethod paymentMethod) {
                 Group group = groupRepository.findById(groupId)
                                 .orElseThrow(() -> new RuntimeException("Group not found"));
                 User payer = userRepository.findById(payerId)
@@ -55,6 +68,9 @@ public class SettleUpServiceImpl implements SettleUpService {
                 settlement.setPayer(payer);
                 settlement.setPayee(payee);
                 settlement.setAmount(amount);
+                String settlementCurrency = FxRateTable.currencyOrDefault(currency, group.getDefaultCurrency());
+                settlement.setCurrency(settlementCurrency);
+                settlement.setExchangeRate(fxRateService.captureRate(settlementCurrency, group.getDefaultCurrency()));
                 settlement.setDescription(description);
                 settlement.setPaymentMethod(paymentMethod);
                 settlement.setStatus(SettleUp.SettlementStatus.PENDING);
@@ -62,11 +78,11 @@ public class SettleUpServiceImpl implements SettleUpService {
 
                 SettleUp saved = settleUpRepository.save(settlement);
 
-                // Log activity
-                activityLogService.logSettlementCreated(saved, payer);
+                eventPublisher.publishEvent(new GroupDataChangedEvent(groupId,
+                                GroupDataChangedEvent.ChangeType.SETTLEMENT));
 
-                // Send notification to payee
-                notificationService.sendSettlementNotification(saved);
+                // Activity log and payee notification are written by the outbox dispatcher
+                outboxService.enqueue(OutboxEvent.EventType.SETTLEMENT_CREATED, saved.getId(), payerId, null);
 
                 return saved;
         }
@@ -81,6 +97,8 @@ public class SettleUpServiceImpl implements SettleUpService {
                 if (!settlement.getPayee().getId().equals(confirmingUserId)) {
                         throw new RuntimeException("Only payee can confirm settlement");
                 }
+                boolean alreadyConfirmed = settlement.getStatus() == SettleUp.SettlementStatus.CONFIRMED
+                                || settlement.isCompleted();
 
                 settlement.setStatus(SettleUp.SettlementStatus.CONFIRMED);
                 settlement.setExternalTransactionId(transactionId);
@@ -89,11 +107,16 @@ public class SettleUpServiceImpl implements SettleUpService {
 
                 SettleUp saved = settleUpRepository.save(settlement);
 
-                // Log activity
-                activityLogService.logSettlementConfirmed(saved, confirmingUser);
+                // Keep the balance ledger in step with the confirmed payment
+                if (!alreadyConfirmed) {
+                        balanceLedgerService.recordSettlement(saved);
+                        eventPublisher.publishEvent(new GroupDataChangedEvent(saved.getGroup().getId(),
+                                        GroupDataChangedEvent.ChangeType.SETTLEMENT));
+                }
 
-                // Send notification to payer
-                notificationService.sendSettlementConfirmedNotification(saved);
+                // Activity log and payer notification are written by the outbox dispatcher
+                outboxService.enqueue(OutboxEvent.EventType.SETTLEMENT_CONFIRMED, saved.getId(), confirmingUserId,
+                                null);
 
                 return saved;
         }
@@ -115,11 +138,12 @@ public class SettleUpServiceImpl implements SettleUpService {
 
                 SettleUp saved = settleUpRepository.save(settlement);
 
-                // Log activity
-                activityLogService.logSettlementRejected(saved, rejectingUser, reason);
+                eventPublisher.publishEvent(new GroupDataChangedEvent(saved.getGroup().getId(),
+                                GroupDataChangedEvent.ChangeType.SETTLEMENT));
 
-                // Send notification to payer
-                notificationService.sendSettlementRejectedNotification(saved);
+                // Activity log and payer notification are written by the outbox dispatcher
+                outboxService.enqueue(OutboxEvent.EventType.SETTLEMENT_REJECTED, saved.getId(), rejectingUser.getId(),
+                                reason);
 
                 return saved;
         }
@@ -183,7 +207,8 @@ public class SettleUpServiceImpl implements SettleUpService {
                 List<SettleUp> settlements = settleUpRepository.findSettlementsNeedingReminder(reminderThreshold);
 
                 for (SettleUp settlement : settlements) {
-                        notificationService.sendSettlementReminderNotification(settlement);
+                        outboxService.enqueue(OutboxEvent.EventType.SETTLEMENT_REMINDER, settlement.getId(), null,
+                                        null);
                 }
         }
 
@@ -193,4 +218,19 @@ public class SettleUpServiceImpl implements SettleUpService {
                                 .orElseThrow(() -> new RuntimeException("Group not found"));
                 return settleUpRepository.findRecentByGroup(group, PageRequest.of(0, limit));
         }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPage<SettleUp> getGroupSettlementFeed(Long groupId, String cursor, int limit) {
+                int pageSize = FeedCursor.clampLimit(limit);
+                FeedCursor after = FeedCursor.decode(cursor);
+                // One extra row tells whether there is a next page
+                PageRequest page = PageRequest.of(0, pageSize + 1);
+                List<SettleUp> rows = after == null
+                                ? settleUpRepository.findFeedByGroupId(groupId, page)
+                                : settleUpRepository.findFeedByGroupIdBefore(groupId, after.timestamp(), after.id(),
+                                                page);
+                return CursorPage.of(rows, pageSize,
+                                settlement -> new FeedCursor(settlement.getCreatedAt(), settlement.getId()));
+        }
 }
\ No newline at end of file
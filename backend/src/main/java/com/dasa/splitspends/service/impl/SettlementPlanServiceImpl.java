@@ -0,0 +1,160 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.dto.settlement.SettlementPlanResponse;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.service.SettlementPlanService;
+import com.dasa.splitspends.util.Money;
+
+@Service
+@Transactional(readOnly = true)
+public class SettlementPlanServiceImpl implements SettlementPlanService {
+
+    private final GroupMemberBalanceRepository balanceRepository;
+    private final GroupRepository groupRepository;
+
+    public SettlementPlanServiceImpl(GroupMemberBalanceRepository balanceRepository,
+            GroupRepository groupRepository) {
+        this.balanceRepository = balanceRepository;
+        this.groupRepository = groupRepository;
+    }
+
+    @Override
+    public SettlementPlanResponse getSettlementPlan(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("Group not found");
+        }
+
+        List<Object[]> rows = balanceRepository.findNetBalancesByGroupId(groupId);
+        int n = rows.size();
+        long[] userIds = new long[n];
+        String[] names = new String[n];
+        long[] balances = new long[n];
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            userIds[i] = (Long) row[0];
+            names[i] = (String) row[1];
+            balances[i] = Money.toMinorUnits((BigDecimal) row[2]);
+        }
+
+        long[] plan = minimizeTransfers(balances);
+        List<SettlementPlanResponse.Transfer> transfers = new ArrayList<>(plan.length / 3);
+        long total = 0;
+        for (int t = 0; t < plan.length; t += 3) {
+            int payer = (int) plan[t];
+            int payee = (int) plan[t + 1];
+            total += plan[t + 2];
+            transfers.add(SettlementPlanResponse.Transfer.builder()
+                    .payerId(userIds[payer])
+                    .payerName(names[payer])
+                    .payeeId(userIds[payee])
+                    .payeeName(names[payee])
+                    .amount(Money.toBigDecimal(plan[t + 2]))
+                    .build());
+        }
+
+        return SettlementPlanResponse.builder()
+                .groupId(groupId)
+                .transferCount(transfers.size())
+                .totalAmount(Money.toBigDecimal(total))
+                .transfers(transfers)
+                .build();
+    }
+
+    // ========== MIN CASH FLOW ==========
+
+    /**
+     * Greedy min-cash-flow: repeatedly settle the largest debtor against the
+     * largest creditor until one side is exhausted. Both sides are kept in
+     * primitive max-heaps so a group of n members is planned in O(n log n)
+     * with at most n - 1 transfers.
+     *
+     * @param balances net balance per member in minor units (positive = owed
+     *                 money, negative = owes money)
+     * @return flattened triples of (payer index, payee index, amount)
+     */
+    static long[] minimizeTransfers(long[] balances) {
+        int n = balances.length;
+        long[] remaining = new long[n];
+        int[] creditors = new int[n];
+        int[] debtors = new int[n];
+        int creditorCount = 0;
+        int debtorCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (balances[i] > 0) {
+                remaining[i] = balances[i];
+                creditors[creditorCount++] = i;
+            } else if (balances[i] < 0) {
+                remaining[i] = -balances[i];
+                debtors[debtorCount++] = i;
+            }
+        }
+        heapify(creditors, creditorCount, remaining);
+        heapify(debtors, debtorCount, remaining);
+
+        long[] plan = new long[Math.max(0, creditorCount + debtorCount - 1) * 3];
+        int size = 0;
+        while (creditorCount > 0 && debtorCount > 0) {
+            int creditor = creditors[0];
+            int debtor = debtors[0];
+            long amount = Math.min(remaining[creditor], remaining[debtor]);
+            plan[size++] = debtor;
+            plan[size++] = creditor;
+            plan[size++] = amount;
+
+            remaining[creditor] -= amount;
+            remaining[debtor] -= amount;
+            creditorCount = remaining[creditor] == 0
+                    ? pop(creditors, creditorCount, remaining)
+                    : siftDownRoot(creditors, creditorCount, remaining);
+            debtorCount = remaining[debtor] == 0
+                    ? pop(debtors, debtorCount, remaining)
+                    : siftDownRoot(debtors, debtorCount, remaining);
+        }
+        return size == plan.length ? plan : Arrays.copyOf(plan, size);
+    }
+
+    private static void heapify(int[] heap, int size, long[] keys) {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, size, i, keys);
+        }
+    }
+
+    private static int pop(int[] heap, int size, long[] keys) {
+        heap[0] = heap[--size];
+        siftDown(heap, size, 0, keys);
+        return size;
+    }
+
+    private static int siftDownRoot(int[] heap, int size, long[] keys) {
+        siftDown(heap, size, 0, keys);
+        return size;
+    }
+
+    private static void siftDown(int[] heap, int size, int i, long[] keys) {
+        int node = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] > keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[child]] <= keys[node]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = node;
+    }
+}
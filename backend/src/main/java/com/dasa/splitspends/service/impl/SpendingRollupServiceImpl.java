@@ -0,0 +1,177 @@
+package com.dasa.splitspends.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.dto.expense.SpendingRollupView;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.SpendingRollup;
+import com.dasa.splitspends.repository.ExpenseSplitRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.SpendingRollupRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.SpendingRollupService;
+
+@Service
+@Transactional
+public class SpendingRollupServiceImpl implements SpendingRollupService {
+
+    private final SpendingRollupRepository rollupRepository;
+    private final ExpenseSplitRepository expenseSplitRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final int maxMonths;
+
+    public SpendingRollupServiceImpl(SpendingRollupRepository rollupRepository,
+            ExpenseSplitRepository expenseSplitRepository,
+            GroupRepository groupRepository,
+            UserRepository userRepository,
+            @Value("${app.reports.max-months:120}") int maxMonths) {
+        this.rollupRepository = rollupRepository;
+        this.expenseSplitRepository = expenseSplitRepository;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.maxMonths = maxMonths;
+    }
+
+    // ========== INCREMENTAL MAINTENANCE ==========
+
+    @Override
+    public void recordExpense(Expense expense) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+        addExpense(deltas, expense, 1);
+        apply(expense.getGroup().getId(), deltas);
+    }
+
+    @Override
+    public void reverseExpense(Expense expense) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+        addExpense(deltas, expense, -1);
+        apply(expense.getGroup().getId(), deltas);
+    }
+
+    @Override
+    public void recordImportedExpenses(Long groupId, List<Expense> expenses) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+        for (Expense expense : expenses) {
+            addExpense(deltas, expense, 1);
+        }
+        apply(groupId, deltas);
+    }
+
+    /**
+     * Fold each split of an active expense into the delta of its member's row
+     * for the expense's category and month, in the group currency.
+     */
+    private static void addExpense(Map<RollupKey, Delta> deltas, Expense expense, int sign) {
+        if (expense.getStatus() == Expense.ExpenseStatus.DELETED) {
+            return;
+        }
+        LocalDate monthStart = YearMonth.from(expense.getDate()).atDay(1);
+        for (ExpenseSplit split : expense.getSplits()) {
+            RollupKey key = new RollupKey(split.getUser().getId(), expense.getCategory(), monthStart);
+            Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+            delta.amount = delta.amount.add(expense.toGroupCurrency(split.getShareAmount())
+                    .multiply(BigDecimal.valueOf(sign)));
+            delta.count += sign;
+        }
+    }
+
+    // Each delta is a single upsert, applied under the group lock so it lands
+    // either before or after a concurrent rebuild of the group, never inside it
+    private void apply(Long groupId, Map<RollupKey, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        lockGroup(groupId);
+        deltas.forEach((key, delta) -> rollupRepository.upsertDelta(groupId, key.userId(), key.category(),
+                key.monthStart(), delta.amount, delta.count));
+    }
+
+    // ========== REPORTING ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SpendingRollupView> getGroupSpending(Long groupId, YearMonth from, YearMonth to, Long userId) {
+        YearMonth last = to != null ? to : YearMonth.now();
+        YearMonth first = from != null ? from : last.minusMonths(11);
+        if (first.isAfter(last)) {
+            throw new IllegalArgumentException("Report start month is after its end month");
+        }
+        if (ChronoUnit.MONTHS.between(first, last) >= maxMonths) {
+            throw new IllegalArgumentException("A spending report covers at most " + maxMonths + " months");
+        }
+        return rollupRepository.findGroupSpending(groupId, first.atDay(1), last.atDay(1), userId);
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Holds the group lock from the delete until commit, so expense writes to
+     * the group wait for the rebuilt rows instead of adding to rows that are
+     * about to be replaced, and the recount sees every expense committed
+     * before it.
+     */
+    @Override
+    public int rebuildGroup(Long groupId) {
+        lockGroup(groupId);
+        rollupRepository.deleteByGroupId(groupId);
+        List<SpendingRollup> rows = new ArrayList<>();
+        for (Object[] row : expenseSplitRepository.sumSharesByUserCategoryAndMonthInGroup(groupId)) {
+            RollupKey key = new RollupKey((Long) row[0], (Expense.ExpenseCategory) row[1],
+                    LocalDate.of(((Number) row[2]).intValue(), ((Number) row[3]).intValue(), 1));
+            Delta delta = new Delta();
+            delta.amount = (BigDecimal) row[4];
+            delta.count = ((Number) row[5]).intValue();
+            rows.add(newRow(groupId, key, delta));
+        }
+        rollupRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    @Override
+    public int rebuildAllGroups() {
+        int rows = 0;
+        for (Long groupId : groupRepository.findAllIds()) {
+            rows += rebuildGroup(groupId);
+        }
+        return rows;
+    }
+
+    // ========== PRIVATE HELPERS ==========
+
+    private void lockGroup(Long groupId) {
+        groupRepository.lockById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+    }
+
+    private SpendingRollup newRow(Long groupId, RollupKey key, Delta delta) {
+        return SpendingRollup.builder()
+                .group(groupRepository.getReferenceById(groupId))
+                .user(userRepository.getReferenceById(key.userId()))
+                .category(key.category())
+                .monthStart(key.monthStart())
+                .totalAmount(delta.amount)
+                .expenseCount(delta.count)
+                .build();
+    }
+
+    private record RollupKey(Long userId, Expense.ExpenseCategory category, LocalDate monthStart) {
+    }
+
+    private static final class Delta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private int count;
+    }
+}
@@ -0,0 +1,206 @@
+package com.dasa.splitspends.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dasa.splitspends.dto.expense.ExpenseSplitView;
+import com.dasa.splitspends.dto.sync.ExpenseSyncView;
+import com.dasa.splitspends.dto.sync.GroupMemberView;
+import com.dasa.splitspends.dto.sync.GroupSyncView;
+import com.dasa.splitspends.dto.sync.NotificationSyncView;
+import com.dasa.splitspends.dto.sync.SettlementSyncView;
+import com.dasa.splitspends.dto.sync.SyncResponse;
+import com.dasa.splitspends.entity.ChangeSequenceGenerator;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.NotificationRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.service.SyncService;
+import com.dasa.splitspends.util.SyncToken;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class SyncServiceImpl implements SyncService {
+
+    private final GroupRepository groupRepository;
+    private final ExpenseRepository expenseRepository;
+    private final SettleUpRepository settleUpRepository;
+    private final NotificationRepository notificationRepository;
+    private final Duration commitLag;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SyncServiceImpl(GroupRepository groupRepository, ExpenseRepository expenseRepository,
+            SettleUpRepository settleUpRepository, NotificationRepository notificationRepository,
+            @Value("${app.sync.commit-lag-ms:30000}") long commitLagMs) {
+        this.groupRepository = groupRepository;
+        this.expenseRepository = expenseRepository;
+        this.settleUpRepository = settleUpRepository;
+        this.notificationRepository = notificationRepository;
+        this.commitLag = Duration.ofMillis(commitLagMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponse sync(Long userId, String since, int limit) {
+        int pageSize = SyncToken.clampLimit(limit);
+        // Taken before reading: nothing at or below it can still commit unseen
+        long horizon = ChangeSequenceGenerator.committedHorizon(entityManager, commitLag);
+        SyncToken from = SyncToken.decode(since);
+        List<Long> memberOf = groupRepository.findGroupIdsByMemberId(userId);
+
+        if (from == null) {
+            from = SyncToken.snapshot(horizon, memberOf);
+        } else if (!from.isCatchingUp()) {
+            Set<Long> joined = new HashSet<>(memberOf);
+            joined.removeAll(from.groupIds());
+            if (!joined.isEmpty()) {
+                from = from.catchUp(joined);
+            }
+        }
+        return from.isCatchingUp()
+                ? catchUp(userId, from, memberOf, horizon, pageSize)
+                : delta(userId, from, memberOf, horizon, pageSize);
+    }
+
+    /**
+     * Changes in all of the user's groups and their notifications after the
+     * token's sequence value. The next token never moves past a value that
+     * may still be in flight on any instance, so a late commit is picked up
+     * by a later sync; rows above the horizon are sent again until then.
+     */
+    private SyncResponse delta(Long userId, SyncToken from, List<Long> memberOf, long horizon, int pageSize) {
+        Batch batch = load(memberOf, userId, from.seq(), pageSize);
+        // Everything committed up to the horizon has been read unless a type was cut off
+        long reached = batch.truncated() ? batch.reached() : horizon;
+        long next = Math.max(from.seq(), Math.min(reached, horizon));
+        SyncToken token = new SyncToken(next, Set.copyOf(memberOf), Set.of(), SyncToken.BEFORE_FIRST, false);
+        return batch.toResponse(token, batch.truncated(), memberOf);
+    }
+
+    /**
+     * Everything in groups the client has never seen, paged by change
+     * sequence. A first sync also pages through the user's notifications and
+     * keeps the lowest horizon seen as the token's sequence value, so the
+     * deltas that follow resend anything that committed behind a page.
+     */
+    private SyncResponse catchUp(Long userId, SyncToken from, List<Long> memberOf, long horizon, int pageSize) {
+        Set<Long> scope = new HashSet<>(from.pendingGroupIds());
+        scope.retainAll(memberOf);
+        Batch batch = load(scope, from.snapshot() ? userId : null, from.cursor(), pageSize);
+        long seq = from.snapshot() ? Math.min(from.seq(), horizon) : from.seq();
+
+        SyncToken token;
+        if (batch.truncated()) {
+            token = new SyncToken(seq, from.groupIds(), from.pendingGroupIds(), batch.reached(), from.snapshot());
+        } else {
+            Set<Long> known = new HashSet<>(from.groupIds());
+            known.addAll(scope);
+            token = new SyncToken(seq, known, Set.of(), SyncToken.BEFORE_FIRST, false);
+        }
+        // A delta for the groups already known always follows
+        return batch.toResponse(token, true, memberOf);
+    }
+
+    private Batch load(Iterable<Long> groupIds, Long recipientId, long after, int pageSize) {
+        List<Long> scope = new ArrayList<>();
+        groupIds.forEach(scope::add);
+        // One extra row per type tells whether that type has more
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        Batch batch = new Batch(pageSize, after);
+
+        List<GroupSyncView> groups = batch.take(scope.isEmpty() ? List.of()
+                : groupRepository.findSyncViews(scope, after, page), GroupSyncView::changeSeq);
+        List<ExpenseSyncView> expenses = batch.take(scope.isEmpty() ? List.of()
+                : expenseRepository.findSyncViews(scope, after, page), ExpenseSyncView::changeSeq);
+        List<SettlementSyncView> settlements = batch.take(scope.isEmpty() ? List.of()
+                : settleUpRepository.findSyncViews(scope, after, page), SettlementSyncView::changeSeq);
+        List<NotificationSyncView> notifications = batch.take(recipientId == null ? List.of()
+                : notificationRepository.findSyncViews(recipientId, after, page), NotificationSyncView::changeSeq);
+
+        batch.groups = groups;
+        batch.members = groups.isEmpty() ? List.of()
+                : groupRepository.findMemberViews(groups.stream().map(GroupSyncView::id).toList());
+        batch.expenses = expenses;
+        batch.splits = expenses.isEmpty() ? List.of()
+                : expenseRepository.findSplitViewsByExpenseIds(expenses.stream().map(ExpenseSyncView::id).toList());
+        batch.settlements = settlements;
+        batch.notifications = notifications;
+        return batch;
+    }
+
+    // Membership changes only write the join table; stamping the groups row
+    // sends the new member list to every member on their next sync
+    @EventListener
+    @Transactional
+    public void onGroupDataChanged(GroupDataChangedEvent event) {
+        if (event.getChangeType() == GroupDataChangedEvent.ChangeType.MEMBERSHIP) {
+            groupRepository.stampChangeSeq(event.getGroupId(), ChangeSequenceGenerator.nextValue(entityManager));
+        }
+    }
+
+    /**
+     * Rows read for one response. Each type is read in change sequence order
+     * with its own limit; when any type is cut off, the response only counts
+     * as complete up to the lowest value reached among the cut-off types, and
+     * rows of other types beyond it are simply sent again next time.
+     */
+    private static final class Batch {
+
+        private final int pageSize;
+        private long highest;
+        private long truncatedAt = Long.MAX_VALUE;
+
+        private List<GroupSyncView> groups;
+        private List<GroupMemberView> members;
+        private List<ExpenseSyncView> expenses;
+        private List<ExpenseSplitView> splits;
+        private List<SettlementSyncView> settlements;
+        private List<NotificationSyncView> notifications;
+
+        Batch(int pageSize, long after) {
+            this.pageSize = pageSize;
+            this.highest = after;
+        }
+
+        <T> List<T> take(List<T> rows, ToLongFunction<T> changeSeq) {
+            List<T> kept = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+            if (!kept.isEmpty()) {
+                long last = changeSeq.applyAsLong(kept.get(kept.size() - 1));
+                highest = Math.max(highest, last);
+                if (rows.size() > pageSize) {
+                    truncatedAt = Math.min(truncatedAt, last);
+                }
+            }
+            return List.copyOf(kept);
+        }
+
+        boolean truncated() {
+            return truncatedAt != Long.MAX_VALUE;
+        }
+
+        // Highest change sequence value up to which this batch is complete
+        long reached() {
+            return truncated() ? truncatedAt : highest;
+        }
+
+        SyncResponse toResponse(SyncToken token, boolean hasMore, List<Long> groupIds) {
+            return new SyncResponse(token.encode(), hasMore, groupIds, groups, members, expenses, splits,
+                    settlements, notifications);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,9 +15,11 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
 import com.dasa.splitspends.repository.GroupRepository;
 import com.dasa.splitspends.repository.UserRepository;
 import com.dasa.splitspends.service.UserService;
+import com.dasa.splitspends.util.SearchText;
 
 @Service
 @Transactional
@@ -31,6 +34,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // ========== USER REGISTRATION & AUTHENTICATION ==========
 
     /**
@@ -155,7 +161,21 @@ public class UserServiceImpl implements UserService {
             user.setLanguage(language);
         }
 
-        return userRepository.save(user);
+        return saveProfile(user);
+    }
+
+    /**
+     * Save a profile change. Member profiles are part of group payloads
+     * (member lists, balances), so each of the user's groups moves to a new
+     * version and cached copies of it are dropped.
+     */
+    private User saveProfile(User user) {
+        User saved = userRepository.save(user);
+        for (Long groupId : groupRepository.findGroupIdsByMemberId(saved.getId())) {
+            eventPublisher.publishEvent(
+                    new GroupDataChangedEvent(groupId, GroupDataChangedEvent.ChangeType.MEMBER_PROFILE));
+        }
+        return saved;
     }
 
     /**
@@ -191,7 +211,7 @@ public class UserServiceImpl implements UserService {
         String filename = userId + "_" + file.getOriginalFilename();
         user.setProfilePictureUrl("/uploads/profiles/" + filename);
 
-        return userRepository.save(user);
+        return saveProfile(user);
     }
 
     /**
@@ -233,11 +253,13 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Search users by name or email (for adding to groups)
+     * Search active users by name or email (for adding to groups)
      */
     @Override
-    public List<User> searchUsers(String query) {
-        return userRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(query, query);
+    public List<User> searchActiveUsers(String query, Pageable pageable) {
+        String pattern = SearchText.pattern(query);
+        return pattern == null ? List.of() : userRepository.searchActiveUsers(pattern,
+                SearchText.emailPattern(query), pageable);
     }
 
     /**
@@ -374,11 +396,13 @@ public class UserServiceImpl implements UserService {
      * Get users for group invitation (exclude existing members)
      */
     @Override
-    public List<User> getUsersForGroupInvitation(String searchQuery, Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
-
-        return userRepository.findUsersNotInGroup(searchQuery, group);
+    public List<User> getUsersForGroupInvitation(String searchQuery, Long groupId, Pageable pageable) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new IllegalArgumentException("Group not found");
+        }
+        String pattern = SearchText.pattern(searchQuery);
+        return pattern == null ? List.of() : userRepository.findUsersNotInGroup(pattern,
+                SearchText.emailPattern(searchQuery), groupId, pageable);
     }
 
     @Override
@@ -393,7 +417,7 @@ public class UserServiceImpl implements UserService {
         if (profilePictureUrl != null && !profilePictureUrl.trim().isEmpty()) {
             user.setProfilePictureUrl(profilePictureUrl);
         }
-        return userRepository.save(user);
+        return saveProfile(user);
     }
 
     @Override
@@ -418,8 +442,9 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public Page<User> searchUsers(String searchQuery, Pageable pageable) {
-        return userRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(searchQuery, searchQuery,
-                pageable);
+        String pattern = SearchText.pattern(searchQuery);
+        return pattern == null ? Page.empty(pageable) : userRepository.searchUsers(pattern,
+                SearchText.emailPattern(searchQuery), pageable);
     }
 
     /**
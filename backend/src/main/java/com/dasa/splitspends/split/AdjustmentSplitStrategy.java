@@ -0,0 +1,43 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.Money;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Equal split with per-person adjustments in minor units: what is left after
+ * the adjustments is shared equally and each adjustment is added on top.
+ * Adjustments may be negative, but no share may end up below zero.
+ */
+public class AdjustmentSplitStrategy implements SplitStrategy {
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.ADJUSTMENT;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        return Money.toMinorUnits(value);
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        long remaining = Math.subtractExact(totalMinor, SplitStrategies.sum(inputs, from, to));
+        if (remaining < 0) {
+            throw new IllegalArgumentException("Adjustments exceed the expense amount");
+        }
+        // Read the adjustments before out is written, in case it aliases inputs
+        long[] adjustments = new long[to - from];
+        System.arraycopy(inputs, from, adjustments, 0, adjustments.length);
+        SplitAllocator.allocateEqually(remaining, from, to, out);
+        for (int i = 0; i < adjustments.length; i++) {
+            out[from + i] += adjustments[i];
+            if (out[from + i] < 0) {
+                throw new IllegalArgumentException("Adjustments must not make a share negative");
+            }
+        }
+    }
+}
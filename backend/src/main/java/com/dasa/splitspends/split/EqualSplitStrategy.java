@@ -0,0 +1,27 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Equal shares; inputs only count participants and their values are ignored.
+ */
+public class EqualSplitStrategy implements SplitStrategy {
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.EQUAL;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        return 1;
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        SplitAllocator.allocateEqually(totalMinor, from, to, out);
+    }
+}
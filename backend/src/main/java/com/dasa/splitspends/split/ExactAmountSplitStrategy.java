@@ -0,0 +1,32 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.Money;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Exact amounts in minor units. They must add up to the total to within one
+ * minor unit; that difference is absorbed by largest-remainder rounding.
+ */
+public class ExactAmountSplitStrategy implements SplitStrategy {
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.EXACT_AMOUNT;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        return Money.toMinorUnits(value);
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        if (Math.abs(totalMinor - SplitStrategies.sum(inputs, from, to)) > 1) {
+            throw new IllegalArgumentException("Split amounts must equal total expense amount");
+        }
+        SplitAllocator.allocate(totalMinor, inputs, from, to, out);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.Money;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Itemized bill: each input is the subtotal of the items a participant had,
+ * in minor units. Any difference between the total and the items (tax, tip,
+ * service charge or discount) is spread in proportion to the subtotals.
+ */
+public class ItemizedSplitStrategy implements SplitStrategy {
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.ITEMIZED;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        return Money.toMinorUnits(value);
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        if (SplitStrategies.sum(inputs, from, to) <= 0) {
+            throw new IllegalArgumentException("Itemized subtotals must sum to more than zero");
+        }
+        SplitAllocator.allocate(totalMinor, inputs, from, to, out);
+    }
+}
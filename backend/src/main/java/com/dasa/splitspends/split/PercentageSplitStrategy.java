@@ -0,0 +1,34 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Percentages, encoded as basis points (33.33% is 3333). They must add up to
+ * 100% to within one basis point.
+ */
+public class PercentageSplitStrategy implements SplitStrategy {
+
+    private static final long FULL = 10_000;
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.PERCENTAGE;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        return value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        if (Math.abs(FULL - SplitStrategies.sum(inputs, from, to)) > 1) {
+            throw new IllegalArgumentException("Split percentages must sum to 100");
+        }
+        SplitAllocator.allocate(totalMinor, inputs, from, to, out);
+    }
+}
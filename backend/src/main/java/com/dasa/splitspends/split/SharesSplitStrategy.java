@@ -0,0 +1,34 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.util.SplitAllocator;
+
+/**
+ * Whole-number shares (units); each participant pays in proportion to theirs.
+ */
+public class SharesSplitStrategy implements SplitStrategy {
+
+    @Override
+    public ExpenseSplit.SplitType type() {
+        return ExpenseSplit.SplitType.SHARES;
+    }
+
+    @Override
+    public long encode(BigDecimal value) {
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Shares must be whole numbers");
+        }
+    }
+
+    @Override
+    public void allocate(long totalMinor, long[] inputs, int from, int to, long[] out) {
+        if (SplitStrategies.sum(inputs, from, to) <= 0) {
+            throw new IllegalArgumentException("Total shares must be greater than zero");
+        }
+        SplitAllocator.allocate(totalMinor, inputs, from, to, out);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+
+/**
+ * Dispatches allocations to the {@link SplitStrategy} registered for each
+ * split type. Plain Java with no Spring or persistence dependencies, so it can
+ * be used (and benchmarked) on its own.
+ */
+public class SplitEngine {
+
+    private final Map<ExpenseSplit.SplitType, SplitStrategy> strategies =
+            new EnumMap<>(ExpenseSplit.SplitType.class);
+
+    /**
+     * @param strategies strategies to register; a later one replaces an
+     *                   earlier one for the same type
+     */
+    public SplitEngine(Collection<? extends SplitStrategy> strategies) {
+        for (SplitStrategy strategy : strategies) {
+            this.strategies.put(strategy.type(), strategy);
+        }
+    }
+
+    /**
+     * Engine with every built-in strategy.
+     */
+    public static SplitEngine withDefaults() {
+        return new SplitEngine(SplitStrategies.defaults());
+    }
+
+    public SplitStrategy strategy(ExpenseSplit.SplitType type) {
+        SplitStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported split type: " + type);
+        }
+        return strategy;
+    }
+
+    /**
+     * Encode user-facing values (amounts, percentages, shares...) as inputs for
+     * {@link #allocate(ExpenseSplit.SplitType, long, long[])}.
+     */
+    public long[] encode(ExpenseSplit.SplitType type, Collection<BigDecimal> values) {
+        SplitStrategy strategy = strategy(type);
+        long[] inputs = new long[values.size()];
+        int i = 0;
+        for (BigDecimal value : values) {
+            if (value == null && type != ExpenseSplit.SplitType.EQUAL) {
+                throw new IllegalArgumentException("Missing split value");
+            }
+            inputs[i++] = strategy.encode(value);
+        }
+        return inputs;
+    }
+
+    /**
+     * Allocate one expense.
+     *
+     * @param type       how to split
+     * @param totalMinor expense total in minor units
+     * @param inputs     one input per participant
+     * @return share per participant in minor units
+     */
+    public long[] allocate(ExpenseSplit.SplitType type, long totalMinor, long[] inputs) {
+        long[] shares = new long[inputs.length];
+        strategy(type).allocate(totalMinor, inputs, 0, inputs.length, shares);
+        return shares;
+    }
+
+    /**
+     * Allocate many expenses of the same split type in one call. Participant
+     * inputs of all expenses are packed into one flat array: expense
+     * {@code e} owns {@code inputs[offsets[e]..offsets[e + 1])}, and its shares
+     * are written to the same range of the returned array.
+     *
+     * @param type        how to split every expense
+     * @param totalsMinor expense totals in minor units
+     * @param offsets     {@code totalsMinor.length + 1} ascending offsets,
+     *                    starting at 0 and ending at {@code inputs.length}
+     * @param inputs      packed participant inputs
+     * @return packed shares in minor units, aligned with {@code inputs}
+     */
+    public long[] allocateBatch(ExpenseSplit.SplitType type, long[] totalsMinor, int[] offsets, long[] inputs) {
+        if (offsets.length != totalsMinor.length + 1 || offsets[0] != 0
+                || offsets[totalsMinor.length] != inputs.length) {
+            throw new IllegalArgumentException("Offsets do not match totals and inputs");
+        }
+        SplitStrategy strategy = strategy(type);
+        long[] shares = new long[inputs.length];
+        for (int e = 0; e < totalsMinor.length; e++) {
+            strategy.allocate(totalsMinor[e], inputs, offsets[e], offsets[e + 1], shares);
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dasa.splitspends.split;
+
+import java.util.List;
+
+/**
+ * The built-in split strategies and helpers shared by them.
+ */
+public final class SplitStrategies {
+
+    private SplitStrategies() {
+    }
+
+    /**
+     * One instance of every built-in strategy.
+     */
+    public static List<SplitStrategy> defaults() {
+        return List.of(
+                new EqualSplitStrategy(),
+                new ExactAmountSplitStrategy(),
+                new PercentageSplitStrategy(),
+                new SharesSplitStrategy(),
+                new AdjustmentSplitStrategy(),
+                new ItemizedSplitStrategy());
+    }
+
+    static long sum(long[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum = Math.addExact(sum, values[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dasa.splitspends.split;
+
+import java.math.BigDecimal;
+
+import com.dasa.splitspends.entity.ExpenseSplit;
+
+/**
+ * Computes how an expense total is divided between participants. Strategies
+ * work on primitive arrays of minor units and hold no state, so one instance
+ * can serve every request and batch job.
+ *
+ * Each participant contributes one {@code long} input whose meaning depends
+ * on the split type (see {@link #encode(BigDecimal)}).
+ */
+public interface SplitStrategy {
+
+    /**
+     * The split type this strategy implements.
+     */
+    ExpenseSplit.SplitType type();
+
+    /**
+     * Convert a participant's user-facing value (amount, percentage, share
+     * count...) to the {@code long} input understood by
+     * {@link #allocate(long, long[], int, int, long[])}.
+     */
+    long encode(BigDecimal value);
+
+    /**
+     * Divide a total between the participants whose inputs are
+     * {@code inputs[from..to)}, writing each share in minor units to the same
+     * range of {@code out}. The shares always add up to the total.
+     *
+     * @throws IllegalArgumentException if the inputs are not valid for the
+     *                                  total
+     */
+    void allocate(long totalMinor, long[] inputs, int from, int to, long[] out);
+}
@@ -0,0 +1,189 @@
+package com.dasa.splitspends.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Small thread-safe LRU cache with a size bound and a time-to-live per entry.
+ * Values are loaded outside the lock, once per key: concurrent misses wait
+ * for the load already running instead of starting their own. A load that
+ * overlaps an invalidation is returned to its callers but not stored, and
+ * misses after the invalidation start a new load, so an eviction is never
+ * undone by a read that started before it.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Guarded by this: the load running for each missing key
+    private final Map<K, Load<V>> loading = new HashMap<>();
+
+    // Guarded by this
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    BoundedTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and TTL must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value for a key, loading and storing it on a miss.
+     * The loader runs without holding the cache lock; callers that miss while
+     * it runs get its value, or its exception.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Load<V> load;
+        boolean owner = false;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (clock.getAsLong() - entry.loadedAt < ttlNanos) {
+                    hits++;
+                    return entry.value;
+                }
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            load = loading.get(key);
+            // A load that started before an invalidation is not joined
+            if (load == null || load.generation != invalidations) {
+                load = new Load<>(invalidations);
+                loading.put(key, load);
+                owner = true;
+            }
+        }
+        return owner ? run(key, load, loader) : load.await();
+    }
+
+    /**
+     * Return the cached value for a key, or null when it is missing, expired
+     * or still loading. Never starts a load.
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && clock.getAsLong() - entry.loadedAt < ttlNanos ? entry.value : null;
+    }
+
+    private V run(K key, Load<V> load, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key, load);
+            }
+            load.result.completeExceptionally(e);
+            throw e;
+        }
+        long now = clock.getAsLong();
+        synchronized (this) {
+            loading.remove(key, load);
+            if (value != null && invalidations == load.generation) {
+                entries.put(key, new Entry<>(value, now));
+            }
+        }
+        load.result.complete(value);
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        if (entries.remove(key) != null) {
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        evictions += entries.size();
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), maxSize);
+    }
+
+    /**
+     * A load in flight, and the invalidation count it started under.
+     */
+    private static final class Load<V> {
+        private final long generation;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Load(long generation) {
+            this.generation = generation;
+        }
+
+        private V await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Point-in-time counters; evictions include size, TTL and explicit removals.
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final int maxSize;
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dasa.splitspends.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup of exchange rates against a single base currency. A table
+ * is built once per load and swapped atomically, so lookups never lock and
+ * never touch the database.
+ */
+public final class FxRateTable {
+
+    private final String baseCurrency;
+    private final LocalDate asOf;
+    // Units of each currency per one unit of the base currency
+    private final Map<String, BigDecimal> unitsPerBase;
+
+    public FxRateTable(String baseCurrency, LocalDate asOf, Map<String, BigDecimal> unitsPerBase) {
+        Map<String, BigDecimal> rates = new HashMap<>(unitsPerBase);
+        rates.put(baseCurrency, BigDecimal.ONE);
+        this.baseCurrency = baseCurrency;
+        this.asOf = asOf;
+        this.unitsPerBase = Map.copyOf(rates);
+    }
+
+    public static FxRateTable empty(String baseCurrency) {
+        return new FxRateTable(baseCurrency, null, Map.of());
+    }
+
+    /**
+     * Currency code a request asked for, or {@code fallback} when it named none.
+     */
+    public static String currencyOrDefault(String requested, String fallback) {
+        return requested == null || requested.isBlank() ? fallback : requested.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    // Most recent rate date in the table, null when empty
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public Set<String> getCurrencies() {
+        return unitsPerBase.keySet();
+    }
+
+    public boolean supports(String currency) {
+        return unitsPerBase.containsKey(currency);
+    }
+
+    /**
+     * Rate to multiply an amount in {@code from} by to get {@code to}.
+     *
+     * @throws IllegalStateException if either currency has no rate
+     */
+    public BigDecimal rate(String from, String to) {
+        if (from.equals(to)) {
+            return BigDecimal.ONE;
+        }
+        return unitsPerBase(to).divide(unitsPerBase(from), MathContext.DECIMAL64);
+    }
+
+    /**
+     * Convert an amount between currencies, rounded half-up to cents.
+     */
+    public BigDecimal convert(BigDecimal amount, String from, String to) {
+        if (from == null || to == null || from.equals(to)) {
+            return amount;
+        }
+        return amount.multiply(rate(from, to)).setScale(Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal unitsPerBase(String currency) {
+        BigDecimal rate = unitsPerBase.get(currency);
+        if (rate == null) {
+            throw new IllegalStateException("No exchange rate available for " + currency);
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,286 @@
+package com.dasa.splitspends.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory full-text index over a few weighted text fields per document.
+ * Each term keeps one {@link PostingList} of internal document numbers per
+ * field; document numbers are handed out in insertion order, so a changed
+ * document is re-added under a new number and its old one is tombstoned
+ * until the next compaction.
+ *
+ * <p>
+ * A search matches documents containing every query term in any field; the
+ * last term also matches as a prefix, so partly typed words find results.
+ * Documents are ranked by the sum of field weight times inverse document
+ * frequency over the matched terms, newest key first on ties.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; callers guard each index with their own lock.
+ * </p>
+ */
+public final class InvertedIndex {
+
+    // A short prefix such as "a" should not fan out over the whole dictionary
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_COMPACTION = 64;
+
+    private final float[] fieldWeights;
+    private final TreeMap<String, PostingList[]> terms = new TreeMap<>();
+    private final Map<Long, Integer> docByKey = new HashMap<>();
+    private long[] keys = new long[16];
+    private BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+
+    /**
+     * @param fieldWeights ranking weight of each field, in the order fields
+     *                     are passed to {@link #put}
+     */
+    public InvertedIndex(float... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("An index needs at least one field");
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * Index a document, replacing any earlier version with the same key.
+     * Null fields are skipped.
+     */
+    public void put(long key, String... fields) {
+        if (fields.length != fieldWeights.length) {
+            throw new IllegalArgumentException("Expected " + fieldWeights.length + " fields");
+        }
+        remove(key);
+        int doc = docCount++;
+        if (doc == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[doc] = key;
+        docByKey.put(key, doc);
+        for (int field = 0; field < fields.length; field++) {
+            for (String term : new LinkedHashSet<>(tokenize(fields[field]))) {
+                PostingList[] byField = terms.computeIfAbsent(term, t -> new PostingList[fieldWeights.length]);
+                if (byField[field] == null) {
+                    byField[field] = new PostingList();
+                }
+                byField[field].add(doc);
+            }
+        }
+    }
+
+    public void remove(long key) {
+        Integer doc = docByKey.remove(key);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        if (deletedCount >= MIN_COMPACTION && deletedCount * 2 > docCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Number of live documents.
+     */
+    public int size() {
+        return docByKey.size();
+    }
+
+    public int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * Keys of the documents matching every term of the query, best match
+     * first. A query without any terms matches nothing.
+     */
+    public List<Long> search(String query) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty() || size() == 0) {
+            return List.of();
+        }
+        List<Hits> perTerm = new ArrayList<>();
+        for (int i = 0; i < queryTerms.size(); i++) {
+            Hits hits = hits(queryTerms.get(i), i == queryTerms.size() - 1);
+            if (hits.docs.length == 0) {
+                return List.of();
+            }
+            perTerm.add(hits);
+        }
+        // Intersect from the rarest term so the running result stays small
+        perTerm.sort((a, b) -> Integer.compare(a.docs.length, b.docs.length));
+        Hits result = perTerm.get(0);
+        for (int i = 1; i < perTerm.size() && result.docs.length > 0; i++) {
+            result = result.intersect(perTerm.get(i));
+        }
+
+        Integer[] order = new Integer[result.docs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Hits ranked = result;
+        Arrays.sort(order, (a, b) -> {
+            int byScore = Float.compare(ranked.scores[b], ranked.scores[a]);
+            return byScore != 0 ? byScore : Long.compare(keys[ranked.docs[b]], keys[ranked.docs[a]]);
+        });
+        List<Long> matches = new ArrayList<>(order.length);
+        for (Integer i : order) {
+            matches.add(keys[ranked.docs[i]]);
+        }
+        return matches;
+    }
+
+    /**
+     * Lower-cased words and numbers of a text with accents stripped, so
+     * "Café" and "cafe" are the same term. Single letters are dropped.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SearchText.fold(text).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1 || (!token.isEmpty() && Character.isDigit(token.charAt(0)))) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // ========== QUERY EVALUATION ==========
+
+    /**
+     * Live documents matching one query term, with the term's score in each.
+     * A prefix term takes the best-scoring expansion per document.
+     */
+    private Hits hits(String term, boolean prefix) {
+        Iterable<Map.Entry<String, PostingList[]>> matching;
+        if (prefix) {
+            NavigableMap<String, PostingList[]> expansions = terms.subMap(term, true, term + Character.MAX_VALUE,
+                    false);
+            matching = expansions.entrySet().stream().limit(MAX_PREFIX_EXPANSIONS).toList();
+        } else {
+            PostingList[] exact = terms.get(term);
+            matching = exact == null ? List.of() : List.of(Map.entry(term, exact));
+        }
+
+        Map<Integer, Float> best = new HashMap<>();
+        for (Map.Entry<String, PostingList[]> entry : matching) {
+            Map<Integer, Float> scores = new HashMap<>();
+            PostingList[] byField = entry.getValue();
+            for (int field = 0; field < byField.length; field++) {
+                if (byField[field] == null) {
+                    continue;
+                }
+                float weight = fieldWeights[field] * idf(byField[field].size());
+                for (int doc : byField[field].toArray()) {
+                    if (!deleted.get(doc)) {
+                        scores.merge(doc, weight, Float::sum);
+                    }
+                }
+            }
+            scores.forEach((doc, score) -> best.merge(doc, score, Math::max));
+        }
+
+        int[] docs = best.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] scores = new float[docs.length];
+        for (int i = 0; i < docs.length; i++) {
+            scores[i] = best.get(docs[i]);
+        }
+        return new Hits(docs, scores);
+    }
+
+    // Rare terms say more about a document than common ones
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1.0 + (double) size() / documentFrequency);
+    }
+
+    /**
+     * Sorted document numbers with a score each.
+     */
+    private record Hits(int[] docs, float[] scores) {
+
+        Hits intersect(Hits other) {
+            int[] docs = new int[Math.min(this.docs.length, other.docs.length)];
+            float[] scores = new float[docs.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.docs.length && j < other.docs.length) {
+                if (this.docs[i] < other.docs[j]) {
+                    i++;
+                } else if (this.docs[i] > other.docs[j]) {
+                    j++;
+                } else {
+                    docs[count] = this.docs[i];
+                    scores[count++] = this.scores[i++] + other.scores[j++];
+                }
+            }
+            return new Hits(Arrays.copyOf(docs, count), Arrays.copyOf(scores, count));
+        }
+    }
+
+    // ========== COMPACTION ==========
+
+    /**
+     * Renumber the live documents densely and drop tombstoned ones from every
+     * posting list. Renumbering keeps the original order, so the rewritten
+     * lists stay sorted.
+     */
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        long[] liveKeys = new long[Math.max(16, docCount - deletedCount)];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live;
+                liveKeys[live] = keys[doc];
+                docByKey.put(keys[doc], live);
+                live++;
+            }
+        }
+
+        Set<String> emptied = new LinkedHashSet<>();
+        for (Map.Entry<String, PostingList[]> entry : terms.entrySet()) {
+            PostingList[] byField = entry.getValue();
+            boolean any = false;
+            for (int field = 0; field < byField.length; field++) {
+                if (byField[field] == null) {
+                    continue;
+                }
+                PostingList rewritten = new PostingList();
+                for (int doc : byField[field].toArray()) {
+                    if (renumbered[doc] >= 0) {
+                        rewritten.add(renumbered[doc]);
+                    }
+                }
+                byField[field] = rewritten.isEmpty() ? null : rewritten;
+                any |= !rewritten.isEmpty();
+            }
+            if (!any) {
+                emptied.add(entry.getKey());
+            }
+        }
+        terms.keySet().removeAll(emptied);
+
+        keys = liveKeys;
+        docCount = live;
+        deleted = new BitSet();
+        deletedCount = 0;
+    }
+}
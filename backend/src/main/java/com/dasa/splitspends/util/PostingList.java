@@ -0,0 +1,78 @@
+package com.dasa.splitspends.util;
+
+import java.util.Arrays;
+
+/**
+ * Append-only sorted list of non-negative ints, stored as variable-length
+ * deltas. Document numbers in a posting list only grow, so most deltas fit in
+ * one or two bytes instead of four.
+ */
+public final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    public static PostingList of(int... values) {
+        PostingList list = new PostingList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Append a value larger than every value already in the list.
+     */
+    public void add(int value) {
+        if (value <= last) {
+            throw new IllegalArgumentException("Posting list values must be added in increasing order");
+        }
+        int delta = value - last;
+        last = value;
+        size++;
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Encoded size in bytes.
+     */
+    public int byteSize() {
+        return length;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[size];
+        int value = -1;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            values[i] = value;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,189 @@
+package com.dasa.splitspends.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * Schedule of a recurring expense, given either as a six-field Spring cron
+ * expression ({@code 0 0 9 1 * *}) or as a subset of an iCalendar RRULE:
+ * {@code FREQ=DAILY|WEEKLY|MONTHLY|YEARLY}, optional {@code INTERVAL=n},
+ * {@code BYDAY=MO,WE} (weekly only) and {@code BYMONTHDAY=d} (monthly only;
+ * clamped to the month length, {@code -1} is the last day). An optional
+ * {@code RRULE:} prefix is accepted.
+ *
+ * RRULE occurrences are computed from the previous occurrence and keep its
+ * time of day; cron occurrences follow the expression. Monthly and yearly
+ * rules without {@code BYMONTHDAY} keep the day of month of the schedule's
+ * anchor (its first occurrence), clamped to shorter months, so a schedule
+ * anchored on Jan 31 or Feb 29 returns to that day instead of drifting.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY);
+
+    private final CronExpression cron;
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer byMonthDay;
+
+    private RecurrenceRule(CronExpression cron, Frequency frequency, int interval, Set<DayOfWeek> byDay,
+            Integer byMonthDay) {
+        this.cron = cron;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the expression is not a supported
+     *                                  cron or RRULE
+     */
+    public static RecurrenceRule parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Schedule is required");
+        }
+        String value = expression.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+        if (!value.toUpperCase(Locale.ROOT).startsWith("FREQ=")) {
+            try {
+                return new RecurrenceRule(CronExpression.parse(value), null, 1, null, null);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid schedule: " + expression);
+            }
+        }
+        return parseRrule(value.toUpperCase(Locale.ROOT), expression);
+    }
+
+    private static RecurrenceRule parseRrule(String rule, String expression) {
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = null;
+        Integer byMonthDay = null;
+        try {
+            for (String part : rule.split(";")) {
+                if (part.isBlank()) {
+                    continue;
+                }
+                int eq = part.indexOf('=');
+                String name = part.substring(0, eq);
+                String arg = part.substring(eq + 1);
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(arg);
+                    case "INTERVAL" -> interval = Integer.parseInt(arg);
+                    case "BYDAY" -> {
+                        byDay = EnumSet.noneOf(DayOfWeek.class);
+                        for (String day : arg.split(",")) {
+                            DayOfWeek dayOfWeek = DAYS.get(day);
+                            if (dayOfWeek == null) {
+                                throw new IllegalArgumentException(day);
+                            }
+                            byDay.add(dayOfWeek);
+                        }
+                    }
+                    case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(arg);
+                    default -> throw new IllegalArgumentException(name);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid schedule: " + expression);
+        }
+        if (frequency == null || interval < 1
+                || (byDay != null && frequency != Frequency.WEEKLY)
+                || (byMonthDay != null && (frequency != Frequency.MONTHLY || byMonthDay == 0
+                        || byMonthDay < -1 || byMonthDay > 31))) {
+            throw new IllegalArgumentException("Unsupported schedule: " + expression);
+        }
+        return new RecurrenceRule(null, frequency, interval, byDay, byMonthDay);
+    }
+
+    /**
+     * First occurrence at or after {@code start}.
+     */
+    public LocalDateTime first(LocalDateTime start) {
+        if (cron != null) {
+            return cron.next(start.minusSeconds(1));
+        }
+        if (byDay != null && !byDay.contains(start.getDayOfWeek())) {
+            return byDay.stream()
+                    .map(day -> start.with(TemporalAdjusters.next(day)))
+                    .min(LocalDateTime::compareTo)
+                    .orElseThrow();
+        }
+        if (byMonthDay != null && start.getDayOfMonth() != monthDay(start)) {
+            LocalDateTime candidate = start.withDayOfMonth(monthDay(start));
+            return candidate.isBefore(start) ? withMonthDay(start.plusMonths(1)) : candidate;
+        }
+        return start;
+    }
+
+    /**
+     * Next occurrence strictly after {@code previous}, taking {@code previous}
+     * as the anchor.
+     */
+    public LocalDateTime next(LocalDateTime previous) {
+        return next(previous, previous);
+    }
+
+    /**
+     * Next occurrence strictly after {@code previous} of a schedule whose first
+     * occurrence was {@code anchor}.
+     */
+    public LocalDateTime next(LocalDateTime previous, LocalDateTime anchor) {
+        if (cron != null) {
+            return cron.next(previous);
+        }
+        return switch (frequency) {
+            case DAILY -> previous.plusDays(interval);
+            case WEEKLY -> byDay == null ? previous.plusWeeks(interval) : nextWeekday(previous);
+            case MONTHLY -> byMonthDay == null ? withDayOf(previous.plusMonths(interval), anchor)
+                    : withMonthDay(previous.plusMonths(interval));
+            case YEARLY -> withDayOf(previous.plusYears(interval), anchor);
+        };
+    }
+
+    // Later listed day in the same Monday-based week, else the first listed
+    // day of the week INTERVAL weeks on
+    private LocalDateTime nextWeekday(LocalDateTime previous) {
+        for (DayOfWeek day : byDay) {
+            if (day.compareTo(previous.getDayOfWeek()) > 0) {
+                return previous.with(TemporalAdjusters.nextOrSame(day));
+            }
+        }
+        LocalDateTime weekStart = previous.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return weekStart.plus(interval, ChronoUnit.WEEKS)
+                .with(TemporalAdjusters.nextOrSame(byDay.iterator().next()));
+    }
+
+    // The anchor's day of month, or the last day of a shorter month
+    private static LocalDateTime withDayOf(LocalDateTime dateTime, LocalDateTime anchor) {
+        return dateTime.withDayOfMonth(Math.min(anchor.getDayOfMonth(), dateTime.toLocalDate().lengthOfMonth()));
+    }
+
+    private LocalDateTime withMonthDay(LocalDateTime dateTime) {
+        return dateTime.withDayOfMonth(monthDay(dateTime));
+    }
+
+    private int monthDay(LocalDateTime dateTime) {
+        int length = dateTime.toLocalDate().lengthOfMonth();
+        return byMonthDay == -1 ? length : Math.min(byMonthDay, length);
+    }
+}
@@ -0,0 +1,90 @@
+package com.dasa.splitspends.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalized text for search: lower-cased, accents stripped and whitespace
+ * collapsed, so "José" matches "jose". Stored text and queries go through
+ * the same folding.
+ *
+ * <p>
+ * Queries of at least {@link #MIN_CONTAINS_LENGTH} characters match
+ * anywhere in the text, which PostgreSQL serves from a pg_trgm index;
+ * shorter ones only match at the start of the name or of the email, each
+ * served by a plain B-tree on its own folded column.
+ * </p>
+ */
+public final class SearchText {
+
+    // pg_trgm needs a full trigram to use the index for a substring match
+    public static final int MIN_CONTAINS_LENGTH = 3;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+
+    private static final char ESCAPE = '!';
+
+    private SearchText() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The stored search text of a user: folded name, then email.
+     */
+    public static String ofUser(String name, String email) {
+        return (fold(name) + " " + fold(email)).trim();
+    }
+
+    /**
+     * LIKE pattern for a query against the stored search text, with
+     * {@code !} as the escape character, or null when the query is blank.
+     */
+    public static String pattern(String query) {
+        String folded = fold(query);
+        if (folded.isEmpty()) {
+            return null;
+        }
+        return (folded.length() >= MIN_CONTAINS_LENGTH ? "%" : "") + escape(folded) + "%";
+    }
+
+    /**
+     * LIKE pattern for a short query against the folded email, or null when
+     * the query is blank or long enough for {@link #pattern(String)} to match
+     * anywhere in the search text, email included.
+     */
+    public static String emailPattern(String query) {
+        String folded = fold(query);
+        if (folded.isEmpty() || folded.length() >= MIN_CONTAINS_LENGTH) {
+            return null;
+        }
+        return escape(folded) + "%";
+    }
+
+    private static String escape(String folded) {
+        StringBuilder escaped = new StringBuilder(folded.length() + 2);
+        for (char c : folded.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Clamp a requested result count to 1..{@link #MAX_LIMIT}.
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,106 @@
+package com.dasa.splitspends.util;
+
+import java.util.Arrays;
+
+/**
+ * Splits an amount of minor units into parts using largest-remainder
+ * rounding: every part first gets the floor of its exact share, then the
+ * leftover units go one each to the parts with the largest fractional
+ * remainders (earlier parts win ties). The parts always add up to the total
+ * exactly, and no part is off from its exact share by a full unit.
+ */
+public final class SplitAllocator {
+
+    private SplitAllocator() {
+    }
+
+    /**
+     * Split a total into {@code parts} equal shares.
+     *
+     * @param totalMinor total in minor units, not negative
+     * @param parts      number of shares, at least one
+     * @return share per part in minor units
+     */
+    public static long[] allocateEqually(long totalMinor, int parts) {
+        long[] result = new long[parts];
+        allocateEqually(totalMinor, 0, parts, result);
+        return result;
+    }
+
+    /**
+     * Split a total into equal shares written to {@code out[from..to)}, so
+     * batch callers can fill one flat array without per-expense copies.
+     */
+    public static void allocateEqually(long totalMinor, int from, int to, long[] out) {
+        int parts = to - from;
+        if (parts <= 0) {
+            throw new IllegalArgumentException("At least one participant is required");
+        }
+        requireNotNegative(totalMinor);
+        long base = totalMinor / parts;
+        long leftover = totalMinor % parts;
+        for (int i = 0; i < parts; i++) {
+            out[from + i] = i < leftover ? base + 1 : base;
+        }
+    }
+
+    /**
+     * Split a total proportionally to integer weights (shares, basis points of
+     * a percentage, or exact amounts in minor units).
+     *
+     * @param totalMinor total in minor units, not negative
+     * @param weights    non-negative weight per part with a positive sum
+     * @return share per part in minor units
+     */
+    public static long[] allocate(long totalMinor, long[] weights) {
+        long[] result = new long[weights.length];
+        allocate(totalMinor, weights, 0, weights.length, result);
+        return result;
+    }
+
+    /**
+     * Split a total proportionally to {@code weights[from..to)}, writing the
+     * shares to the same range of {@code out}. {@code out} may be the weights
+     * array itself.
+     */
+    public static void allocate(long totalMinor, long[] weights, int from, int to, long[] out) {
+        requireNotNegative(totalMinor);
+        int n = to - from;
+        long weightSum = 0;
+        for (int i = from; i < to; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Split weights must not be negative");
+            }
+            weightSum = Math.addExact(weightSum, weights[i]);
+        }
+        if (weightSum <= 0) {
+            throw new IllegalArgumentException("Split weights must sum to more than zero");
+        }
+
+        // Remainder in the high bits, reversed index in the low bits, so a
+        // descending sort ranks by remainder and then by original order
+        long[] ranking = new long[n];
+        long assigned = 0;
+        for (int i = 0; i < n; i++) {
+            long scaled = Math.multiplyExact(totalMinor, weights[from + i]);
+            out[from + i] = scaled / weightSum;
+            assigned += out[from + i];
+            ranking[i] = Math.addExact(Math.multiplyExact(scaled % weightSum, n), n - 1 - i);
+        }
+
+        long leftover = totalMinor - assigned;
+        if (leftover > 0) {
+            Arrays.sort(ranking);
+            for (int k = 0; k < leftover; k++) {
+                long key = ranking[n - 1 - k];
+                out[from + n - 1 - (int) (key % n)]++;
+            }
+        }
+    }
+
+    private static void requireNotNegative(long totalMinor) {
+        if (totalMinor < 0) {
+            throw new IllegalArgumentException("Amount to split must not be negative");
+        }
+    }
+}
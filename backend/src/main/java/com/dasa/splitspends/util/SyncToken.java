@@ -0,0 +1,105 @@
+package com.dasa.splitspends.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Where a client's delta sync stands. Clients get it as an opaque URL-safe
+ * token and send it back as {@code since}.
+ *
+ * <ul>
+ * <li>{@code seq}: every change up to this change sequence value has been
+ * sent for the groups in {@code groupIds} and the user's notifications.</li>
+ * <li>{@code pendingGroupIds}: groups still being sent in full, page by page
+ * after {@code cursor}, because the client has never seen them (it just
+ * joined, or this is the first sync when {@code snapshot} is set).</li>
+ * </ul>
+ */
+public record SyncToken(long seq, Set<Long> groupIds, Set<Long> pendingGroupIds, long cursor, boolean snapshot) {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    // Rows written before the change sequence existed carry 0
+    public static final long BEFORE_FIRST = -1;
+
+    private static final String SEPARATOR = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    public SyncToken {
+        groupIds = new TreeSet<>(groupIds);
+        pendingGroupIds = new TreeSet<>(pendingGroupIds);
+    }
+
+    /**
+     * First sync: send everything the user can see. Changes committed while
+     * the snapshot is paged through are sent by the deltas after it.
+     */
+    public static SyncToken snapshot(long horizon, Collection<Long> groupIds) {
+        return new SyncToken(horizon, Set.of(), Set.copyOf(groupIds), BEFORE_FIRST, true);
+    }
+
+    /**
+     * Send newly joined groups in full before the next delta.
+     */
+    public SyncToken catchUp(Set<Long> joinedGroupIds) {
+        return new SyncToken(seq, groupIds, joinedGroupIds, BEFORE_FIRST, false);
+    }
+
+    public boolean isCatchingUp() {
+        return snapshot || !pendingGroupIds.isEmpty();
+    }
+
+    public String encode() {
+        String raw = seq + SEPARATOR + cursor + SEPARATOR + (snapshot ? "S" : "D") + SEPARATOR
+                + join(groupIds) + SEPARATOR + join(pendingGroupIds);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @return the token, or null for a missing or blank token (first sync)
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 5 || !(parts[2].equals("S") || parts[2].equals("D"))) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            return new SyncToken(Long.parseLong(parts[0]), split(parts[3]), split(parts[4]),
+                    Long.parseLong(parts[1]), parts[2].equals("S"));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+
+    /**
+     * Clamp a requested page size to 1..{@link #MAX_LIMIT}.
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static String join(Set<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+    }
+
+    private static Set<Long> split(String ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(ids.split(ID_SEPARATOR)).map(Long::valueOf).collect(Collectors.toSet());
+    }
+}
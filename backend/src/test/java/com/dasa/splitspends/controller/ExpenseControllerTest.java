@@ -17,10 +17,15 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.dasa.splitspends.dto.expense.CreateExpenseRequest;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
 import com.dasa.splitspends.entity.Expense;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.ExpenseImportService;
+import com.dasa.splitspends.service.ExpenseSearchService;
 import com.dasa.splitspends.service.ExpenseService;
+import com.dasa.splitspends.service.GroupVersionService;
+import com.dasa.splitspends.service.SpendingRollupService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(controllers = ExpenseController.class, excludeAutoConfiguration = {
@@ -44,6 +49,18 @@ class ExpenseControllerTest {
     @MockBean
     private AuthorizationService authorizationService;
 
+    @MockBean
+    private ExpenseImportService expenseImportService;
+
+    @MockBean
+    private GroupVersionService groupVersionService;
+
+    @MockBean
+    private ExpenseSearchService expenseSearchService;
+
+    @MockBean
+    private SpendingRollupService spendingRollupService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -85,21 +102,48 @@ class ExpenseControllerTest {
 
     @Test
     void testGetGroupExpenses() throws Exception {
-        Expense expense = new Expense();
-        expense.setId(1L);
-        expense.setDescription(LUNCH_DESCRIPTION);
-        expense.setAmount(LUNCH_AMOUNT);
-        expense.setDate(LocalDateTime.now());
-        expense.setCreatedAt(LocalDateTime.now());
-        expense.setUpdatedAt(LocalDateTime.now());
+        ExpenseSummaryView expense = new ExpenseSummaryView(1L, 1L, LUNCH_DESCRIPTION, LUNCH_AMOUNT, "USD",
+                LocalDateTime.now(), Expense.ExpenseCategory.OTHER, Expense.ExpenseStatus.CONFIRMED, 2L, "Alice", 0L);
         var page = new PageImpl<>(List.of(expense), PageRequest.of(0, 10), 1);
 
         Mockito.when(expenseService.getGroupExpenses(Mockito.eq(1L), Mockito.any())).thenReturn(page);
+        Mockito.when(groupVersionService.getETag(1L)).thenReturn("\"1-3\"");
 
         mockMvc.perform(MockMvcRequestBuilders.get("/api/expenses/group/1")
                 .param("page", "0")
                 .param("size", "10"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1-3\""))
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").value("Lunch"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetGroupExpensesNotModified() throws Exception {
+        Mockito.when(groupVersionService.getETag(1L)).thenReturn("\"1-3\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/expenses/group/1")
+                .header("If-None-Match", "\"1-3\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1-3\""));
+
+        Mockito.verifyNoInteractions(expenseService);
+    }
+
+    @Test
+    void testUpdateExpenseRequiresVersion() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/expenses/5")
+                .param("description", LUNCH_DESCRIPTION)
+                .param("amount", "50")
+                .param("category", "OTHER")
+                .param("updatedByUserId", "1"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/expenses/5/splits")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"splitType\":\"EQUAL\",\"userValueMap\":{\"1\":0,\"2\":0}}"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value("Expense version is required"));
+
+        Mockito.verifyNoInteractions(expenseService);
+    }
+}
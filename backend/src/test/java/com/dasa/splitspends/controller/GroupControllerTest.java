@@ -17,7 +17,10 @@ import com.dasa.splitspends.dto.group.GroupRequest;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
 import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.ActivityLogService;
+import com.dasa.splitspends.service.BalanceEventService;
 import com.dasa.splitspends.service.GroupService;
+import com.dasa.splitspends.service.GroupVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(controllers = GroupController.class, excludeAutoConfiguration = {
@@ -35,6 +38,15 @@ class GroupControllerTest {
     @MockBean
     private AuthorizationService authorizationService;
 
+    @MockBean
+    private BalanceEventService balanceEventService;
+
+    @MockBean
+    private ActivityLogService activityLogService;
+
+    @MockBean
+    private GroupVersionService groupVersionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -92,4 +104,33 @@ class GroupControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("User Group"));
     }
+
+    @Test
+    void testGetGroupNotModified() throws Exception {
+        Mockito.when(groupVersionService.getETag(1L)).thenReturn("\"1-7\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/groups/1")
+                .header("If-None-Match", "\"1-7\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1-7\""));
+
+        Mockito.verifyNoInteractions(groupService);
+    }
+
+    @Test
+    void testGetGroupBalancesNotModified() throws Exception {
+        Mockito.when(groupVersionService.getETag(1L)).thenReturn("\"1-7\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/groups/1/balances")
+                .header("If-None-Match", "\"1-7\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1-7\""));
+
+        // A stale copy gets the full response with the current version
+        Mockito.when(groupService.getGroupBalances(1L)).thenReturn(List.of());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/groups/1/balances")
+                .header("If-None-Match", "\"1-6\""))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1-7\""));
+    }
 }
@@ -0,0 +1,83 @@
+package com.dasa.splitspends.controller;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.dasa.splitspends.security.AuthorizationService;
+import com.dasa.splitspends.service.BalanceReportService;
+import com.dasa.splitspends.service.SettleUpService;
+import com.dasa.splitspends.service.SettlementPlanService;
+
+@WebMvcTest(controllers = SettleUpController.class, excludeAutoConfiguration = {
+        org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration.class,
+        org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration.class
+})
+class SettleUpControllerTest {
+
+    private static final Long PUBLIC_GROUP_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SettleUpService settleUpService;
+
+    @MockBean
+    private SettlementPlanService settlementPlanService;
+
+    @MockBean
+    private BalanceReportService balanceReportService;
+
+    @MockBean(name = "authorizationService")
+    private AuthorizationService authorizationService;
+
+    // The @PreAuthorize guards are what these tests check
+    @TestConfiguration
+    @EnableMethodSecurity
+    static class MethodSecurityConfig {
+    }
+
+    @Test
+    void testSettlementPlanIsMembersOnly() throws Exception {
+        givenNonMemberOfPublicGroup();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/settlements/group/{groupId}/plan", PUBLIC_GROUP_ID))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        Mockito.verifyNoInteractions(settlementPlanService);
+    }
+
+    @Test
+    void testBalanceMatrixIsMembersOnly() throws Exception {
+        givenNonMemberOfPublicGroup();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/settlements/group/{groupId}/balance-matrix",
+                PUBLIC_GROUP_ID))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        Mockito.verifyNoInteractions(balanceReportService);
+    }
+
+    @Test
+    void testSettlementFeedIsMembersOnly() throws Exception {
+        givenNonMemberOfPublicGroup();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/settlements/group/{groupId}/feed", PUBLIC_GROUP_ID))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+        Mockito.verifyNoInteractions(settleUpService);
+    }
+
+    // A public group is visible to anyone, but its balances are not
+    private void givenNonMemberOfPublicGroup() {
+        Mockito.when(authorizationService.canViewGroup(PUBLIC_GROUP_ID)).thenReturn(true);
+        Mockito.when(authorizationService.canViewGroupBalances(PUBLIC_GROUP_ID)).thenReturn(false);
+        Mockito.when(authorizationService.canViewGroupDetails(PUBLIC_GROUP_ID)).thenReturn(false);
+    }
+}
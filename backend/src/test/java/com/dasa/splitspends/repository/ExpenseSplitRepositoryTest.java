@@ -0,0 +1,98 @@
+package com.dasa.splitspends.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ExpenseSplitRepositoryTest {
+
+    @Autowired
+    private ExpenseSplitRepository expenseSplitRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("saveAll writes a 20-way split in one batched INSERT")
+    void testSaveAllBatchesInserts() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(entityManager.persist(User.builder()
+                    .email("batch" + i + "@example.com")
+                    .passwordHash("hashedPassword123")
+                    .name("Batch User " + i)
+                    .groups(new HashSet<>())
+                    .build()));
+        }
+        Group group = new Group();
+        group.setName("Batch Group");
+        group.setCreatedBy(users.get(0));
+        users.forEach(group::addMember);
+        group.addAdmin(users.get(0));
+        entityManager.persist(group);
+
+        // The first sequence call on a fresh sequence yields a single ID; after
+        // the second the generator holds a full pooled block, so the measured
+        // flush below needs no sequence call
+        Expense warmUp = persistExpense(group, users.get(0));
+        warmUp.addSplit(split(users.get(0), new BigDecimal("50.00")));
+        warmUp.addSplit(split(users.get(1), new BigDecimal("50.00")));
+        entityManager.flush();
+
+        Expense expense = persistExpense(group, users.get(0));
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ExpenseSplit> splits = new ArrayList<>();
+        for (User user : users) {
+            ExpenseSplit split = split(user, new BigDecimal("5.00"));
+            expense.addSplit(split);
+            splits.add(split);
+        }
+        expenseSplitRepository.saveAll(splits);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Expense persistExpense(Group group, User paidBy) {
+        return entityManager.persist(Expense.builder()
+                .group(group)
+                .description("Batch expense")
+                .amount(new BigDecimal("100.00"))
+                .date(LocalDateTime.now())
+                .paidBy(paidBy)
+                .createdBy(paidBy)
+                .build());
+    }
+
+    private static ExpenseSplit split(User user, BigDecimal amount) {
+        return ExpenseSplit.builder()
+                .user(user)
+                .shareAmount(amount)
+                .build();
+    }
+}
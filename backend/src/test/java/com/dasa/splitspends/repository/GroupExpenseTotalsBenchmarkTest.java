@@ -0,0 +1,146 @@
+package com.dasa.splitspends.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.dto.expense.GroupExpenseTotals;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the single-pass GroupExpenseTotals query with the separate count,
+ * sum, settled-sum and average queries it replaced, on a group with 100k
+ * expenses, and logs the median time of each. Timings depend on the
+ * database, so only the results are asserted. Seeding takes a while, so it
+ * only runs on request:
+ *
+ * <pre>
+ * mvn test -Dtest=GroupExpenseTotalsBenchmarkTest -Dbenchmarks=true
+ * </pre>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Slf4j
+class GroupExpenseTotalsBenchmarkTest {
+
+    private static final int EXPENSES = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Single-pass totals match the separate queries on 100k expenses")
+    void benchmarkGroupExpenseTotals() {
+        User alice = persistUser("alice.bench@example.com", "Alice Bench");
+        User bob = persistUser("bob.bench@example.com", "Bob Bench");
+        Group group = new Group();
+        group.setName("Benchmark Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group = entityManager.persistAndFlush(group);
+        seed(group.getId(), alice.getId(), bob.getId());
+        entityManager.clear();
+        Group loaded = entityManager.find(Group.class, group.getId());
+        Long groupId = group.getId();
+
+        Supplier<Object[]> separate = () -> new Object[] {
+                expenseRepository.countByGroup(loaded),
+                expenseRepository.getTotalAmountByGroup(loaded),
+                expenseRepository.getTotalSettledAmountByGroup(loaded),
+                expenseRepository.getAverageExpenseAmountByGroup(loaded) };
+        Supplier<GroupExpenseTotals> singlePass = () -> expenseRepository.getGroupExpenseTotals(groupId);
+
+        Object[] expected = separate.get();
+        GroupExpenseTotals totals = singlePass.get();
+        assertThat(totals.expenseCount()).isEqualTo(expected[0]);
+        assertThat(totals.totalAmount()).isEqualByComparingTo((BigDecimal) expected[1]);
+        assertThat(totals.settledAmount()).isEqualByComparingTo((BigDecimal) expected[2]);
+        assertThat(totals.averageAmount()).isEqualByComparingTo((BigDecimal) expected[3]);
+
+        long separateNanos = medianNanos(separate);
+        long singlePassNanos = medianNanos(singlePass);
+
+        log.info("GroupExpenseTotals on {} expenses: separate queries {} ms, single pass {} ms ({}x)", EXPENSES,
+                String.format("%.1f", separateNanos / 1e6), String.format("%.1f", singlePassNanos / 1e6),
+                String.format("%.2f", (double) separateNanos / singlePassNanos));
+    }
+
+    /**
+     * 100k expenses with two splits each, every 50th one deleted and every
+     * third one fully settled, inserted set-based by H2.
+     */
+    private void seed(Long groupId, Long aliceId, Long bobId) {
+        jdbcTemplate.update("INSERT INTO expenses (id, group_id, description, amount, date, paid_by, category, "
+                + "currency, exchange_rate, status, created_at, updated_at, version, change_seq) "
+                + "SELECT 10000000 + X, ?, 'Benchmark expense', 10 + MOD(X, 90), CURRENT_TIMESTAMP, ?, 'OTHER', "
+                + "'USD', 1, CASE WHEN MOD(X, 50) = 0 THEN 'DELETED' ELSE 'CONFIRMED' END, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0, 0 FROM SYSTEM_RANGE(1, ?)",
+                groupId, aliceId, EXPENSES);
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO expense_splits (id, expense_id, user_id, share_amount, split_type, "
+                    + "settled, created_at, updated_at, version) "
+                    + "SELECT 20000000 + 2 * X + ?, 10000000 + X, ?, (10 + MOD(X, 90)) / 2.0, 'EQUAL', "
+                    + "MOD(X, 3) = 0 OR ? = 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)",
+                    i, i == 0 ? aliceId : bobId, i, EXPENSES);
+        }
+    }
+
+    private long medianNanos(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            touchTables();
+            query.get();
+        }
+        long[] runs = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            touchTables();
+            long start = System.nanoTime();
+            query.get();
+            runs[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(runs);
+        return runs[MEASURED_RUNS / 2];
+    }
+
+    // H2 hands back the previous result of an identical query while its tables
+    // are unchanged; a no-op write makes every run execute for real
+    private void touchTables() {
+        jdbcTemplate.update("UPDATE expenses SET version = version WHERE id = 10000001");
+        jdbcTemplate.update("UPDATE expense_splits SET version = version WHERE id = 20000002");
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
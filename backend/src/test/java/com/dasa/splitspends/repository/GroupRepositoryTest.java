@@ -5,16 +5,22 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.HashSet;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.dasa.splitspends.dto.group.GroupResponse;
 import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 class GroupRepositoryTest {
 
@@ -22,6 +28,8 @@ class GroupRepositoryTest {
     private GroupRepository groupRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @Test
     @DisplayName("findByMembers_Id returns groups for user")
@@ -100,4 +108,78 @@ class GroupRepositoryTest {
         assertThat(groups).isNotEmpty();
         assertThat(groups.get(0).getName()).containsIgnoringCase("alpha");
     }
+
+    @Test
+    @DisplayName("Group lists hydrate creator, members and admins in a fixed number of statements")
+    void testGroupListHydrationStatementCount() {
+        User shared1 = persistUser("shared1@example.com", "Shared One");
+        User shared2 = persistUser("shared2@example.com", "Shared Two");
+        for (int i = 0; i < 12; i++) {
+            User owner = persistUser("owner" + i + "@example.com", "Owner " + i);
+            Group group = new Group();
+            group.setName("Hydration Group " + i);
+            group.setCreatedBy(owner);
+            group.addAdmin(owner);
+            group.addMember(shared1);
+            group.addMember(shared2);
+            entityManager.persist(group);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<GroupResponse> page = groupRepository.findAll(PageRequest.of(0, 10)).map(GroupResponse::fromEntity);
+
+        assertThat(page.getContent()).hasSize(10).allSatisfy(response -> {
+            assertThat(response.getCreatedBy().getName()).startsWith("Owner");
+            assertThat(response.getMembers()).hasSize(3);
+            assertThat(response.getAdmins()).hasSize(1);
+        });
+        // Groups with creators, count, one batch of members, one batch of admins
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        entityManager.clear();
+        statistics.clear();
+        List<GroupResponse> userGroups = groupRepository.findByMembersContaining(shared1).stream()
+                .map(GroupResponse::fromEntity)
+                .toList();
+
+        assertThat(userGroups).hasSize(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Change version starts at zero and is only moved by the bulk increment")
+    void testChangeVersionIncrement() {
+        User owner = persistUser("versioned@example.com", "Versioned Owner");
+        Group group = new Group();
+        group.setName("Versioned Group");
+        group.setCreatedBy(owner);
+        group.addAdmin(owner);
+        group = entityManager.persistAndFlush(group);
+        Long groupId = group.getId();
+
+        assertThat(groupRepository.findChangeVersion(groupId)).contains(0L);
+
+        assertThat(groupRepository.incrementChangeVersion(groupId)).isEqualTo(1);
+        assertThat(groupRepository.incrementChangeVersion(groupId)).isEqualTo(1);
+        // A stale managed copy must not write its old version back
+        group.setDescription("Renamed after the bump");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(groupRepository.findChangeVersion(groupId)).contains(2L);
+        assertThat(groupRepository.findChangeVersion(Long.MAX_VALUE)).isEmpty();
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
 }
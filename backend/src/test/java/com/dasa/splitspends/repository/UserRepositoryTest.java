@@ -2,15 +2,21 @@ package com.dasa.splitspends.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.dasa.splitspends.entity.Group;
 import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.util.SearchText;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -19,6 +25,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("Should save and find user by email")
     void testSaveAndFindByEmail() {
@@ -40,4 +49,63 @@ class UserRepositoryTest {
         Optional<User> found = userRepository.findByEmail("doesnotexist@example.com");
         assertThat(found).isNotPresent();
     }
+
+    @Test
+    @DisplayName("Should search the folded name and email, by name or email prefix for short queries")
+    void testSearchActiveUsers() {
+        User jose = saveUser("José Álvarez", "jose.alvarez@example.com");
+        User mia = saveUser("Mia Lopez", "mia_l@example.com");
+        User robert = saveUser("Robert Smith", "bob.smith@example.com");
+        saveUser("Joanna Suspended", "joanna@example.com").setAccountStatus(User.AccountStatus.SUSPENDED);
+        userRepository.flush();
+
+        assertThat(search("ALVAREZ")).containsExactly(jose.getId());
+        assertThat(search("lop")).containsExactly(mia.getId());
+        assertThat(search("jo")).containsExactly(jose.getId());
+        assertThat(search("bo")).containsExactly(robert.getId());
+        // Short queries only match at the start of the name or the email
+        assertThat(search("ia")).isEmpty();
+        assertThat(search("sm")).isEmpty();
+        // LIKE wildcards in the query are taken literally
+        assertThat(search("a_l")).containsExactly(mia.getId());
+        assertThat(search("%")).isEmpty();
+        assertThat(SearchText.pattern("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave out members of the group when searching invitation candidates")
+    void testFindUsersNotInGroup() {
+        User admin = saveUser("Invite Admin", "invite.admin@example.com");
+        User member = saveUser("Invite Member", "invite.member@example.com");
+        User outsider = saveUser("Invite Outsider", "invite.outsider@example.com");
+        Group group = new Group();
+        group.setName("Invite Group");
+        group.setCreatedBy(admin);
+        group.addAdmin(admin);
+        group.addMember(member);
+        entityManager.persistAndFlush(group);
+
+        List<User> candidates = userRepository.findUsersNotInGroup(SearchText.pattern("invite"),
+                SearchText.emailPattern("invite"), group.getId(), PageRequest.of(0, 10));
+
+        assertThat(candidates).extracting(User::getId).containsExactly(outsider.getId());
+        assertThat(userRepository.findUsersNotInGroup(SearchText.pattern("invite"),
+                SearchText.emailPattern("invite"), group.getId(), PageRequest.of(1, 10))).isEmpty();
+    }
+
+    private List<Long> search(String query) {
+        return userRepository.searchActiveUsers(SearchText.pattern(query), SearchText.emailPattern(query),
+                PageRequest.of(0, 10)).stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    private User saveUser(String name, String email) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(email)
+                .passwordHash("hashedpassword")
+                .groups(new HashSet<>())
+                .build());
+    }
 }
@@ -0,0 +1,170 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dasa.splitspends.dto.balance.LedgerRebuildReport;
+import com.dasa.splitspends.entity.BalanceEvent;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.GroupMemberBalance;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.BalanceSnapshotRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class })
+@TestPropertySource(properties = "app.balance.snapshot-interval=3")
+class BalanceLedgerServiceTest {
+
+    @Autowired
+    private BalanceLedgerService balanceLedgerService;
+
+    @Autowired
+    private BalanceEventService balanceEventService;
+
+    @Autowired
+    private GroupMemberBalanceRepository balanceRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = entityManager.persist(User.builder()
+                .email("alice.ledger@example.com")
+                .passwordHash("hashedPassword123")
+                .name("Alice Ledger")
+                .groups(new HashSet<>())
+                .build());
+        bob = entityManager.persist(User.builder()
+                .email("bob.ledger@example.com")
+                .passwordHash("hashedPassword123")
+                .name("Bob Ledger")
+                .groups(new HashSet<>())
+                .build());
+
+        group = new Group();
+        group.setName("Ledger Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group = entityManager.persist(group);
+    }
+
+    @Test
+    @DisplayName("recordExpense and reverseExpense keep ledger rows in step")
+    void testRecordAndReverseExpense() {
+        Expense expense = persistExpense(new BigDecimal("90.00"), alice, alice, bob);
+
+        balanceLedgerService.recordExpense(expense, BalanceEvent.EventType.EXPENSE_CREATED);
+        entityManager.clear();
+
+        assertThat(netBalanceOf(alice)).isEqualByComparingTo("45.00");
+        assertThat(netBalanceOf(bob)).isEqualByComparingTo("-45.00");
+
+        balanceLedgerService.reverseExpense(expense, BalanceEvent.EventType.EXPENSE_DELETED);
+        entityManager.clear();
+
+        assertThat(netBalanceOf(alice)).isEqualByComparingTo("0");
+        assertThat(netBalanceOf(bob)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("rebuildGroup detects and repairs a drifted ledger")
+    void testRebuildGroup() {
+        persistExpense(new BigDecimal("60.00"), alice, alice, bob);
+
+        LedgerRebuildReport dryRun = balanceLedgerService.rebuildGroup(group.getId(), true);
+        assertThat(dryRun.isConsistent()).isFalse();
+        assertThat(dryRun.getMismatches()).hasSize(2);
+        assertThat(balanceRepository.findByGroupId(group.getId())).isEmpty();
+
+        balanceLedgerService.rebuildGroup(group.getId(), false);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(netBalanceOf(alice)).isEqualByComparingTo("30.00");
+        assertThat(balanceLedgerService.rebuildGroup(group.getId(), true).isConsistent()).isTrue();
+
+        // The corrections were appended as events, so replay agrees with the ledger
+        Map<Long, BigDecimal> replayed = balanceEventService.getGroupBalances(group.getId());
+        assertThat(replayed.get(alice.getId())).isEqualByComparingTo("30.00");
+        assertThat(replayed.get(bob.getId())).isEqualByComparingTo("-30.00");
+    }
+
+    @Test
+    @DisplayName("Event replay from the latest snapshot matches the ledger")
+    void testEventReplayWithSnapshots() {
+        // Each expense appends two events, so the third expense triggers a snapshot
+        for (int i = 0; i < 3; i++) {
+            balanceLedgerService.recordExpense(persistExpense(new BigDecimal("20.00"), alice, alice, bob),
+                    BalanceEvent.EventType.EXPENSE_CREATED);
+        }
+        Expense deleted = persistExpense(new BigDecimal("10.00"), bob, alice, bob);
+        balanceLedgerService.recordExpense(deleted, BalanceEvent.EventType.EXPENSE_CREATED);
+        balanceLedgerService.reverseExpense(deleted, BalanceEvent.EventType.EXPENSE_DELETED);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(snapshotRepository.findFirstByGroupIdOrderByLastEventIdDesc(group.getId())).isPresent();
+        Map<Long, BigDecimal> replayed = balanceEventService.getGroupBalances(group.getId());
+        assertThat(replayed.get(alice.getId())).isEqualByComparingTo("30.00");
+        assertThat(replayed.get(bob.getId())).isEqualByComparingTo("-30.00");
+        assertThat(replayed.get(alice.getId())).isEqualByComparingTo(netBalanceOf(alice));
+    }
+
+    private Expense persistExpense(BigDecimal amount, User paidBy, User... participants) {
+        Expense expense = Expense.builder()
+                .group(group)
+                .description("Ledger dinner")
+                .amount(amount)
+                .date(LocalDateTime.now())
+                .paidBy(paidBy)
+                .createdBy(paidBy)
+                .build();
+        BigDecimal share = amount.divide(BigDecimal.valueOf(participants.length));
+        for (User participant : participants) {
+            expense.addSplit(ExpenseSplit.builder()
+                    .user(participant)
+                    .shareAmount(share)
+                    .build());
+        }
+        return entityManager.persistAndFlush(expense);
+    }
+
+    private BigDecimal netBalanceOf(User user) {
+        List<GroupMemberBalance> rows = balanceRepository.findByGroupId(group.getId());
+        return rows.stream()
+                .filter(row -> row.getUser().getId().equals(user.getId()))
+                .map(GroupMemberBalance::getNetBalance)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,201 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.dto.balance.BalanceMatrixResponse;
+import com.dasa.splitspends.dto.balance.UserBalanceSummaryResponse;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.FxRate;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.service.impl.BalanceReportServiceImpl;
+import com.dasa.splitspends.service.impl.FxRateServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ BalanceReportServiceImpl.class, FxRateServiceImpl.class })
+class BalanceReportServiceTest {
+
+    @Autowired
+    private BalanceReportService balanceReportService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private User carol;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice.report@example.com", "Alice Report");
+        bob = persistUser("bob.report@example.com", "Bob Report");
+        carol = persistUser("carol.report@example.com", "Carol Report");
+
+        group = new Group();
+        group.setName("Report Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group.addMember(carol);
+        group = entityManager.persist(group);
+
+        // Alice pays 90 split three ways, Bob pays 30 split with Alice
+        persistExpense(group, new BigDecimal("90.00"), alice, alice, bob, carol);
+        persistExpense(group, new BigDecimal("30.00"), bob, alice, bob);
+
+        // Carol settles 10 with Alice
+        persistSettlement(carol, alice, "10.00", SettleUp.SettlementStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("getBalanceMatrix nets each pair and omits settled pairs")
+    void testGetBalanceMatrix() {
+        BalanceMatrixResponse matrix = balanceReportService.getBalanceMatrix(group.getId());
+
+        assertThat(matrix.getUserIds()).containsExactly(alice.getId(), bob.getId(), carol.getId());
+        assertThat(matrix.getCells()).hasSize(2);
+
+        // Bob owes Alice 30 - 15 = 15
+        BalanceMatrixResponse.Cell bobToAlice = matrix.getCells().get(0);
+        assertThat(bobToAlice.getDebtor()).isEqualTo(1);
+        assertThat(bobToAlice.getCreditor()).isEqualTo(0);
+        assertThat(bobToAlice.getAmount()).isEqualByComparingTo("15.00");
+
+        // Carol owes Alice 30 - 10 = 20
+        BalanceMatrixResponse.Cell carolToAlice = matrix.getCells().get(1);
+        assertThat(carolToAlice.getDebtor()).isEqualTo(2);
+        assertThat(carolToAlice.getCreditor()).isEqualTo(0);
+        assertThat(carolToAlice.getAmount()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    @DisplayName("getBalanceMatrix skips pending settlements and deleted expenses, and flips overpaid pairs")
+    void testGetBalanceMatrixEdgeCases() {
+        Expense deleted = persistExpense(group, new BigDecimal("300.00"), carol, alice, bob, carol);
+        deleted.setStatus(Expense.ExpenseStatus.DELETED);
+        persistSettlement(bob, alice, "15.00", SettleUp.SettlementStatus.PENDING);
+        // Carol has now paid Alice 35 against a 30 share
+        persistSettlement(carol, alice, "25.00", SettleUp.SettlementStatus.CONFIRMED);
+
+        BalanceMatrixResponse matrix = balanceReportService.getBalanceMatrix(group.getId());
+
+        assertThat(matrix.getCells())
+                .extracting(BalanceMatrixResponse.Cell::getDebtor, BalanceMatrixResponse.Cell::getCreditor)
+                .containsExactly(tuple(1, 0), tuple(0, 2));
+        assertThat(matrix.getCells().get(0).getAmount()).isEqualByComparingTo("15.00");
+        assertThat(matrix.getCells().get(1).getAmount()).isEqualByComparingTo("5.00");
+        assertThatThrownBy(() -> balanceReportService.getBalanceMatrix(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("getUserBalanceSummary reports per-group and per-counterparty positions")
+    void testGetUserBalanceSummary() {
+        UserBalanceSummaryResponse summary = balanceReportService.getUserBalanceSummary(alice.getId());
+
+        assertThat(summary.getNetBalance()).isEqualByComparingTo("35.00");
+        assertThat(summary.getTotalOwedToUser()).isEqualByComparingTo("35.00");
+        assertThat(summary.getTotalUserOwes()).isEqualByComparingTo("0");
+        assertThat(summary.getGroups()).hasSize(1);
+        assertThat(summary.getGroups().get(0).getGroupName()).isEqualTo("Report Group");
+        assertThat(summary.getCounterparties())
+                .extracting(UserBalanceSummaryResponse.CounterpartyPosition::getUserName)
+                .containsExactlyInAnyOrder("Bob Report", "Carol Report");
+
+        UserBalanceSummaryResponse bobSummary = balanceReportService.getUserBalanceSummary(bob.getId());
+        assertThat(bobSummary.getNetBalance()).isEqualByComparingTo("-15.00");
+        assertThat(bobSummary.getTotalUserOwes()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    @DisplayName("getUserBalanceSummary converts totals across group currencies")
+    void testGetUserBalanceSummaryAcrossCurrencies() {
+        Group trip = new Group();
+        trip.setName("Euro Trip");
+        trip.setDefaultCurrency("EUR");
+        trip.setCreatedBy(bob);
+        trip.addAdmin(bob);
+        trip.addMember(alice);
+        trip = entityManager.persist(trip);
+
+        // Bob pays 20 EUR split with Alice: Alice owes Bob 10 EUR
+        persistExpense(trip, new BigDecimal("20.00"), bob, alice, bob);
+        entityManager.persistAndFlush(FxRate.builder()
+                .rateDate(LocalDate.now())
+                .currency("EUR")
+                .rate(new BigDecimal("0.80"))
+                .build());
+        fxRateService.reload();
+
+        UserBalanceSummaryResponse summary = balanceReportService.getUserBalanceSummary(alice.getId());
+
+        // 10 EUR at 0.80 EUR per USD is 12.50 USD
+        assertThat(summary.getCurrency()).isEqualTo("USD");
+        assertThat(summary.getTotalOwedToUser()).isEqualByComparingTo("35.00");
+        assertThat(summary.getTotalUserOwes()).isEqualByComparingTo("12.50");
+        assertThat(summary.getNetBalance()).isEqualByComparingTo("22.50");
+        assertThat(summary.getGroups())
+                .filteredOn(position -> "EUR".equals(position.getCurrency()))
+                .singleElement()
+                .satisfies(position -> assertThat(position.getNetBalance()).isEqualByComparingTo("-10.00"));
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private void persistSettlement(User payer, User payee, String amount, SettleUp.SettlementStatus status) {
+        SettleUp settlement = new SettleUp();
+        settlement.setGroup(group);
+        settlement.setPayer(payer);
+        settlement.setPayee(payee);
+        settlement.setAmount(new BigDecimal(amount));
+        settlement.setStatus(status);
+        entityManager.persistAndFlush(settlement);
+    }
+
+    private Expense persistExpense(Group group, BigDecimal amount, User paidBy, User... participants) {
+        Expense expense = Expense.builder()
+                .group(group)
+                .description("Report expense")
+                .amount(amount)
+                .date(LocalDateTime.now())
+                .paidBy(paidBy)
+                .createdBy(paidBy)
+                .build();
+        BigDecimal share = amount.divide(BigDecimal.valueOf(participants.length));
+        for (User participant : participants) {
+            expense.addSplit(ExpenseSplit.builder()
+                    .user(participant)
+                    .shareAmount(share)
+                    .build());
+        }
+        return entityManager.persistAndFlush(expense);
+    }
+}
@@ -0,0 +1,137 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dasa.splitspends.config.SplitEngineConfig;
+import com.dasa.splitspends.dto.expense.ExpenseImportReport;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.GroupMemberBalance;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+import com.dasa.splitspends.service.impl.ExpenseImportServiceImpl;
+import com.dasa.splitspends.service.impl.FxRateServiceImpl;
+import com.dasa.splitspends.service.impl.SpendingRollupServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ ExpenseImportServiceImpl.class, BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class,
+        SplitEngineConfig.class, SpendingRollupServiceImpl.class, FxRateServiceImpl.class })
+@TestPropertySource(properties = "app.import.batch-size=2")
+class ExpenseImportServiceTest {
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private GroupMemberBalanceRepository balanceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private User outsider;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice.import@example.com", "Alice Import");
+        bob = persistUser("bob.import@example.com", "Bob Import");
+        outsider = persistUser("outsider.import@example.com", "Outsider Import");
+
+        group = new Group();
+        group.setName("Import Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group = entityManager.persistAndFlush(group);
+    }
+
+    @Test
+    @DisplayName("CSV import writes valid rows in batches and reports invalid ones")
+    void testImportCsv() {
+        String csv = "date,description,amount,paidByUserId,participantUserIds,category\n"
+                + "2024-03-01,\"Dinner, Friday\",30.00," + alice.getId() + "," + alice.getId() + ";" + bob.getId()
+                + ",RESTAURANTS\n"
+                + "2024-03-02,Taxi,10.00," + bob.getId() + "," + alice.getId() + ";" + bob.getId() + ",\n"
+                + "2024-03-03,Hotel,200.00," + alice.getId() + "," + outsider.getId() + ",\n"
+                + "\n"
+                + "2024-03-04,Coffee,abc," + alice.getId() + "," + alice.getId() + ",\n"
+                + "2024-03-05,Museum,20.00," + alice.getId() + "," + alice.getId() + ";" + bob.getId() + ",\n";
+
+        ExpenseImportReport report = runImport(csv, ExpenseImportService.ImportFormat.CSV);
+
+        assertThat(report.getTotalRows()).isEqualTo(5);
+        assertThat(report.getImportedRows()).isEqualTo(3);
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        assertThat(report.getErrors())
+                .extracting(ExpenseImportReport.RowError::getLine)
+                .containsExactly(4L, 6L);
+        assertThat(expenseRepository.countByGroup(entityManager.find(Group.class, group.getId()))).isEqualTo(3);
+
+        // Alice paid 50 and owes 15 + 5 + 10; Bob paid 10 and owes 15 + 5 + 10
+        assertThat(netBalanceOf(alice)).isEqualByComparingTo("20.00");
+        assertThat(netBalanceOf(bob)).isEqualByComparingTo("-20.00");
+    }
+
+    @Test
+    @DisplayName("NDJSON import validates each line independently")
+    void testImportNdjson() {
+        String ndjson = "{\"description\":\"Groceries\",\"amount\":12.34,\"paidByUserId\":" + bob.getId()
+                + ",\"participantUserIds\":[" + alice.getId() + "," + bob.getId() + "]}\n"
+                + "{\"description\":\"Broken\"\n"
+                + "{\"description\":\"Too precise\",\"amount\":1.005,\"paidByUserId\":" + bob.getId()
+                + ",\"participantUserIds\":[" + bob.getId() + "]}\n";
+
+        ExpenseImportReport report = runImport(ndjson, ExpenseImportService.ImportFormat.NDJSON);
+
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        // Bob paid 12.34 split evenly with Alice
+        assertThat(netBalanceOf(alice)).isEqualByComparingTo("-6.17");
+        assertThat(netBalanceOf(bob)).isEqualByComparingTo("6.17");
+    }
+
+    private ExpenseImportReport runImport(String content, ExpenseImportService.ImportFormat format) {
+        return expenseImportService.importExpenses(group.getId(), alice.getId(),
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private BigDecimal netBalanceOf(User user) {
+        return balanceRepository.findByGroupId(group.getId()).stream()
+                .filter(row -> row.getUser().getId().equals(user.getId()))
+                .map(GroupMemberBalance::getNetBalance)
+                .findFirst()
+                .orElseThrow();
+    }
+}
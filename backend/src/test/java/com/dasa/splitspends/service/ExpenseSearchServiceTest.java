@@ -0,0 +1,216 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.event.GroupDataChangedEvent;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.impl.ExpenseSearchServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ExpenseSearchServiceImpl.class)
+// The index only catches up to committed writes, so each write commits for real
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpenseSearchServiceTest {
+
+    @Autowired
+    private ExpenseSearchService expenseSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should find expenses by description, notes and category, ranked and paged")
+    void testSearch() {
+        User alice = saveUser("alice.search@example.com", "Alice Search");
+        Group group = saveGroup("Search Group", alice);
+        Group other = saveGroup("Other Search Group", alice);
+        Expense taxi = saveExpense(group, alice, "Taxi to airport", null, Expense.ExpenseCategory.TRANSPORTATION);
+        Expense dinner = saveExpense(group, alice, "Dinner", "shared a taxi back", Expense.ExpenseCategory.RESTAURANTS);
+        saveExpense(group, alice, "Hotel", null, Expense.ExpenseCategory.ACCOMMODATION);
+        saveExpense(other, alice, "Taxi elsewhere", null, Expense.ExpenseCategory.TRANSPORTATION);
+
+        Page<ExpenseSummaryView> results = expenseSearchService.searchGroupExpenses(group.getId(), "taxi",
+                PageRequest.of(0, 10));
+        assertThat(results.getContent()).extracting(ExpenseSummaryView::id)
+                .containsExactly(taxi.getId(), dinner.getId());
+        assertThat(results.getTotalElements()).isEqualTo(2);
+
+        Page<ExpenseSummaryView> secondPage = expenseSearchService.searchGroupExpenses(group.getId(), "taxi",
+                PageRequest.of(1, 1));
+        assertThat(secondPage.getContent()).extracting(ExpenseSummaryView::id).containsExactly(dinner.getId());
+
+        assertThat(expenseSearchService.searchGroupExpenses(group.getId(), "transport", PageRequest.of(0, 10))
+                .getContent()).extracting(ExpenseSummaryView::id).containsExactly(taxi.getId());
+        assertThat(expenseSearchService.searchGroupExpenses(group.getId(), "", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pick up expenses added, edited and deleted after the index was built")
+    void testIncrementalRefresh() {
+        User bob = saveUser("bob.search@example.com", "Bob Search");
+        Group group = saveGroup("Refresh Group", bob);
+        Expense museum = saveExpense(group, bob, "Museum tickets", null, Expense.ExpenseCategory.ENTERTAINMENT);
+        Expense ferry = saveExpense(group, bob, "Ferry", null, Expense.ExpenseCategory.TRAVEL);
+
+        assertThat(search(group, "museum")).containsExactly(museum.getId());
+
+        Expense concert = saveExpense(group, bob, "Concert tickets", null, Expense.ExpenseCategory.ENTERTAINMENT);
+        inTransaction(() -> {
+            expenseRepository.findById(museum.getId()).orElseThrow().setStatus(Expense.ExpenseStatus.DELETED);
+            expenseRepository.findById(ferry.getId()).orElseThrow().setDescription("Ferry tickets");
+        });
+
+        assertThat(search(group, "museum")).isEmpty();
+        assertThat(search(group, "tickets")).containsExactlyInAnyOrder(concert.getId(), ferry.getId());
+    }
+
+    @Test
+    @DisplayName("Should apply a committed expense write to the cached index without rebuilding it")
+    void testCommittedWriteUpdatesIndexInPlace() {
+        User dave = saveUser("dave.search@example.com", "Dave Search");
+        Group group = saveGroup("In Place Group", dave);
+        Expense lunch = saveExpense(group, dave, "Lunch", null, Expense.ExpenseCategory.RESTAURANTS);
+        Expense taxi = saveExpense(group, dave, "Taxi", null, Expense.ExpenseCategory.TRANSPORTATION);
+
+        assertThat(search(group, "lunch")).containsExactly(lunch.getId());
+
+        // The taxi rename publishes nothing and keeps its change sequence, so
+        // only a rebuild would find it
+        inTransaction(() -> {
+            renameInPlace(taxi, "Bus");
+            renameInPlace(lunch, "Picnic");
+            eventPublisher.publishEvent(new GroupDataChangedEvent(group.getId(),
+                    GroupDataChangedEvent.ChangeType.EXPENSE, lunch.getId()));
+        });
+        assertThat(search(group, "picnic")).containsExactly(lunch.getId());
+        assertThat(search(group, "lunch")).isEmpty();
+        assertThat(search(group, "bus")).isEmpty();
+
+        inTransaction(() -> {
+            entityManager.createQuery("UPDATE Expense e SET e.status = :status WHERE e.id = :id")
+                    .setParameter("status", Expense.ExpenseStatus.DELETED)
+                    .setParameter("id", lunch.getId())
+                    .executeUpdate();
+            eventPublisher.publishEvent(new GroupDataChangedEvent(group.getId(),
+                    GroupDataChangedEvent.ChangeType.EXPENSE, lunch.getId()));
+        });
+        assertThat(search(group, "picnic")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index after a committed batch write, not after a rolled-back one")
+    void testCommittedWriteEvictsIndex() {
+        User carol = saveUser("carol.search@example.com", "Carol Search");
+        Group group = saveGroup("Evict Group", carol);
+        Expense lunch = saveExpense(group, carol, "Lunch", null, Expense.ExpenseCategory.RESTAURANTS);
+
+        assertThat(search(group, "picnic")).isEmpty();
+
+        // A bulk update leaves the change sequence alone, like a write that
+        // commits behind one the index has already read
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            renameInPlace(lunch, "Picnic");
+            eventPublisher.publishEvent(
+                    new GroupDataChangedEvent(group.getId(), GroupDataChangedEvent.ChangeType.EXPENSE));
+            status.setRollbackOnly();
+        });
+        assertThat(search(group, "lunch")).containsExactly(lunch.getId());
+
+        inTransaction(() -> {
+            renameInPlace(lunch, "Picnic");
+            eventPublisher.publishEvent(
+                    new GroupDataChangedEvent(group.getId(), GroupDataChangedEvent.ChangeType.EXPENSE));
+        });
+        assertThat(search(group, "picnic")).containsExactly(lunch.getId());
+        assertThat(search(group, "lunch")).isEmpty();
+    }
+
+    private void renameInPlace(Expense expense, String description) {
+        entityManager.createQuery("UPDATE Expense e SET e.description = :description WHERE e.id = :id")
+                .setParameter("description", description)
+                .setParameter("id", expense.getId())
+                .executeUpdate();
+    }
+
+    private List<Long> search(Group group, String query) {
+        return expenseSearchService.searchGroupExpenses(group.getId(), query, PageRequest.of(0, 10)).getContent()
+                .stream().map(ExpenseSummaryView::id).toList();
+    }
+
+    private User saveUser(String email, String name) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private Group saveGroup(String name, User admin) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Group group = new Group();
+            group.setName(name);
+            group.setCreatedBy(admin);
+            group.addAdmin(admin);
+            return groupRepository.save(group);
+        });
+    }
+
+    private Expense saveExpense(Group group, User paidBy, String description, String notes,
+            Expense.ExpenseCategory category) {
+        return new TransactionTemplate(transactionManager).execute(status -> expenseRepository.save(Expense.builder()
+                .group(groupRepository.findById(group.getId()).orElseThrow())
+                .description(description)
+                .notes(notes)
+                .category(category)
+                .amount(new BigDecimal("20.00"))
+                .paidBy(paidBy)
+                .build()));
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -0,0 +1,297 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.config.SplitEngineConfig;
+import com.dasa.splitspends.dto.CursorPage;
+import com.dasa.splitspends.dto.expense.ExpenseDetailView;
+import com.dasa.splitspends.dto.expense.ExpenseSplitView;
+import com.dasa.splitspends.dto.expense.ExpenseStats;
+import com.dasa.splitspends.dto.expense.ExpenseSummaryView;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.FxRate;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.GroupMemberBalance;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupMemberBalanceRepository;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+import com.dasa.splitspends.service.impl.ExpenseServiceImpl;
+import com.dasa.splitspends.service.impl.FxRateServiceImpl;
+import com.dasa.splitspends.service.impl.GroupReadCacheImpl;
+import com.dasa.splitspends.service.impl.ParticipantResolver;
+import com.dasa.splitspends.service.impl.SpendingRollupServiceImpl;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ ExpenseServiceImpl.class, ParticipantResolver.class, SplitEngineConfig.class, GroupReadCacheImpl.class,
+        BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class, SpendingRollupServiceImpl.class,
+        FxRateServiceImpl.class })
+class ExpenseServiceTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private GroupMemberBalanceRepository balanceRepository;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private User carol;
+    private User dave;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice.edit@example.com", "Alice Edit");
+        bob = persistUser("bob.edit@example.com", "Bob Edit");
+        carol = persistUser("carol.edit@example.com", "Carol Edit");
+        dave = persistUser("dave.edit@example.com", "Dave Edit");
+
+        group = new Group();
+        group.setName("Edit Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group.addMember(carol);
+        group.addMember(dave);
+        group = entityManager.persistAndFlush(group);
+    }
+
+    @Test
+    @DisplayName("Should rescale splits when the amount of an expense changes")
+    void testUpdateAmountRecalculatesSplits() {
+        Expense expense = createEqualExpense("90.00");
+
+        expenseService.updateExpense(expense.getId(), "Dinner", new BigDecimal("120.00"),
+                Expense.ExpenseCategory.RESTAURANTS, null, alice, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(sharesOf(expense.getId())).containsOnlyKeys(alice.getId(), bob.getId(), carol.getId())
+                .allSatisfy((userId, share) -> assertThat(share).isEqualByComparingTo("40.00"));
+    }
+
+    @Test
+    @DisplayName("Should write only the split rows that change")
+    void testUpdateSplitsWritesMinimalDiff() {
+        Expense expense = createEqualExpense("90.00");
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Alice keeps 30, Bob drops to 20, Carol leaves, Dave joins with 40
+        Map<Long, BigDecimal> amounts = new LinkedHashMap<>();
+        amounts.put(alice.getId(), new BigDecimal("30.00"));
+        amounts.put(bob.getId(), new BigDecimal("20.00"));
+        amounts.put(dave.getId(), new BigDecimal("40.00"));
+        expenseService.updateExpenseSplits(expense.getId(), ExpenseSplit.SplitType.EXACT_AMOUNT, amounts, alice,
+                expense.getVersion());
+        entityManager.flush();
+
+        EntityStatistics splitStatistics = statistics.getEntityStatistics(ExpenseSplit.class.getName());
+        // Alice's row changes split type only and Bob's changes amount
+        assertThat(splitStatistics.getUpdateCount()).isEqualTo(2);
+        assertThat(splitStatistics.getInsertCount()).isEqualTo(1);
+        assertThat(splitStatistics.getDeleteCount()).isEqualTo(1);
+
+        entityManager.clear();
+        Map<Long, BigDecimal> shares = sharesOf(expense.getId());
+        assertThat(shares).containsOnlyKeys(alice.getId(), bob.getId(), dave.getId());
+        assertThat(shares.get(dave.getId())).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    @DisplayName("Should reject an edit based on a stale version")
+    void testStaleVersionIsRejected() {
+        Expense expense = createEqualExpense("90.00");
+        Long readVersion = expense.getVersion();
+        expenseService.updateExpense(expense.getId(), "Dinner (edited)", new BigDecimal("90.00"),
+                Expense.ExpenseCategory.RESTAURANTS, null, alice, readVersion);
+        entityManager.flush();
+
+        assertThatThrownBy(() -> expenseService.updateExpense(expense.getId(), "Dinner (other phone)",
+                new BigDecimal("60.00"), Expense.ExpenseCategory.RESTAURANTS, null, bob, readVersion))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve expense lists from projections in two statements")
+    void testExpenseListsUseTwoStatements() {
+        for (int i = 0; i < 60; i++) {
+            createEqualExpense("30.00");
+        }
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Page<ExpenseSummaryView> page = expenseService.getGroupExpenses(group.getId(), PageRequest.of(0, 50));
+
+        assertThat(page.getContent()).hasSize(50);
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(page.getContent().get(0).paidByName()).isEqualTo("Alice Edit");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        statistics.clear();
+        Page<ExpenseDetailView> details = expenseService.getUserExpenses(bob.getId(), PageRequest.of(1, 50));
+
+        assertThat(details.getTotalElements()).isEqualTo(60);
+        assertThat(details.getContent()).hasSize(10)
+                .allSatisfy(detail -> assertThat(detail.splits()).extracting(ExpenseSplitView::userId)
+                        .containsExactly(alice.getId(), bob.getId(), carol.getId()));
+        // Page and its splits; a short last page needs no count query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should walk the expense feed with cursors across equal dates")
+    void testExpenseFeedKeysetPagination() {
+        LocalDateTime sameDay = LocalDateTime.of(2024, 5, 1, 12, 0);
+        for (int i = 0; i < 20; i++) {
+            Expense expense = createEqualExpense("30.00");
+            // Half the rows share a date, so only the id breaks ties
+            expense.setDate(i < 10 ? sameDay : sameDay.plusDays(i));
+        }
+        entityManager.flush();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<ExpenseSummaryView> page = expenseService.getGroupExpenseFeed(group.getId(), cursor, 7);
+            page.items().forEach(row -> seen.add(row.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(20).doesNotHaveDuplicates();
+        assertThat(expenseService.getRecentExpenses(group.getId(), 5)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should read all expense stats of a group in one aggregate statement")
+    void testGroupExpenseStatsInOneStatement() {
+        Expense settled = createEqualExpense("30.00");
+        settled.getSplits().forEach(split -> split.setSettled(true));
+        createEqualExpense("60.00");
+        createEqualExpense("90.00").setStatus(Expense.ExpenseStatus.DELETED);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        ExpenseStats stats = expenseService.getGroupExpenseStats(group.getId());
+
+        assertThat(stats.getTotalExpenses()).isEqualTo(2);
+        assertThat(stats.getTotalAmount()).isEqualByComparingTo("90.00");
+        assertThat(stats.getSettledAmount()).isEqualByComparingTo("30.00");
+        assertThat(stats.getAverageExpenseAmount()).isEqualTo(new BigDecimal("45.00"));
+        // Existence check of the group, then the aggregate
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        Group loaded = entityManager.find(Group.class, group.getId());
+        assertThat(stats.getSettledAmount()).isEqualByComparingTo(expenseRepository.getTotalSettledAmountByGroup(loaded));
+        assertThat(expenseRepository.getGroupExpenseTotals(group.getId()).expenseCount())
+                .isEqualTo(expenseRepository.countByGroup(loaded));
+    }
+
+    @Test
+    @DisplayName("Should store the rate of a foreign-currency expense and book it in the group currency")
+    void testForeignCurrencyExpenseCapturesRate() {
+        entityManager.persistAndFlush(FxRate.builder()
+                .rateDate(LocalDate.now())
+                .currency("EUR")
+                .rate(new BigDecimal("0.80"))
+                .build());
+        fxRateService.reload();
+        Map<Long, BigDecimal> participants = new LinkedHashMap<>();
+        participants.put(alice.getId(), null);
+        participants.put(bob.getId(), null);
+
+        Expense expense = expenseService.createExpenseWithSplits(group.getId(), alice.getId(), "Museum",
+                new BigDecimal("40.00"), ExpenseSplit.SplitType.EQUAL, participants,
+                Expense.ExpenseCategory.ENTERTAINMENT, "eur");
+        entityManager.flush();
+        entityManager.clear();
+
+        // 40 EUR at 0.80 EUR per USD is 50 USD, half of it owed by Bob
+        assertThat(expense.getCurrency()).isEqualTo("EUR");
+        assertThat(expense.getExchangeRate()).isEqualByComparingTo("1.25");
+        assertThat(balanceRepository.findByGroupId(group.getId()))
+                .filteredOn(row -> row.getUser().getId().equals(alice.getId()))
+                .singleElement()
+                .extracting(GroupMemberBalance::getNetBalance)
+                .satisfies(net -> assertThat(net).isEqualByComparingTo("25.00"));
+        assertThatThrownBy(() -> expenseService.createExpenseWithSplits(group.getId(), alice.getId(), "Taxi",
+                new BigDecimal("10.00"), ExpenseSplit.SplitType.EQUAL, participants,
+                Expense.ExpenseCategory.TRANSPORTATION, "XYZ"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Expense createEqualExpense(String amount) {
+        Expense expense = expenseService.createExpenseWithEqualSplits(group.getId(), alice.getId(), "Dinner",
+                new BigDecimal(amount), List.of(alice.getId(), bob.getId(), carol.getId()),
+                Expense.ExpenseCategory.RESTAURANTS);
+        entityManager.flush();
+        return expense;
+    }
+
+    private Map<Long, BigDecimal> sharesOf(Long expenseId) {
+        Map<Long, BigDecimal> shares = new LinkedHashMap<>();
+        for (ExpenseSplit split : entityManager.find(Expense.class, expenseId).getSplits()) {
+            shares.put(split.getUser().getId(), split.getShareAmount());
+        }
+        return shares;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
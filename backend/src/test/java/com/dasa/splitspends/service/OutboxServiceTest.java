@@ -0,0 +1,177 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.entity.ActivityLog;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.Notification;
+import com.dasa.splitspends.entity.OutboxEvent;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ActivityLogRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.NotificationRepository;
+import com.dasa.splitspends.repository.OutboxEventRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.impl.ActivityLogServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+import com.dasa.splitspends.service.impl.FxRateServiceImpl;
+import com.dasa.splitspends.service.impl.NotificationServiceImpl;
+import com.dasa.splitspends.service.impl.OutboxServiceImpl;
+import com.dasa.splitspends.service.impl.SettleUpServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ OutboxServiceImpl.class, SettleUpServiceImpl.class, ActivityLogServiceImpl.class,
+        NotificationServiceImpl.class, BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class,
+        FxRateServiceImpl.class })
+// The dispatcher only sees committed events and claims them in transactions of
+// its own, so each write commits for real and the test removes its rows after
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxServiceTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private SettleUpService settleUpService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = saveUser("alice.outbox@example.com", "Alice Outbox");
+        bob = saveUser("bob.outbox@example.com", "Bob Outbox");
+        group = committed(() -> {
+            Group created = new Group();
+            created.setName("Outbox Group");
+            created.setCreatedBy(alice);
+            created.addAdmin(alice);
+            created.addMember(bob);
+            return groupRepository.save(created);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> userIds = List.of(alice.getId(), bob.getId());
+        inTransaction(() -> {
+            delete("DELETE FROM Notification n WHERE n.recipient.id IN :value", userIds);
+            delete("DELETE FROM ActivityLog a WHERE a.user.id IN :value", userIds);
+            delete("DELETE FROM OutboxEvent o WHERE o.aggregateId IN "
+                    + "(SELECT s.id FROM SettleUp s WHERE s.group.id = :value)", group.getId());
+            delete("DELETE FROM BalanceEvent e WHERE e.group.id = :value", group.getId());
+            delete("DELETE FROM GroupMemberBalance b WHERE b.group.id = :value", group.getId());
+            delete("DELETE FROM SettleUp s WHERE s.group.id = :value", group.getId());
+            groupRepository.deleteById(group.getId());
+        });
+        inTransaction(() -> userRepository.deleteAllById(userIds));
+    }
+
+    @Test
+    @DisplayName("Settlement side effects are queued and written once by the dispatcher")
+    void testSettlementSideEffectsAreDispatchedOnce() {
+        SettleUp settlement = settleUpService.createSettlement(group.getId(), alice.getId(), bob.getId(),
+                new BigDecimal("25.00"), null, "Dinner", SettleUp.PaymentMethod.CASH);
+
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isEqualTo(1);
+        assertThat(activityLogRepository.findByGroupOrderByCreatedAtDesc(group)).isEmpty();
+        assertThat(notificationRepository.findByRecipientIdOrderByCreatedAtDesc(bob.getId())).isEmpty();
+
+        assertThat(outboxService.dispatchPending()).isEqualTo(1);
+        assertThat(outboxService.dispatchPending()).isZero();
+
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isZero();
+        assertThat(activityLogRepository.findByGroupOrderByCreatedAtDesc(group)).singleElement()
+                .satisfies(log -> {
+                    assertThat(log.getAction()).isEqualTo(ActivityLog.Action.REQUEST_SETTLEMENT);
+                    assertThat(log.getEntityId()).isEqualTo(settlement.getId());
+                });
+        assertThat(notificationRepository.findByRecipientIdOrderByCreatedAtDesc(bob.getId()))
+                .extracting(Notification::getType)
+                .containsExactly(Notification.NotificationType.SETTLEMENT_REQUESTED);
+    }
+
+    @Test
+    @DisplayName("A failing event stays pending with its error while the rest of the batch is delivered")
+    void testFailingEventIsRetriedLater() {
+        SettleUp settlement = settleUpService.createSettlement(group.getId(), alice.getId(), bob.getId(),
+                new BigDecimal("10.00"), null, "Taxi", SettleUp.PaymentMethod.CASH);
+        OutboxEvent broken = committed(() -> outboxService.enqueue(OutboxEvent.EventType.SETTLEMENT_CONFIRMED,
+                settlement.getId(), Long.MAX_VALUE, null));
+
+        outboxService.dispatchPending();
+
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isEqualTo(1);
+        OutboxEvent pending = outboxEventRepository.findById(broken.getId()).orElseThrow();
+        assertThat(pending.isProcessed()).isFalse();
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).contains("not found");
+        assertThat(activityLogRepository.findByGroupOrderByCreatedAtDesc(group)).hasSize(1);
+    }
+
+    private User saveUser(String email, String name) {
+        return committed(() -> userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build()));
+    }
+
+    private void delete(String statement, Object value) {
+        entityManager.createQuery(statement).setParameter("value", value).executeUpdate();
+    }
+
+    private <T> T committed(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -0,0 +1,176 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.entity.Attachment;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.AttachmentRepository;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.PlatformMetricsService.Metric;
+import com.dasa.splitspends.service.impl.PlatformMetricsServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PlatformMetricsServiceImpl.class)
+// Counters only move on commit, so each write commits for real
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlatformMetricsServiceTest {
+
+    @Autowired
+    private PlatformMetricsService platformMetricsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private SettleUpRepository settleUpRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Committed inserts and status changes move the counters, rolled-back writes do not")
+    void testCountersFollowCommittedWrites() {
+        Map<Metric, Long> before = snapshot();
+
+        User alice = saveUser("alice.metrics@example.com", "Alice Metrics");
+        User bob = saveUser("bob.metrics@example.com", "Bob Metrics");
+        Group group = committed(() -> {
+            Group created = new Group();
+            created.setName("Metrics Group");
+            created.setCreatedBy(alice);
+            created.addAdmin(alice);
+            created.addMember(bob);
+            return groupRepository.save(created);
+        });
+        Expense expense = committed(() -> expenseRepository.save(Expense.builder()
+                .group(groupRepository.findById(group.getId()).orElseThrow())
+                .description("Metrics expense")
+                .amount(new BigDecimal("20.00"))
+                .paidBy(alice)
+                .build()));
+        committed(() -> settleUpRepository.save(SettleUp.builder()
+                .group(groupRepository.findById(group.getId()).orElseThrow())
+                .payer(userRepository.findById(bob.getId()).orElseThrow())
+                .payee(userRepository.findById(alice.getId()).orElseThrow())
+                .amount(new BigDecimal("10.00"))
+                .build()));
+        committed(() -> attachmentRepository.save(Attachment.builder()
+                .expense(expenseRepository.findById(expense.getId()).orElseThrow())
+                .uploadedBy(alice)
+                .originalFilename("receipt.png")
+                .storedFilename("metrics-receipt.png")
+                .filePath("/tmp/metrics-receipt.png")
+                .fileSize(100L)
+                .contentType("image/png")
+                .attachmentType(Attachment.AttachmentType.RECEIPT_IMAGE)
+                .build()));
+
+        assertThat(delta(before)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                Metric.USERS, 2L, Metric.ACTIVE_USERS, 2L,
+                Metric.GROUPS, 1L, Metric.ACTIVE_GROUPS, 1L,
+                Metric.EXPENSES, 1L, Metric.SETTLEMENTS, 1L, Metric.ATTACHMENTS, 1L));
+
+        inTransaction(() -> {
+            expenseRepository.findById(expense.getId()).orElseThrow().setStatus(Expense.ExpenseStatus.DELETED);
+            groupRepository.findById(group.getId()).orElseThrow().setStatus(Group.GroupStatus.ARCHIVED);
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            saveUser("carol.metrics@example.com", "Carol Metrics");
+            status.setRollbackOnly();
+        });
+
+        Map<Metric, Long> after = delta(before);
+        assertThat(after.get(Metric.EXPENSES)).isZero();
+        assertThat(after.get(Metric.ACTIVE_GROUPS)).isZero();
+        assertThat(after.get(Metric.GROUPS)).isEqualTo(1L);
+        assertThat(after.get(Metric.USERS)).isEqualTo(2L);
+        assertThat(platformMetricsService.reconcile()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reconciliation corrects writes that bypass the entity lifecycle")
+    void testReconcileCorrectsBulkWrites() {
+        User dave = saveUser("dave.metrics@example.com", "Dave Metrics");
+        long active = platformMetricsService.get(Metric.ACTIVE_USERS);
+
+        int updated = committed(() -> entityManager
+                .createQuery("UPDATE User u SET u.accountStatus = :status WHERE u.id = :id")
+                .setParameter("status", User.AccountStatus.SUSPENDED)
+                .setParameter("id", dave.getId())
+                .executeUpdate());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(platformMetricsService.get(Metric.ACTIVE_USERS)).isEqualTo(active);
+        assertThat(platformMetricsService.reconcile()).containsExactly(Map.entry(Metric.ACTIVE_USERS, -1L));
+        assertThat(platformMetricsService.get(Metric.ACTIVE_USERS)).isEqualTo(active - 1);
+    }
+
+    private Map<Metric, Long> snapshot() {
+        Map<Metric, Long> values = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            values.put(metric, platformMetricsService.get(metric));
+        }
+        return values;
+    }
+
+    private Map<Metric, Long> delta(Map<Metric, Long> before) {
+        Map<Metric, Long> delta = new EnumMap<>(Metric.class);
+        before.forEach((metric, value) -> delta.put(metric, platformMetricsService.get(metric) - value));
+        return delta;
+    }
+
+    private User saveUser(String email, String name) {
+        return committed(() -> userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build()));
+    }
+
+    private <T> T committed(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -0,0 +1,167 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.dasa.splitspends.config.SplitEngineConfig;
+import com.dasa.splitspends.dto.expense.RecurringExpenseRequest;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.RecurringExpense;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.RecurringExpenseRepository;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+import com.dasa.splitspends.service.impl.ParticipantResolver;
+import com.dasa.splitspends.service.impl.RecurringExpenseServiceImpl;
+import com.dasa.splitspends.service.impl.SpendingRollupServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ RecurringExpenseServiceImpl.class, ParticipantResolver.class, SplitEngineConfig.class,
+        BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class, SpendingRollupServiceImpl.class })
+// One template per chunk, so every run pages through several chunks
+@TestPropertySource(properties = "app.recurring.chunk-size=1")
+class RecurringExpenseServiceTest {
+
+    @Autowired
+    private RecurringExpenseService recurringExpenseService;
+
+    @Autowired
+    private RecurringExpenseRepository recurringExpenseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice.recurring@example.com", "Alice Recurring");
+        bob = persistUser("bob.recurring@example.com", "Bob Recurring");
+
+        group = new Group();
+        group.setName("Flat");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group = entityManager.persistAndFlush(group);
+    }
+
+    @Test
+    @DisplayName("Should post every missed occurrence once and advance the template")
+    void testGenerateCatchesUpOnce() {
+        LocalDateTime start = LocalDateTime.now().minusMonths(3).withDayOfMonth(1).toLocalDate().atStartOfDay();
+        RecurringExpense template = recurringExpenseService.createRecurringExpense(group.getId(), alice.getId(),
+                rentRequest(start));
+
+        int posted = recurringExpenseService.generateDueExpenses();
+
+        assertThat(posted).isEqualTo(4);
+        List<Expense> expenses = entityManager.getEntityManager()
+                .createQuery("SELECT e FROM Expense e WHERE e.recurringExpenseId = :id ORDER BY e.date", Expense.class)
+                .setParameter("id", template.getId())
+                .getResultList();
+        assertThat(expenses).extracting(Expense::getDate)
+                .containsExactly(start, start.plusMonths(1), start.plusMonths(2), start.plusMonths(3));
+        assertThat(expenses.get(0).getSplits()).extracting(split -> split.getShareAmount().toPlainString())
+                .containsExactlyInAnyOrder("600.00", "400.00");
+
+        RecurringExpense advanced = recurringExpenseRepository.findById(template.getId()).orElseThrow();
+        assertThat(advanced.getNextRunAt()).isEqualTo(start.plusMonths(4)).isAfter(LocalDateTime.now());
+        assertThat(advanced.getOccurrenceCount()).isEqualTo(4);
+        assertThat(recurringExpenseService.generateDueExpenses()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pause a template whose participant left the group")
+    void testGeneratePausesInvalidTemplate() {
+        RecurringExpense template = recurringExpenseService.createRecurringExpense(group.getId(), alice.getId(),
+                rentRequest(LocalDateTime.now().minusMonths(1).toLocalDate().withDayOfMonth(1).atStartOfDay()));
+        Group managed = entityManager.find(Group.class, group.getId());
+        managed.removeMember(entityManager.find(User.class, bob.getId()));
+        entityManager.flush();
+
+        assertThat(recurringExpenseService.generateDueExpenses()).isZero();
+
+        RecurringExpense paused = recurringExpenseRepository.findById(template.getId()).orElseThrow();
+        assertThat(paused.isActive()).isFalse();
+        assertThat(paused.getLastError()).contains(String.valueOf(bob.getId()));
+    }
+
+    @Test
+    @DisplayName("Should post at most max-catch-up occurrences of a template per run")
+    void testGenerateCapsCatchUpPerRun() {
+        RecurringExpenseRequest request = rentRequest(LocalDateTime.now().minusDays(40).toLocalDate().atStartOfDay());
+        request.setSchedule("FREQ=DAILY");
+        RecurringExpense template = recurringExpenseService.createRecurringExpense(group.getId(), alice.getId(),
+                request);
+
+        assertThat(recurringExpenseService.generateDueExpenses()).isEqualTo(31);
+        assertThat(recurringExpenseRepository.findById(template.getId()).orElseThrow().getOccurrenceCount())
+                .isEqualTo(31);
+        assertThat(recurringExpenseService.generateDueExpenses()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should pause a template that fails to post without holding back the others")
+    void testGenerateIsolatesFailingTemplate() {
+        LocalDateTime start = LocalDateTime.now().minusMonths(1).toLocalDate().withDayOfMonth(1).atStartOfDay();
+        RecurringExpense broken = recurringExpenseService.createRecurringExpense(group.getId(), alice.getId(),
+                rentRequest(start.minusDays(1)));
+        RecurringExpense healthy = recurringExpenseService.createRecurringExpense(group.getId(), alice.getId(),
+                rentRequest(start));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE RecurringExpense r SET r.schedule = 'FREQ=SOMETIMES' WHERE r.id = :id")
+                .setParameter("id", broken.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        assertThat(recurringExpenseService.generateDueExpenses()).isEqualTo(2);
+
+        RecurringExpense paused = recurringExpenseRepository.findById(broken.getId()).orElseThrow();
+        assertThat(paused.isActive()).isFalse();
+        assertThat(paused.getLastError()).contains("FREQ=SOMETIMES");
+        assertThat(recurringExpenseRepository.findById(healthy.getId()).orElseThrow().getOccurrenceCount())
+                .isEqualTo(2);
+    }
+
+    private RecurringExpenseRequest rentRequest(LocalDateTime start) {
+        RecurringExpenseRequest request = new RecurringExpenseRequest();
+        request.setPaidByUserId(alice.getId());
+        request.setDescription("Rent");
+        request.setAmount(new BigDecimal("1000.00"));
+        request.setSplitType("PERCENTAGE");
+        request.setUserValueMap(Map.of(alice.getId(), new BigDecimal("60"), bob.getId(), new BigDecimal("40")));
+        request.setSchedule("FREQ=MONTHLY;BYMONTHDAY=1");
+        request.setStartAt(start);
+        return request;
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
@@ -0,0 +1,157 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.config.SplitEngineConfig;
+import com.dasa.splitspends.dto.expense.SpendingRollupView;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.service.impl.BalanceEventServiceImpl;
+import com.dasa.splitspends.service.impl.BalanceLedgerServiceImpl;
+import com.dasa.splitspends.service.impl.ExpenseImportServiceImpl;
+import com.dasa.splitspends.service.impl.FxRateServiceImpl;
+import com.dasa.splitspends.service.impl.ExpenseServiceImpl;
+import com.dasa.splitspends.service.impl.GroupReadCacheImpl;
+import com.dasa.splitspends.service.impl.ParticipantResolver;
+import com.dasa.splitspends.service.impl.SpendingRollupServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ SpendingRollupServiceImpl.class, ExpenseServiceImpl.class, ExpenseImportServiceImpl.class,
+        ParticipantResolver.class, SplitEngineConfig.class, GroupReadCacheImpl.class,
+        BalanceLedgerServiceImpl.class, BalanceEventServiceImpl.class, FxRateServiceImpl.class })
+class SpendingRollupServiceTest {
+
+    private static final YearMonth FROM = YearMonth.of(2023, 1);
+    private static final YearMonth TO = YearMonth.of(2025, 12);
+
+    @Autowired
+    private SpendingRollupService spendingRollupService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice.rollup@example.com", "Alice Rollup");
+        bob = persistUser("bob.rollup@example.com", "Bob Rollup");
+
+        group = new Group();
+        group.setName("Rollup Group");
+        group.setCreatedBy(alice);
+        group.addAdmin(alice);
+        group.addMember(bob);
+        group = entityManager.persistAndFlush(group);
+
+        String both = alice.getId() + ";" + bob.getId();
+        String csv = "date,description,amount,paidByUserId,participantUserIds,category\n"
+                + "2023-11-10,Dinner,30.00," + alice.getId() + "," + both + ",RESTAURANTS\n"
+                + "2023-11-20,Taxi,10.00," + bob.getId() + "," + both + ",TRANSPORTATION\n"
+                + "2025-02-01,Hotel,200.00," + alice.getId() + "," + both + ",ACCOMMODATION\n";
+        expenseImportService.importExpenses(group.getId(), alice.getId(),
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ExpenseImportService.ImportFormat.CSV);
+    }
+
+    @Test
+    @DisplayName("Rollups follow imports per member, category and month of the expense date")
+    void testImportedExpensesAreRolledUp() {
+        List<SpendingRollupView> spending = spendingRollupService.getGroupSpending(group.getId(), FROM, TO, null);
+
+        assertThat(spending).containsExactly(
+                row(2023, 11, alice, Expense.ExpenseCategory.RESTAURANTS, "15.00"),
+                row(2023, 11, bob, Expense.ExpenseCategory.RESTAURANTS, "15.00"),
+                row(2023, 11, alice, Expense.ExpenseCategory.TRANSPORTATION, "5.00"),
+                row(2023, 11, bob, Expense.ExpenseCategory.TRANSPORTATION, "5.00"),
+                row(2025, 2, alice, Expense.ExpenseCategory.ACCOMMODATION, "100.00"),
+                row(2025, 2, bob, Expense.ExpenseCategory.ACCOMMODATION, "100.00"));
+        assertThat(spendingRollupService.getGroupSpending(group.getId(), FROM, YearMonth.of(2024, 12), bob.getId()))
+                .extracting(SpendingRollupView::category)
+                .containsExactly(Expense.ExpenseCategory.RESTAURANTS, Expense.ExpenseCategory.TRANSPORTATION);
+    }
+
+    @Test
+    @DisplayName("Editing or deleting an old expense corrects the month it is dated in")
+    void testBackdatedEditsAreCorrected() {
+        Expense taxi = findExpense("Taxi");
+        expenseService.updateExpense(taxi.getId(), "Taxi", new BigDecimal("12.00"),
+                Expense.ExpenseCategory.GROCERIES, null, alice, null);
+        expenseService.deleteExpense(findExpense("Hotel").getId(), alice);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SpendingRollupView> incremental = spendingRollupService.getGroupSpending(group.getId(), FROM, TO, null);
+
+        assertThat(incremental).containsExactly(
+                row(2023, 11, alice, Expense.ExpenseCategory.GROCERIES, "6.00"),
+                row(2023, 11, bob, Expense.ExpenseCategory.GROCERIES, "6.00"),
+                row(2023, 11, alice, Expense.ExpenseCategory.RESTAURANTS, "15.00"),
+                row(2023, 11, bob, Expense.ExpenseCategory.RESTAURANTS, "15.00"));
+
+        assertThat(spendingRollupService.rebuildGroup(group.getId())).isEqualTo(4);
+        entityManager.flush();
+        assertThat(spendingRollupService.getGroupSpending(group.getId(), FROM, TO, null))
+                .containsExactlyElementsOf(incremental);
+    }
+
+    @Test
+    @DisplayName("A report range must be ordered and bounded")
+    void testReportRangeIsValidated() {
+        assertThatThrownBy(() -> spendingRollupService.getGroupSpending(group.getId(), TO, FROM, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> spendingRollupService.getGroupSpending(group.getId(), YearMonth.of(2000, 1),
+                TO, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SpendingRollupView row(int year, int month, User user, Expense.ExpenseCategory category,
+            String amount) {
+        return new SpendingRollupView(YearMonth.of(year, month), user.getId(), category, new BigDecimal(amount), 1);
+    }
+
+    private Expense findExpense(String description) {
+        return expenseRepository.findAll().stream()
+                .filter(expense -> expense.getDescription().equals(description))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
@@ -0,0 +1,268 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dasa.splitspends.dto.sync.ExpenseSyncView;
+import com.dasa.splitspends.dto.sync.GroupSyncView;
+import com.dasa.splitspends.dto.sync.SyncResponse;
+import com.dasa.splitspends.entity.ChangeSequenceGenerator;
+import com.dasa.splitspends.entity.Expense;
+import com.dasa.splitspends.entity.ExpenseSplit;
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.Notification;
+import com.dasa.splitspends.entity.SettleUp;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.repository.ExpenseRepository;
+import com.dasa.splitspends.repository.GroupRepository;
+import com.dasa.splitspends.repository.NotificationRepository;
+import com.dasa.splitspends.repository.SettleUpRepository;
+import com.dasa.splitspends.repository.UserRepository;
+import com.dasa.splitspends.service.impl.SyncServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SyncServiceImpl.class)
+// Sync tokens only move past committed writes, so each write commits for real;
+// every test uses its own users, which scopes what it syncs
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private SettleUpRepository settleUpRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("A first sync sends everything, later syncs only what changed, deletions as tombstones")
+    void testSnapshotThenDelta() {
+        User alice = saveUser("alice.sync@example.com", "Alice Sync");
+        User bob = saveUser("bob.sync@example.com", "Bob Sync");
+        Group group = saveGroup("Sync Group", alice, bob);
+        Expense expense = saveExpense(group, alice, "30.00", bob);
+        inTransaction(() -> {
+            settleUpRepository.save(SettleUp.builder()
+                    .group(groupRepository.findById(group.getId()).orElseThrow())
+                    .payer(userRepository.findById(bob.getId()).orElseThrow())
+                    .payee(userRepository.findById(alice.getId()).orElseThrow())
+                    .amount(new BigDecimal("15.00"))
+                    .build());
+            notificationRepository.save(Notification.builder()
+                    .recipient(alice)
+                    .type(Notification.NotificationType.EXPENSE_ADDED)
+                    .title("New expense")
+                    .message("Bob owes you 15.00")
+                    .build());
+        });
+
+        SyncResponse first = syncService.sync(alice.getId(), null, 100);
+        assertThat(first.groupIds()).containsExactly(group.getId());
+        assertThat(first.groups()).extracting(GroupSyncView::id).containsExactly(group.getId());
+        assertThat(first.members()).hasSize(2);
+        assertThat(first.expenses()).extracting(ExpenseSyncView::id).containsExactly(expense.getId());
+        assertThat(first.splits()).hasSize(2);
+        assertThat(first.settlements()).hasSize(1);
+        assertThat(first.notifications()).hasSize(1);
+        assertThat(first.hasMore()).isTrue();
+
+        SyncResponse idle = syncService.sync(alice.getId(), first.token(), 100);
+        assertThat(idle.groups()).isEmpty();
+        assertThat(idle.expenses()).isEmpty();
+        assertThat(idle.settlements()).isEmpty();
+        assertThat(idle.notifications()).isEmpty();
+        assertThat(idle.hasMore()).isFalse();
+
+        inTransaction(() -> expenseRepository.findById(expense.getId()).orElseThrow()
+                .setStatus(Expense.ExpenseStatus.DELETED));
+
+        SyncResponse delta = syncService.sync(alice.getId(), idle.token(), 100);
+        assertThat(delta.expenses()).singleElement()
+                .satisfies(view -> assertThat(view.status()).isEqualTo(Expense.ExpenseStatus.DELETED));
+        assertThat(delta.splits()).hasSize(2);
+        assertThat(delta.groups()).isEmpty();
+        assertThat(delta.notifications()).isEmpty();
+        assertThat(delta.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A first sync larger than the limit is paged by change sequence without gaps")
+    void testSnapshotPaging() {
+        User carol = saveUser("carol.sync@example.com", "Carol Sync");
+        User dave = saveUser("dave.sync@example.com", "Dave Sync");
+        Group group = saveGroup("Paged Group", carol, dave);
+        List<Long> expenseIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expenseIds.add(saveExpense(group, carol, "10.00", dave).getId());
+        }
+
+        List<Long> synced = new ArrayList<>();
+        String token = null;
+        SyncResponse response;
+        int calls = 0;
+        do {
+            response = syncService.sync(carol.getId(), token, 2);
+            response.expenses().forEach(view -> synced.add(view.id()));
+            assertThat(response.expenses()).hasSizeLessThanOrEqualTo(2);
+            token = response.token();
+            calls++;
+        } while (response.hasMore() && calls < 10);
+
+        assertThat(response.hasMore()).isFalse();
+        assertThat(new HashSet<>(synced)).containsExactlyInAnyOrderElementsOf(expenseIds);
+    }
+
+    @Test
+    @DisplayName("A group joined after the last sync is sent in full before the next delta")
+    void testJoinedGroupCatchUp() {
+        User erin = saveUser("erin.sync@example.com", "Erin Sync");
+        User frank = saveUser("frank.sync@example.com", "Frank Sync");
+        saveGroup("Erin's Group", erin, frank);
+        Group other = saveGroup("Frank's Group", frank);
+        Expense older = saveExpense(other, frank, "12.00", frank);
+
+        SyncResponse first = syncService.sync(erin.getId(), null, 100);
+        SyncResponse settled = syncService.sync(erin.getId(), first.token(), 100);
+        assertThat(settled.hasMore()).isFalse();
+        assertThat(settled.groupIds()).doesNotContain(other.getId());
+
+        inTransaction(() -> groupRepository.findById(other.getId()).orElseThrow()
+                .addMember(userRepository.findById(erin.getId()).orElseThrow()));
+
+        SyncResponse joined = syncService.sync(erin.getId(), settled.token(), 100);
+        assertThat(joined.groupIds()).contains(other.getId());
+        assertThat(joined.groups()).extracting(GroupSyncView::id).containsExactly(other.getId());
+        assertThat(joined.expenses()).extracting(ExpenseSyncView::id).containsExactly(older.getId());
+        assertThat(joined.hasMore()).isTrue();
+
+        SyncResponse after = syncService.sync(erin.getId(), joined.token(), 100);
+        assertThat(after.expenses()).isEmpty();
+        assertThat(after.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A change committed after a higher one from another instance is not skipped")
+    void testOutOfOrderCommitFromAnotherInstance() throws Exception {
+        User heidi = saveUser("heidi.sync@example.com", "Heidi Sync");
+        User ivan = saveUser("ivan.sync@example.com", "Ivan Sync");
+        Group group = saveGroup("Interleaved Group", heidi, ivan);
+        Expense late = saveExpense(group, heidi, "20.00", ivan);
+
+        SyncResponse settled = syncService.sync(heidi.getId(), null, 100);
+        while (settled.hasMore()) {
+            settled = syncService.sync(heidi.getId(), settled.token(), 100);
+        }
+
+        ReflectionTestUtils.setField(syncService, "commitLag", Duration.ofMinutes(1));
+        try (Connection other = dataSource.getConnection()) {
+            // Another instance stamps its change first but commits last
+            other.setAutoCommit(false);
+            try (PreparedStatement update = other.prepareStatement("UPDATE expenses SET description = 'Edited late', "
+                    + "change_seq = NEXT VALUE FOR " + ChangeSequenceGenerator.SEQUENCE + " WHERE id = ?")) {
+                update.setLong(1, late.getId());
+                assertThat(update.executeUpdate()).isEqualTo(1);
+            }
+            Expense early = saveExpense(group, ivan, "8.00", heidi);
+
+            SyncResponse before = syncService.sync(heidi.getId(), settled.token(), 100);
+            assertThat(before.expenses()).extracting(ExpenseSyncView::id).containsExactly(early.getId());
+
+            other.commit();
+
+            SyncResponse after = syncService.sync(heidi.getId(), before.token(), 100);
+            assertThat(after.expenses()).extracting(ExpenseSyncView::id).contains(late.getId());
+        } finally {
+            ReflectionTestUtils.setField(syncService, "commitLag", Duration.ZERO);
+        }
+    }
+
+    @Test
+    @DisplayName("A malformed token is rejected")
+    void testMalformedToken() {
+        User grace = saveUser("grace.sync@example.com", "Grace Sync");
+
+        assertThatThrownBy(() -> syncService.sync(grace.getId(), "not-a-token", 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private User saveUser(String email, String name) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+
+    private Group saveGroup(String name, User admin, User... members) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Group group = new Group();
+            group.setName(name);
+            group.setCreatedBy(admin);
+            group.addAdmin(admin);
+            for (User member : members) {
+                group.addMember(member);
+            }
+            return groupRepository.save(group);
+        });
+    }
+
+    private Expense saveExpense(Group group, User paidBy, String amount, User other) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            BigDecimal share = new BigDecimal(amount).divide(BigDecimal.valueOf(2));
+            Expense expense = Expense.builder()
+                    .group(groupRepository.findById(group.getId()).orElseThrow())
+                    .description("Sync expense")
+                    .amount(new BigDecimal(amount))
+                    .paidBy(paidBy)
+                    .build();
+            for (User user : paidBy.getId().equals(other.getId()) ? List.of(paidBy) : List.of(paidBy, other)) {
+                expense.addSplit(ExpenseSplit.builder().user(user).shareAmount(share).build());
+            }
+            return expenseRepository.save(expense);
+        });
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -0,0 +1,69 @@
+package com.dasa.splitspends.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.service.impl.GroupVersionServiceImpl;
+import com.dasa.splitspends.service.impl.UserServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ UserServiceImpl.class, GroupVersionServiceImpl.class, BCryptPasswordEncoder.class })
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GroupVersionService groupVersionService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should move every group of a member to a new version when the member is renamed")
+    void testProfileChangeBumpsGroupVersions() {
+        User alice = persistUser("alice.profile@example.com", "Alice Profile");
+        User bob = persistUser("bob.profile@example.com", "Bob Profile");
+        Group shared = persistGroup("Shared", alice, bob);
+        Group other = persistGroup("Alice only", alice, alice);
+        long sharedBefore = groupVersionService.getVersion(shared.getId());
+        long otherBefore = groupVersionService.getVersion(other.getId());
+
+        userService.updateUserProfile(bob.getId(), "Robert Profile", null, null);
+        entityManager.flush();
+
+        assertThat(groupVersionService.getVersion(shared.getId())).isGreaterThan(sharedBefore);
+        assertThat(groupVersionService.getVersion(other.getId())).isEqualTo(otherBefore);
+    }
+
+    private Group persistGroup(String name, User admin, User member) {
+        Group group = new Group();
+        group.setName(name);
+        group.setCreatedBy(admin);
+        group.addAdmin(admin);
+        group.addMember(member);
+        return entityManager.persistAndFlush(group);
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
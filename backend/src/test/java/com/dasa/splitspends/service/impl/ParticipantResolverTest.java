@@ -0,0 +1,96 @@
+package com.dasa.splitspends.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dasa.splitspends.entity.Group;
+import com.dasa.splitspends.entity.User;
+import com.dasa.splitspends.exception.InvalidParticipantsException;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ParticipantResolver.class)
+class ParticipantResolverTest {
+
+    @Autowired
+    private ParticipantResolver participantResolver;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<User> members;
+    private User outsider;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            members.add(persistUser("member" + i + "@example.com", "Member " + i));
+        }
+        outsider = persistUser("outsider.split@example.com", "Outsider");
+
+        group = new Group();
+        group.setName("Resolver Group");
+        group.setCreatedBy(members.get(0));
+        members.forEach(group::addMember);
+        group.addAdmin(members.get(0));
+        group = entityManager.persistAndFlush(group);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should resolve a 50-person split with a constant number of queries")
+    void testResolveUsesConstantQueries() {
+        List<Long> ids = members.stream().map(User::getId).toList();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Map<Long, User> participants = participantResolver.resolve(group.getId(), ids);
+
+        assertThat(participants.keySet()).containsExactlyElementsOf(ids);
+        // One member-ID projection plus one IN query for the users
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report every unknown and non-member participant")
+    void testResolveReportsAllInvalidIds() {
+        List<Long> ids = List.of(members.get(0).getId(), outsider.getId(), -1L, -2L);
+
+        assertThatThrownBy(() -> participantResolver.resolve(group.getId(), ids))
+                .isInstanceOfSatisfying(InvalidParticipantsException.class, ex -> {
+                    assertThat(ex.getUnknownUserIds()).containsExactly(-1L, -2L);
+                    assertThat(ex.getNonMemberUserIds()).containsExactly(outsider.getId());
+                });
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private User persistUser(String email, String name) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .passwordHash("hashedPassword123")
+                .name(name)
+                .groups(new HashSet<>())
+                .build());
+    }
+}
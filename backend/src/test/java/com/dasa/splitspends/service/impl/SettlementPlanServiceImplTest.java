@@ -0,0 +1,54 @@
+package com.dasa.splitspends.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SettlementPlanServiceImplTest {
+
+    @Test
+    @DisplayName("Should settle a simple chain with one transfer per debtor")
+    void testMinimizeTransfersSimple() {
+        // A is owed 60, B owes 20, C owes 40
+        long[] plan = SettlementPlanServiceImpl.minimizeTransfers(new long[] { 6000, -2000, -4000 });
+
+        assertThat(plan).hasSize(6);
+        assertThat(plan).startsWith(2, 0, 4000);
+        assertThat(plan).endsWith(1, 0, 2000);
+    }
+
+    @Test
+    @DisplayName("Should return no transfers when everyone is settled")
+    void testMinimizeTransfersSettled() {
+        assertThat(SettlementPlanServiceImpl.minimizeTransfers(new long[] { 0, 0, 0 })).isEmpty();
+        assertThat(SettlementPlanServiceImpl.minimizeTransfers(new long[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should zero every balance with at most n - 1 transfers for large groups")
+    void testMinimizeTransfersLargeGroup() {
+        int n = 500;
+        long[] balances = new long[n];
+        Random random = new Random(42);
+        long sum = 0;
+        for (int i = 0; i < n - 1; i++) {
+            balances[i] = random.nextInt(200_000) - 100_000;
+            sum += balances[i];
+        }
+        balances[n - 1] = -sum;
+
+        long[] plan = SettlementPlanServiceImpl.minimizeTransfers(balances);
+
+        assertThat(plan.length / 3).isLessThanOrEqualTo(n - 1);
+        long[] remaining = balances.clone();
+        for (int t = 0; t < plan.length; t += 3) {
+            assertThat(plan[t + 2]).isPositive();
+            remaining[(int) plan[t]] += plan[t + 2];
+            remaining[(int) plan[t + 1]] -= plan[t + 2];
+        }
+        assertThat(remaining).containsOnly(0L);
+    }
+}
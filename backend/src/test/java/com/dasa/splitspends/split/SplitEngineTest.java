@@ -0,0 +1,80 @@
+package com.dasa.splitspends.split;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dasa.splitspends.entity.ExpenseSplit.SplitType;
+
+class SplitEngineTest {
+
+    private final SplitEngine engine = SplitEngine.withDefaults();
+
+    @Test
+    @DisplayName("Should keep the rounding of the built-in split types")
+    void testBuiltInTypes() {
+        assertThat(engine.allocate(SplitType.EQUAL, 1000, new long[3])).containsExactly(334, 333, 333);
+        assertThat(engine.allocate(SplitType.EXACT_AMOUNT, 1000, new long[] { 700, 299 }))
+                .containsExactly(701, 299);
+        assertThat(engine.allocate(SplitType.PERCENTAGE, 10000,
+                engine.encode(SplitType.PERCENTAGE, List.of(new BigDecimal("33.33"), new BigDecimal("66.67")))))
+                .containsExactly(3333, 6667);
+        assertThat(engine.allocate(SplitType.SHARES, 1000, new long[] { 1, 3 })).containsExactly(250, 750);
+    }
+
+    @Test
+    @DisplayName("Should reject inputs that do not add up for their split type")
+    void testValidation() {
+        assertThatThrownBy(() -> engine.allocate(SplitType.EXACT_AMOUNT, 1000, new long[] { 500, 400 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.allocate(SplitType.PERCENTAGE, 1000, new long[] { 5000, 4000 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.allocate(SplitType.SHARES, 1000, new long[] { 0, 0 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.encode(SplitType.SHARES, List.of(new BigDecimal("1.5"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should share the remainder equally on top of adjustments")
+    void testAdjustment() {
+        // 100.00 where A pays 10.00 extra and C 5.00 less: 95.00 shared three ways
+        assertThat(engine.allocate(SplitType.ADJUSTMENT, 10000, new long[] { 1000, 0, -500 }))
+                .containsExactly(4167, 3167, 2666);
+        assertThatThrownBy(() -> engine.allocate(SplitType.ADJUSTMENT, 1000, new long[] { 800, 300 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.allocate(SplitType.ADJUSTMENT, 1000, new long[] { 0, -1500 }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should spread tax and tip in proportion to itemized subtotals")
+    void testItemized() {
+        // Items of 30.00 and 10.00 on a 50.00 bill: 10.00 of extras split 3:1
+        assertThat(engine.allocate(SplitType.ITEMIZED, 5000, new long[] { 3000, 1000 }))
+                .containsExactly(3750, 1250);
+    }
+
+    @Test
+    @DisplayName("Should allocate a packed batch exactly like one call per expense")
+    void testAllocateBatch() {
+        long[] totals = { 1000, 1, 999_999 };
+        int[] offsets = { 0, 3, 5, 12 };
+        long[] inputs = { 1, 2, 3, 1, 1, 5, 4, 3, 2, 1, 7, 9 };
+
+        long[] packed = engine.allocateBatch(SplitType.SHARES, totals, offsets, inputs);
+
+        for (int e = 0; e < totals.length; e++) {
+            long[] single = engine.allocate(SplitType.SHARES, totals[e],
+                    Arrays.copyOfRange(inputs, offsets[e], offsets[e + 1]));
+            assertThat(Arrays.copyOfRange(packed, offsets[e], offsets[e + 1])).containsExactly(single);
+        }
+        assertThatThrownBy(() -> engine.allocateBatch(SplitType.SHARES, totals, new int[] { 0, 3, 12 }, inputs))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,141 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should serve hits from the cache and count hits and misses")
+    void testHitsAndMisses() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+
+        assertThat(cache.get(1L, () -> load("a"))).isEqualTo("a");
+        assertThat(cache.get(1L, () -> load("b"))).isEqualTo("a");
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload entries older than the TTL")
+    void testTtlExpiry() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+
+        cache.get(1L, () -> load("a"));
+        nanos.addAndGet(1_000_000_000L);
+
+        assertThat(cache.get(1L, () -> load("b"))).isEqualTo("b");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should peek at live entries without loading")
+    void testGetIfPresent() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        cache.get(1L, () -> load("a"));
+        assertThat(cache.getIfPresent(1L)).isEqualTo("a");
+        nanos.addAndGet(1_000_000_000L);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry beyond the size bound")
+    void testSizeBound() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(2, 1000, nanos::get);
+
+        cache.get(1L, () -> load("a"));
+        cache.get(2L, () -> load("b"));
+        cache.get(1L, () -> load("a"));
+        cache.get(3L, () -> load("c"));
+
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        // 2 was least recently used, so 1 is still cached
+        cache.get(1L, () -> load("x"));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should not store a value loaded across an invalidation")
+    void testInvalidationDuringLoad() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+
+        String stale = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load("stale");
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.get(1L, () -> load("fresh"))).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent misses on the same key")
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+            loading.countDown();
+            await(release);
+            return load("a");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(1L, () -> load("b")));
+        // The second miss is parked on the first load until it finishes
+        while (cache.stats().getMisses() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should start a new load for misses after an invalidation")
+    void testMissAfterInvalidationDoesNotJoinStaleLoad() {
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10, 1000, nanos::get);
+
+        String stale = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            assertThat(cache.get(1L, () -> load("fresh"))).isEqualTo("fresh");
+            return load("stale");
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.get(1L, () -> load("x"))).isEqualTo("fresh");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
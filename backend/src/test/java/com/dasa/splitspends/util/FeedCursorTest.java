@@ -0,0 +1,41 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip a cursor through its token")
+    void testEncodeDecode() {
+        FeedCursor cursor = new FeedCursor(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "/", "+");
+        assertThat(FeedCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should treat a blank token as the first page and reject garbage")
+    void testDecodeEdgeCases() {
+        assertThat(FeedCursor.decode(null)).isNull();
+        assertThat(FeedCursor.decode(" ")).isNull();
+        assertThatThrownBy(() -> FeedCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeedCursor.decode(new FeedCursor(LocalDateTime.now(), 1L).encode() + "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should clamp page sizes")
+    void testClampLimit() {
+        assertThat(FeedCursor.clampLimit(0)).isEqualTo(1);
+        assertThat(FeedCursor.clampLimit(20)).isEqualTo(20);
+        assertThat(FeedCursor.clampLimit(10_000)).isEqualTo(FeedCursor.MAX_LIMIT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("Should store posting lists as small deltas and decode them in order")
+    void testPostingListEncoding() {
+        PostingList list = PostingList.of(0, 1, 5, 130, 100_000);
+
+        assertThat(list.toArray()).containsExactly(0, 1, 5, 130, 100_000);
+        assertThat(list.byteSize()).isEqualTo(1 + 1 + 1 + 1 + 3);
+        assertThatThrownBy(() -> list.add(130)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should match every query word, the last one as a prefix, ignoring case and accents")
+    void testSearch() {
+        InvertedIndex index = new InvertedIndex(3f, 1f);
+        index.put(1L, "Taxi to the airport", null);
+        index.put(2L, "Dinner at Café Rouge", "taxi home afterwards");
+        index.put(3L, "Airport parking", null);
+
+        assertThat(index.search("TAXI")).containsExactly(1L, 2L);
+        assertThat(index.search("airport taxi")).containsExactly(1L);
+        assertThat(index.search("cafe rou")).containsExactly(2L);
+        assertThat(index.search("air")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("taxi parking")).isEmpty();
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank a match in a heavier field first")
+    void testRanking() {
+        InvertedIndex index = new InvertedIndex(3f, 1f);
+        index.put(10L, "Groceries", "milk and bread");
+        index.put(11L, "Bread", null);
+        index.put(12L, "Lunch", null);
+
+        assertThat(index.search("bread")).containsExactly(11L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should replace changed documents and compact once most are tombstoned")
+    void testUpdateRemoveAndCompaction() {
+        InvertedIndex index = new InvertedIndex(1f);
+        index.put(1L, "Hotel");
+        index.put(1L, "Hostel");
+
+        assertThat(index.search("hotel")).isEmpty();
+        assertThat(index.search("hostel")).containsExactly(1L);
+
+        for (long key = 100; key < 300; key++) {
+            index.put(key, "Snacks " + key);
+        }
+        for (long key = 100; key < 290; key++) {
+            index.remove(key);
+        }
+
+        assertThat(index.size()).isEqualTo(11);
+        assertThat(index.search("snacks")).hasSize(10);
+        assertThat(index.search("295")).containsExactly(295L);
+        assertThat(index.search("150")).isEmpty();
+        // Two compactions dropped the terms of 100..264; the 25 removed since are
+        // only tombstoned: "hostel", "snacks" and the numbers 265..299 remain
+        assertThat(index.termCount()).isEqualTo(37);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRuleTest {
+
+    @Test
+    @DisplayName("Should keep a monthly day-of-month across short months")
+    void testMonthlyByMonthDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=MONTHLY;BYMONTHDAY=31");
+        LocalDateTime jan = LocalDateTime.of(2024, 1, 31, 9, 0);
+
+        LocalDateTime feb = rule.next(jan);
+        assertThat(feb).isEqualTo(LocalDateTime.of(2024, 2, 29, 9, 0));
+        assertThat(rule.next(feb)).isEqualTo(LocalDateTime.of(2024, 3, 31, 9, 0));
+        assertThat(rule.first(LocalDateTime.of(2024, 4, 2, 9, 0))).isEqualTo(LocalDateTime.of(2024, 4, 30, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Should return to the anchor's day after a short month")
+    void testMonthlyAndYearlyKeepAnchorDay() {
+        RecurrenceRule monthly = RecurrenceRule.parse("FREQ=MONTHLY");
+        LocalDateTime jan = LocalDateTime.of(2024, 1, 31, 9, 0);
+
+        LocalDateTime feb = monthly.next(jan, jan);
+        assertThat(feb).isEqualTo(LocalDateTime.of(2024, 2, 29, 9, 0));
+        assertThat(monthly.next(feb, jan)).isEqualTo(LocalDateTime.of(2024, 3, 31, 9, 0));
+
+        RecurrenceRule yearly = RecurrenceRule.parse("FREQ=YEARLY");
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 9, 0);
+        LocalDateTime next = leapDay;
+        for (int year = 2025; year <= 2027; year++) {
+            next = yearly.next(next, leapDay);
+            assertThat(next).isEqualTo(LocalDateTime.of(year, 2, 28, 9, 0));
+        }
+        assertThat(yearly.next(next, leapDay)).isEqualTo(LocalDateTime.of(2028, 2, 29, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Should walk listed weekdays and skip weeks by interval")
+    void testWeeklyByDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+        // 2024-06-03 is a Monday
+        LocalDateTime monday = LocalDateTime.of(2024, 6, 3, 8, 30);
+
+        LocalDateTime thursday = rule.next(monday);
+        assertThat(thursday).isEqualTo(LocalDateTime.of(2024, 6, 6, 8, 30));
+        assertThat(rule.next(thursday)).isEqualTo(LocalDateTime.of(2024, 6, 17, 8, 30));
+        assertThat(rule.first(LocalDateTime.of(2024, 6, 4, 8, 30))).isEqualTo(thursday);
+    }
+
+    @Test
+    @DisplayName("Should accept Spring cron expressions")
+    void testCron() {
+        RecurrenceRule rule = RecurrenceRule.parse("0 0 9 1 * *");
+
+        assertThat(rule.first(LocalDateTime.of(2024, 1, 1, 9, 0))).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+        assertThat(rule.next(LocalDateTime.of(2024, 1, 1, 9, 0))).isEqualTo(LocalDateTime.of(2024, 2, 1, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported schedules")
+    void testInvalid() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=HOURLY")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("not a schedule"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
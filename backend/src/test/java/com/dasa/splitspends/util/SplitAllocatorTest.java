@@ -0,0 +1,66 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SplitAllocatorTest {
+
+    @Test
+    @DisplayName("Should give leftover cents of an equal split to the first participants")
+    void testAllocateEqually() {
+        assertThat(SplitAllocator.allocateEqually(1000, 3)).containsExactly(334, 333, 333);
+        assertThat(SplitAllocator.allocateEqually(1001, 3)).containsExactly(334, 334, 333);
+        assertThat(SplitAllocator.allocateEqually(0, 2)).containsExactly(0, 0);
+    }
+
+    @Test
+    @DisplayName("Should give leftover cents to the largest remainders")
+    void testAllocateByWeights() {
+        // 100.00 at 33.33% / 33.33% / 33.34% in basis points
+        assertThat(SplitAllocator.allocate(10000, new long[] { 3333, 3333, 3334 }))
+                .containsExactly(3333, 3333, 3334);
+
+        // 10.00 in shares 1:1:1 -> 3.33 + 1 leftover cent to the first
+        assertThat(SplitAllocator.allocate(1000, new long[] { 1, 1, 1 })).containsExactly(334, 333, 333);
+
+        // 1.00 in shares 2:1 -> exact 66.67 / 33.33
+        assertThat(SplitAllocator.allocate(100, new long[] { 2, 1 })).containsExactly(67, 33);
+    }
+
+    @Test
+    @DisplayName("Should always allocate the exact total")
+    void testAllocateIsExact() {
+        long[] weights = { 7, 13, 1, 29, 50, 3 };
+        for (long total = 0; total < 5000; total += 37) {
+            long[] result = SplitAllocator.allocate(total, weights);
+            assertThat(Arrays.stream(result).sum()).isEqualTo(total);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input")
+    void testAllocateRejectsInvalidInput() {
+        assertThatThrownBy(() -> SplitAllocator.allocate(100, new long[] { 0, 0 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SplitAllocator.allocate(-1, new long[] { 1 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SplitAllocator.allocateEqually(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should round-trip Money through minor units")
+    void testMoneyConversion() {
+        Money money = Money.of(new BigDecimal("12.345"));
+
+        assertThat(money.minorUnits()).isEqualTo(1235);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("12.35"));
+        assertThat(money.plus(Money.ofMinor(65))).isEqualTo(Money.ofMinor(1300));
+        assertThat(money.minus(money)).isEqualTo(Money.ZERO);
+    }
+}
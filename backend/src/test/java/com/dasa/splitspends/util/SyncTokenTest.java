@@ -0,0 +1,51 @@
+package com.dasa.splitspends.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SyncTokenTest {
+
+    @Test
+    @DisplayName("Should round-trip a token with known and pending groups")
+    void testEncodeDecode() {
+        SyncToken token = new SyncToken(1_250L, Set.of(3L, 1L), Set.of(7L), 900L, false);
+
+        String encoded = token.encode();
+
+        assertThat(encoded).doesNotContain("|", "=", "/", "+");
+        assertThat(SyncToken.decode(encoded)).isEqualTo(token);
+        assertThat(SyncToken.decode(encoded).isCatchingUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should start a first sync as a snapshot of the current groups")
+    void testSnapshot() {
+        SyncToken token = SyncToken.decode(SyncToken.snapshot(Long.MAX_VALUE, List.of(4L, 2L)).encode());
+
+        assertThat(token.snapshot()).isTrue();
+        assertThat(token.isCatchingUp()).isTrue();
+        assertThat(token.groupIds()).isEmpty();
+        assertThat(token.pendingGroupIds()).containsExactly(2L, 4L);
+        assertThat(token.cursor()).isEqualTo(SyncToken.BEFORE_FIRST);
+        assertThat(token.seq()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should treat a blank token as a first sync and reject garbage")
+    void testDecodeEdgeCases() {
+        assertThat(SyncToken.decode(null)).isNull();
+        assertThat(SyncToken.decode("")).isNull();
+        assertThatThrownBy(() -> SyncToken.decode("not a token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        String unknownMode = Base64.getUrlEncoder().encodeToString("1|-1|X||".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> SyncToken.decode(unknownMode))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}